@@ -0,0 +1,124 @@
+package trackitnus.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import trackitnus.model.TrackIter;
+import trackitnus.model.commons.Address;
+import trackitnus.model.commons.Code;
+import trackitnus.model.commons.Name;
+import trackitnus.model.contact.Contact;
+import trackitnus.model.contact.Email;
+import trackitnus.model.contact.Phone;
+import trackitnus.model.lesson.DayOfWeek;
+import trackitnus.model.lesson.Lesson;
+import trackitnus.model.lesson.LessonDateTime;
+import trackitnus.model.lesson.Type;
+import trackitnus.model.module.Module;
+import trackitnus.model.tag.Tag;
+import trackitnus.model.task.Task;
+import trackitnus.model.util.DatasetGenerator;
+
+/**
+ * Creates the data that the benchmarks run against.
+ * <p>
+ * The data of a given number of entities is generated by a {@code DatasetGenerator} with a fixed seed, and holds 5%
+ * modules, 25% lessons, 50% tasks and 20% contacts. The semester of the tasks is fixed, rather than following the
+ * current date, so that runs on different days measure the same data.
+ * <p>
+ * The {@code create*} methods create simpler entities, such that the entities with the same index are always the same
+ * and those with different indexes are different.
+ */
+public class BenchmarkData {
+
+    public static final long SEED = 2103;
+
+    private static final Type[] TYPES = Type.values();
+    private static final DayOfWeek[] WEEKDAYS = DayOfWeek.values();
+    private static final int LESSON_HOURS = 10;
+
+    private BenchmarkData() {}
+
+    /**
+     * Returns the first day of the semester of the generated data.
+     */
+    public static LocalDate getSemesterStart() {
+        return DatasetGenerator.DEFAULT_SEMESTER_START;
+    }
+
+    /**
+     * Creates a {@code TrackIter} of {@code size} entities.
+     */
+    public static TrackIter createTrackIter(int size) {
+        int moduleCount = Math.max(1, size / 20);
+        int lessonCount = size / 4;
+        int contactCount = size / 5;
+        return new DatasetGenerator(SEED)
+            .withModules(moduleCount)
+            .withLessonsPerWeek(lessonCount)
+            .withContacts(contactCount)
+            .withTasks(Math.max(0, size - moduleCount - lessonCount - contactCount))
+            .withSemesterStart(getSemesterStart())
+            .generate();
+    }
+
+    /**
+     * Returns the code of the {@code index}-th module, e.g. {@code AA0000}, {@code AA0001}, ..., {@code ZZ9999}.
+     */
+    public static Code createCode(int index) {
+        int letters = index / 10_000;
+        return new Code(String.format("%c%c%04d", 'A' + letters / 26 % 26, 'A' + letters % 26, index % 10_000));
+    }
+
+    public static Module createModule(int index) {
+        return new Module(createCode(index), new Name("Module " + index));
+    }
+
+    /**
+     * Creates the {@code index}-th contact, tagged with the code of one of the first {@code moduleCount} modules.
+     */
+    public static Contact createContact(int index, int moduleCount) {
+        return new Contact(new Name("Contact " + index), new Phone(String.valueOf(80_000_000 + index)),
+            new Email("contact" + index + "@example.com"),
+            Collections.singleton(new Tag(createCode(index % moduleCount).toString())));
+    }
+
+    /**
+     * Creates the {@code index}-th lesson, of one of the first {@code moduleCount} modules. Lessons with different
+     * indexes are different as long as there are fewer than {@code moduleCount * 350} of them.
+     */
+    public static Lesson createLesson(int index, int moduleCount) {
+        int slot = index / moduleCount;
+        LocalTime startTime = LocalTime.of(8 + slot / (TYPES.length * WEEKDAYS.length) % LESSON_HOURS, 0);
+        return new Lesson(createCode(index % moduleCount), TYPES[slot % TYPES.length],
+            new LessonDateTime(WEEKDAYS[slot / TYPES.length % WEEKDAYS.length], startTime, startTime.plusHours(1)),
+            new Address("COM1"));
+    }
+
+    /**
+     * Creates the {@code index}-th task, of one of the first {@code moduleCount} modules, due on a day of the
+     * semester.
+     */
+    public static Task createTask(int index, int moduleCount) {
+        // spread the due dates in a shuffled order over the semester
+        LocalDate date = getSemesterStart().plusDays((index * 37L) % DatasetGenerator.SEMESTER_DAYS);
+        return new Task(new Name("Task " + index), date, createCode(index % moduleCount), "");
+    }
+
+    /**
+     * Deletes {@code folder} and everything in it.
+     */
+    public static void deleteFolder(Path folder) throws IOException {
+        try (Stream<Path> paths = Files.walk(folder)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+}
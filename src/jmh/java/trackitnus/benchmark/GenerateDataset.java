@@ -0,0 +1,49 @@
+package trackitnus.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+
+import trackitnus.model.TrackIter;
+import trackitnus.model.util.DatasetGenerator;
+import trackitnus.storage.JsonTrackIterStorage;
+
+/**
+ * Writes a data set generated by {@code DatasetGenerator} to a data file, e.g. to measure the startup time of the app
+ * or try out its UI on large data.
+ * <p>
+ * Usage: {@code GenerateDataset FILE MODULES LESSONS_PER_WEEK TASKS CONTACTS [SEED [SEMESTER_START]]}, where
+ * {@code SEMESTER_START} is a date such as {@code 2020-08-10}, and defaults to
+ * {@link DatasetGenerator#DEFAULT_SEMESTER_START}.
+ */
+public class GenerateDataset {
+
+    private static final String USAGE = "Usage: GenerateDataset FILE MODULES LESSONS_PER_WEEK TASKS CONTACTS "
+        + "[SEED [SEMESTER_START]]";
+
+    /**
+     * Generates the data set and writes it to the file.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 5 || args.length > 7) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+
+        Path filePath = Paths.get(args[0]);
+        long seed = args.length > 5 ? Long.parseLong(args[5]) : BenchmarkData.SEED;
+        LocalDate semesterStart = args.length > 6 ? LocalDate.parse(args[6]) : DatasetGenerator.DEFAULT_SEMESTER_START;
+        TrackIter trackIter = new DatasetGenerator(seed)
+            .withModules(Integer.parseInt(args[1]))
+            .withLessonsPerWeek(Integer.parseInt(args[2]))
+            .withTasks(Integer.parseInt(args[3]))
+            .withContacts(Integer.parseInt(args[4]))
+            .withSemesterStart(semesterStart)
+            .generate();
+        new JsonTrackIterStorage(filePath).saveTrackIter(trackIter);
+        System.out.println("Wrote " + trackIter.getModuleList().size() + " modules, "
+            + trackIter.getLessonList().size() + " lessons, " + trackIter.getTaskList().size() + " tasks and "
+            + trackIter.getContactList().size() + " contacts to " + filePath);
+    }
+}
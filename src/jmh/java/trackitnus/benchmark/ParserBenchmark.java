@@ -0,0 +1,47 @@
+package trackitnus.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import trackitnus.logic.commands.Command;
+import trackitnus.logic.parser.TrackIterParser;
+import trackitnus.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures {@link TrackIterParser#parseCommand(String)} on a command of each type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+    @Param({
+        "T add n/Assignment 1 d/01/10/2020 m/CS2103T r/Submit on LumiNUS",
+        "T edit 12 n/Assignment 2 d/08/10/2020",
+        "C add n/Alex Yeoh p/87438807 e/alexyeoh@example.com t/CS2103T",
+        "L add m/CS2103T t/lec d/fri 14:00-16:00 a/i3-Aud",
+        "M delete CS2103T",
+        "help"
+    })
+    public String command;
+
+    private final TrackIterParser parser = new TrackIterParser();
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(command);
+    }
+}
@@ -0,0 +1,93 @@
+package trackitnus.benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import trackitnus.logic.ScriptRunner;
+import trackitnus.model.ModelManager;
+import trackitnus.model.util.DatasetGenerator;
+import trackitnus.storage.JsonTrackIterStorage;
+
+/**
+ * Measures running a batch script of {@code size} {@code T add} commands headlessly into empty data, including the
+ * single save at the end of the script.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ScriptRunnerBenchmark {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    @Param({"100000"})
+    public int size;
+
+    private String script;
+    private Path folder;
+    private ScriptRunner scriptRunner;
+
+    /**
+     * Creates the script of {@code size} commands.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        LocalDate start = BenchmarkData.getSemesterStart();
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            // add the tasks in a shuffled date order, as an imported term would be
+            builder.append("T add n/Task ").append(i)
+                .append(" d/").append(start.plusDays((i * 37L) % DatasetGenerator.SEMESTER_DAYS).format(DATE_FORMAT))
+                .append(" r/Imported\n");
+        }
+        script = builder.toString();
+        folder = Files.createTempDirectory("scriptRunnerBenchmark");
+    }
+
+    /**
+     * Creates a runner over empty data for the next run of the script.
+     */
+    @Setup(Level.Iteration)
+    public void setUpIteration() throws IOException {
+        Path filePath = Files.createTempFile(folder, "trackIter", ".json");
+        Files.delete(filePath);
+        scriptRunner = new ScriptRunner(new ModelManager(), new JsonTrackIterStorage(filePath), 0);
+    }
+
+    /**
+     * Deletes the temporary folder.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkData.deleteFolder(folder);
+    }
+
+    @Benchmark
+    public ScriptRunner.Result run() throws IOException {
+        return scriptRunner.run(new BufferedReader(new StringReader(script)), error -> {
+            throw new IllegalStateException(error);
+        });
+    }
+}
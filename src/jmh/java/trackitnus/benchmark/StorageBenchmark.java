@@ -0,0 +1,74 @@
+package trackitnus.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import trackitnus.commons.exceptions.DataConversionException;
+import trackitnus.model.ReadOnlyTrackIter;
+import trackitnus.model.TrackIter;
+import trackitnus.storage.JsonTrackIterStorage;
+
+/**
+ * Measures saving and loading data of {@code size} entities with {@code JsonTrackIterStorage}, in a temporary folder.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class StorageBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private Path folder;
+    private TrackIter trackIter;
+    private JsonTrackIterStorage saveStorage;
+    private JsonTrackIterStorage loadStorage;
+
+    /**
+     * Creates the data of {@code size} entities, and a file holding it to load.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("storageBenchmark");
+        trackIter = BenchmarkData.createTrackIter(size);
+        saveStorage = new JsonTrackIterStorage(folder.resolve("saved.json"));
+        loadStorage = new JsonTrackIterStorage(folder.resolve("loaded.json"));
+        loadStorage.saveTrackIter(trackIter);
+    }
+
+    /**
+     * Deletes the temporary folder.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkData.deleteFolder(folder);
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        saveStorage.saveTrackIter(trackIter);
+    }
+
+    @Benchmark
+    public ReadOnlyTrackIter load() throws DataConversionException, IOException {
+        return loadStorage.readTrackIter().get();
+    }
+}
@@ -0,0 +1,67 @@
+package trackitnus.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import trackitnus.model.TrackIter;
+import trackitnus.model.lesson.Lesson;
+import trackitnus.model.lesson.LessonComparator;
+import trackitnus.model.task.Task;
+import trackitnus.model.task.TaskComparator;
+
+/**
+ * Compares the cost of reading the task and lesson lists of a {@code TrackIter} when they are sorted on every read
+ * (the previous behaviour of {@code getTaskList} and {@code getLessonList}) against reading the lists that are now
+ * kept sorted on insertion.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrackIterReadBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private TrackIter trackIter;
+
+    /**
+     * Creates a {@code TrackIter} of {@code size} entities.
+     */
+    @Setup
+    public void setUp() {
+        trackIter = BenchmarkData.createTrackIter(size);
+    }
+
+    /**
+     * Reads both lists the way they used to be read, by sorting them first.
+     */
+    @Benchmark
+    public int sortOnRead() {
+        List<Task> tasks = new ArrayList<>(trackIter.getTaskList());
+        tasks.sort(new TaskComparator());
+        List<Lesson> lessons = new ArrayList<>(trackIter.getLessonList());
+        lessons.sort(new LessonComparator());
+        return tasks.get(0).hashCode() + lessons.get(0).hashCode();
+    }
+
+    @Benchmark
+    public int sortedRead() {
+        return trackIter.getTaskList().get(0).hashCode() + trackIter.getLessonList().get(0).hashCode();
+    }
+}
@@ -0,0 +1,132 @@
+package trackitnus.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import trackitnus.model.contact.Contact;
+import trackitnus.model.contact.UniqueContactList;
+import trackitnus.model.lesson.Lesson;
+import trackitnus.model.lesson.UniqueLessonList;
+import trackitnus.model.module.Module;
+import trackitnus.model.module.UniqueModuleList;
+import trackitnus.model.task.Task;
+import trackitnus.model.task.UniqueTaskList;
+
+/**
+ * Measures adding, checking for and removing an entity in each of the unique lists when they hold {@code size}
+ * entities.
+ * <p>
+ * An entity is added and removed again in the same call, so that the size of the lists stays the same across calls.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniqueListBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private final UniqueModuleList modules = new UniqueModuleList();
+    private final UniqueContactList contacts = new UniqueContactList();
+    private final UniqueLessonList lessons = new UniqueLessonList();
+    private final UniqueTaskList tasks = new UniqueTaskList();
+
+    private Module existingModule;
+    private Module newModule;
+    private Contact existingContact;
+    private Contact newContact;
+    private Lesson existingLesson;
+    private Lesson newLesson;
+    private Task existingTask;
+    private Task newTask;
+
+    /**
+     * Fills each list with {@code size} entities.
+     */
+    @Setup
+    public void setUp() {
+        List<Module> moduleList = new ArrayList<>();
+        List<Contact> contactList = new ArrayList<>();
+        List<Lesson> lessonList = new ArrayList<>();
+        List<Task> taskList = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            moduleList.add(BenchmarkData.createModule(i));
+            contactList.add(BenchmarkData.createContact(i, size));
+            lessonList.add(BenchmarkData.createLesson(i, size));
+            taskList.add(BenchmarkData.createTask(i, size));
+        }
+        modules.setModules(moduleList);
+        contacts.setContacts(contactList);
+        lessons.setLessons(lessonList);
+        tasks.setTasks(taskList);
+
+        existingModule = moduleList.get(size / 2);
+        existingContact = contactList.get(size / 2);
+        existingLesson = lessonList.get(size / 2);
+        existingTask = taskList.get(size / 2);
+        newModule = BenchmarkData.createModule(size);
+        newContact = BenchmarkData.createContact(size, size);
+        newLesson = BenchmarkData.createLesson(size, size);
+        newTask = BenchmarkData.createTask(size, size);
+    }
+
+    @Benchmark
+    public boolean containsModule() {
+        return modules.contains(existingModule);
+    }
+
+    @Benchmark
+    public void addAndRemoveModule() {
+        modules.add(newModule);
+        modules.remove(newModule);
+    }
+
+    @Benchmark
+    public boolean containsContact() {
+        return contacts.contains(existingContact);
+    }
+
+    @Benchmark
+    public void addAndRemoveContact() {
+        contacts.add(newContact);
+        contacts.remove(newContact);
+    }
+
+    @Benchmark
+    public boolean containsLesson() {
+        return lessons.contains(existingLesson);
+    }
+
+    @Benchmark
+    public void addAndRemoveLesson() {
+        lessons.add(newLesson);
+        lessons.remove(newLesson);
+    }
+
+    @Benchmark
+    public boolean containsTask() {
+        return tasks.contains(existingTask);
+    }
+
+    @Benchmark
+    public void addAndRemoveTask() {
+        tasks.add(newTask);
+        tasks.remove(newTask);
+    }
+}
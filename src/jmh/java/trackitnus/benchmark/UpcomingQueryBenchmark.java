@@ -0,0 +1,74 @@
+package trackitnus.benchmark;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import trackitnus.model.ModelManager;
+import trackitnus.model.UserPrefs;
+import trackitnus.model.util.DatasetGenerator;
+
+/**
+ * Measures the queries that the Upcoming tab is built from, on data of {@code size} entities.
+ * <p>
+ * Each call queries a different day of the week from the {@code AgendaModel}, as the day cards of the Upcoming tab
+ * do, and reads the size of the result. The days queried are in the middle of the semester of the data. The overdue
+ * tasks are still relative to the current date, which is past the semester, so every task is overdue.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UpcomingQueryBenchmark {
+
+    private static final int DAYS_PER_WEEK = 7;
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private ModelManager model;
+    private LocalDate firstDay;
+    private int day;
+
+    /**
+     * Creates a model holding {@code size} entities.
+     */
+    @Setup
+    public void setUp() {
+        model = new ModelManager(BenchmarkData.createTrackIter(size), new UserPrefs());
+        firstDay = BenchmarkData.getSemesterStart().plusDays(DatasetGenerator.SEMESTER_DAYS / 2);
+    }
+
+    @Benchmark
+    public int getOverdueTasks() {
+        return model.getOverdueTasks().size();
+    }
+
+    @Benchmark
+    public int getDayTasks() {
+        return model.getAgenda().getDay(nextDay()).getTasks().size();
+    }
+
+    @Benchmark
+    public int getDayLessons() {
+        return model.getAgenda().getDay(nextDay()).getLessons().size();
+    }
+
+    private LocalDate nextDay() {
+        day = (day + 1) % DAYS_PER_WEEK;
+        return firstDay.plusDays(day);
+    }
+}
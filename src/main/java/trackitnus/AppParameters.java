@@ -2,6 +2,7 @@ package trackitnus;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -14,16 +15,41 @@ import trackitnus.commons.util.FileUtil;
  * Represents the parsed command-line parameters given to the application.
  */
 public class AppParameters {
+    /** The batch script path that stands for the standard input. */
+    public static final String STANDARD_INPUT = "-";
+
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
+    private static final String NAMED_PARAMETER_PREFIX = "--";
 
     private Path configPath;
+    private Path batchScriptPath;
+    private int saveInterval;
 
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the raw command-line arguments of the application, before JavaFX is started.
+     * Named parameters are given as {@code --name=value}, as for {@link Application.Parameters#getNamed()}.
+     */
+    public static AppParameters parse(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (arg.startsWith(NAMED_PARAMETER_PREFIX) && separator > NAMED_PARAMETER_PREFIX.length()) {
+                namedParameters.put(arg.substring(NAMED_PARAMETER_PREFIX.length(), separator),
+                    arg.substring(separator + 1));
+            }
+        }
+        return parse(namedParameters);
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -32,6 +58,22 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String batchParameter = namedParameters.get("batch");
+        if (batchParameter != null && !batchParameter.equals(STANDARD_INPUT) && !FileUtil.isValidPath(batchParameter)) {
+            logger.warning("Invalid batch script path " + batchParameter + ". Starting the app normally.");
+            batchParameter = null;
+        }
+        appParameters.setBatchScriptPath(batchParameter != null ? Paths.get(batchParameter) : null);
+
+        String saveIntervalParameter = namedParameters.get("save-every");
+        if (saveIntervalParameter != null) {
+            try {
+                appParameters.setSaveInterval(Integer.parseInt(saveIntervalParameter));
+            } catch (NumberFormatException e) {
+                logger.warning("Invalid save interval " + saveIntervalParameter + ". Saving at the end only.");
+            }
+        }
+
         return appParameters;
     }
 
@@ -43,6 +85,37 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the path of the script of commands to run without starting the GUI, which is
+     * {@value #STANDARD_INPUT} to read them from the standard input, or null to start the GUI.
+     */
+    public Path getBatchScriptPath() {
+        return batchScriptPath;
+    }
+
+    public void setBatchScriptPath(Path batchScriptPath) {
+        this.batchScriptPath = batchScriptPath;
+    }
+
+    /**
+     * Returns true if the app should run a batch script without starting the GUI.
+     */
+    public boolean isHeadless() {
+        return batchScriptPath != null;
+    }
+
+    /**
+     * Returns the number of commands of a batch script after which the data is saved, or a non-positive number if
+     * it is only saved once the script ends.
+     */
+    public int getSaveInterval() {
+        return saveInterval;
+    }
+
+    public void setSaveInterval(int saveInterval) {
+        this.saveInterval = saveInterval;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -54,11 +127,13 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+            && Objects.equals(getBatchScriptPath(), otherAppParameters.getBatchScriptPath())
+            && getSaveInterval() == otherAppParameters.getSaveInterval();
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, batchScriptPath, saveInterval);
     }
 }
@@ -17,9 +17,19 @@ import javafx.application.Application;
  * <p>
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ * <p>
+ * Given a {@code --batch=SCRIPT} parameter, the commands in SCRIPT (or the standard input, if SCRIPT is {@code -})
+ * are run without starting JavaFX at all. {@code --save-every=N} additionally saves the data after every N commands.
  */
 public class Main {
+    /**
+     * Runs the batch script given in {@code args}, if any, or starts the GUI.
+     */
     public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(args);
+        if (appParameters.isHeadless()) {
+            System.exit(new MainApp().runHeadless(appParameters));
+        }
         Application.launch(MainApp.class, args);
     }
 }
@@ -1,11 +1,16 @@
 package trackitnus;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import trackitnus.commons.core.Config;
 import trackitnus.commons.core.LogsCenter;
@@ -15,14 +20,14 @@ import trackitnus.commons.util.ConfigUtil;
 import trackitnus.commons.util.StringUtil;
 import trackitnus.logic.Logic;
 import trackitnus.logic.LogicManager;
+import trackitnus.logic.ScriptRunner;
 import trackitnus.model.Model;
 import trackitnus.model.ModelManager;
 import trackitnus.model.ReadOnlyTrackIter;
-import trackitnus.model.ReadOnlyUserPrefs;
 import trackitnus.model.TrackIter;
 import trackitnus.model.UserPrefs;
 import trackitnus.model.util.SampleDataUtil;
-import trackitnus.storage.JsonTrackIterStorage;
+import trackitnus.storage.JournalTrackIterStorage;
 import trackitnus.storage.JsonUserPrefsStorage;
 import trackitnus.storage.Storage;
 import trackitnus.storage.StorageManager;
@@ -46,34 +51,73 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    /**
+     * Initializes the config and storage, and an empty model that is shown until the saved data is loaded in the
+     * background by {@link #start(Stage)}, so that reading a large data file does not delay the window.
+     */
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing TrackIter ]===========================");
         super.init();
 
-        AppParameters appParameters = AppParameters.parse(getParameters());
+        UserPrefs userPrefs = initStorage(AppParameters.parse(getParameters()));
+        model = new ModelManager(new TrackIter(), userPrefs);
+
+        logic = new LogicManager(model, storage, false);
+
+        ui = new UiManager(logic);
+    }
+
+    /**
+     * Runs the batch script given in {@code appParameters} against the saved data, without starting JavaFX, then
+     * saves the data.
+     *
+     * @return the exit status of the app: 0 if every command succeeded, 1 if a command failed, or 2 if the script could
+     *     not be read or the data could not be saved.
+     */
+    public int runHeadless(AppParameters appParameters) {
+        logger.info("=============================[ Running TrackIter script ]===========================");
+        UserPrefs userPrefs = initStorage(appParameters);
+        model = new ModelManager(readTrackIter(storage), userPrefs);
+
+        Path scriptPath = appParameters.getBatchScriptPath();
+        boolean isStandardInput = scriptPath.toString().equals(AppParameters.STANDARD_INPUT);
+        ScriptRunner scriptRunner = new ScriptRunner(model, storage, appParameters.getSaveInterval());
+        try (BufferedReader script = isStandardInput
+            ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+            : Files.newBufferedReader(scriptPath)) {
+            ScriptRunner.Result result = scriptRunner.run(script, System.err::println);
+            System.out.println(result);
+            return result.getFailed() == 0 ? 0 : 1;
+        } catch (IOException e) {
+            logger.severe("Failed to run script " + scriptPath + ": " + StringUtil.getDetails(e));
+            return 2;
+        }
+    }
+
+    /**
+     * Initializes the config and storage, which the GUI and headless modes share.
+     *
+     * @return the user prefs read from storage.
+     */
+    private UserPrefs initStorage(AppParameters appParameters) {
         config = initConfig(appParameters.getConfigPath());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        TrackIterStorage trackIterStorage = new JsonTrackIterStorage(userPrefs.getTrackIterFilePath());
+        TrackIterStorage trackIterStorage = new JournalTrackIterStorage(userPrefs.getTrackIterFilePath());
         storage = new StorageManager(trackIterStorage, userPrefsStorage);
 
         initLogging(config);
-
-        model = initModelManager(storage, userPrefs);
-
-        logic = new LogicManager(model, storage);
-
-        ui = new UiManager(logic);
+        return userPrefs;
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s TrackIter and {@code userPrefs}. <br>
-     * The sample data will be used instead if {@code storage}'s TrackIter is not found,
-     * or an empty TrackIter will be used instead if errors occur when reading {@code storage}'s TrackIter.
+     * Returns the data from {@code storage}'s TrackIter. <br>
+     * The sample data will be returned instead if {@code storage}'s TrackIter is not found,
+     * or an empty TrackIter will be returned instead if errors occur when reading {@code storage}'s TrackIter.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private static ReadOnlyTrackIter readTrackIter(Storage storage) {
         Optional<ReadOnlyTrackIter> trackIterOptional;
         ReadOnlyTrackIter initialData;
         try {
@@ -90,7 +134,39 @@ public class MainApp extends Application {
             initialData = new TrackIter();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return initialData;
+    }
+
+    /**
+     * Reads the saved data on a background thread, then gives it to {@code logic} and {@code ui} on the JavaFX
+     * application thread.
+     */
+    private void loadTrackIterInBackground() {
+        Thread loader = new Thread(() -> {
+            long start = System.nanoTime();
+            ReadOnlyTrackIter trackIter;
+            Optional<Throwable> loadError;
+            try {
+                trackIter = readTrackIter(storage);
+                loadError = Optional.empty();
+                logger.info(String.format("Read the data in %1$d ms", (System.nanoTime() - start) / 1_000_000));
+            } catch (Throwable e) {
+                // the load must always complete, even after an Error, or the window would wait for it forever
+                trackIter = new TrackIter();
+                loadError = Optional.of(e);
+                logger.severe("Unexpected error while reading the data. Will be starting with an empty TrackIter: "
+                    + StringUtil.getDetails(e));
+            }
+            ReadOnlyTrackIter loadedTrackIter = trackIter;
+            Optional<Throwable> finalLoadError = loadError;
+            Platform.runLater(() -> {
+                logic.completeLoad(loadedTrackIter);
+                ui.handleDataLoaded(finalLoadError);
+            });
+        }, "TrackIter-load");
+        // an unfinished load must not keep the app alive after its window is closed
+        loader.setDaemon(true);
+        loader.start();
     }
 
     private void initLogging(Config config) {
@@ -169,11 +245,16 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting TrackIter " + MainApp.VERSION);
         ui.start(primaryStage);
+        loadTrackIterInBackground();
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping TrackIter ] =============================");
+        logic.flushSaves();
+        if (logic.hasUnsavedChanges()) {
+            logger.warning("Exiting with changes that could not be saved");
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
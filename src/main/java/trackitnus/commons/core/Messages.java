@@ -46,6 +46,11 @@ public class Messages {
     public static final String MESSAGE_DELETE_TASK_SUCCESS = "Deleted Task: %1$s";
     public static final String MESSAGE_EDIT_TASK_SUCCESS = "Edited Task: %1$s";
 
+    public static final String MESSAGE_UNDO_SUCCESS = "Undo success!";
+    public static final String MESSAGE_REDO_SUCCESS = "Redo success!";
+    public static final String MESSAGE_NOTHING_TO_UNDO = "There are no more commands to undo.";
+    public static final String MESSAGE_NOTHING_TO_REDO = "There are no more commands to redo.";
+
     public static final String MESSAGE_EXIT_ACKNOWLEDGEMENT = "Exiting the app as requested ...";
     public static final String MESSAGE_MODULE_LIMIT_REACHED = "It's not allowed to have more than 10 modules";
 }
@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
 
@@ -34,4 +36,48 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Returns the position at which {@code item} should be inserted into {@code sortedList} to keep it sorted by
+     * {@code comparator}. Items that compare equal to {@code item} stay in front of it, so repeated insertions behave
+     * like appending followed by a stable sort.
+     * {@code sortedList} must support fast random access.
+     */
+    public static <T> int upperBound(List<? extends T> sortedList, T item, Comparator<? super T> comparator) {
+        int low = 0;
+        int high = sortedList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(sortedList.get(mid), item) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position of the element equal to {@code item} (as defined by {@code equals}) in {@code sortedList},
+     * which must be sorted by {@code comparator}, or -1 if there is no such element.
+     * Runs in O(log n + number of elements that compare equal to {@code item}).
+     */
+    public static <T> int indexOfSorted(List<? extends T> sortedList, T item, Comparator<? super T> comparator) {
+        int low = 0;
+        int high = sortedList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(sortedList.get(mid), item) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        for (int i = low; i < sortedList.size() && comparator.compare(sortedList.get(i), item) == 0; i++) {
+            if (sortedList.get(i).equals(item)) {
+                return i;
+            }
+        }
+        return -1;
+    }
 }
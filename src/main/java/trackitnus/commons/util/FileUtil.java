@@ -1,10 +1,18 @@
 package trackitnus.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +20,7 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final int BUFFER_SIZE = 64 * 1024;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -76,10 +85,113 @@ public class FileUtil {
 
     /**
      * Writes given string to a file.
-     * Will create the file if it does not exist yet.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     * <p>
+     * The file is replaced atomically: the content is written to a temporary file in the same directory, forced to
+     * the disk, and then moved over {@code file}. A crash at any point leaves either the old or the new content.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFile(file, content, 0);
+    }
+
+    /**
+     * Similar to {@link #writeToFile(Path, String)}, but keeps up to {@code backups} previous versions of the file.
+     * The version being replaced becomes backup 1, backup 1 becomes backup 2, and so on, and the oldest is dropped.
+     *
+     * @see #getBackupPath(Path, int)
+     */
+    public static void writeToFile(Path file, String content, int backups) throws IOException {
+        writeToFile(file, out -> out.write(content.getBytes(CHARSET)), backups);
+    }
+
+    /**
+     * Similar to {@link #writeToFile(Path, String, int)}, but the content is streamed by {@code contentWriter} through
+     * a buffer straight into the file, so that it never has to be held in memory as a whole.
+     */
+    public static void writeToFile(Path file, ContentWriter contentWriter, int backups) throws IOException {
+        createParentDirsOfFile(file);
+        Path dir = file.toAbsolutePath().getParent();
+        Path tempFile = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE);
+                 OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE)) {
+                contentWriter.writeTo(out);
+                out.flush();
+                channel.force(true);
+            }
+            rotateBackups(file, backups);
+            try {
+                Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Appends given string to a file, and forces it to the disk.
+     * Will create the file if it does not exist yet.
+     *
+     * @return the number of bytes appended.
+     */
+    public static int appendToFile(Path file, String content) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.APPEND)) {
+            int bytes = writeFully(channel, content);
+            channel.force(false);
+            return bytes;
+        }
+    }
+
+    /**
+     * Returns the path of the given backup {@code generation} of {@code file}, where 1 is the most recent backup.
+     */
+    public static Path getBackupPath(Path file, int generation) {
+        assert generation > 0;
+        return Paths.get(file.toString() + "." + generation);
+    }
+
+    /**
+     * Moves every backup of {@code file} one generation back, and makes the current {@code file} backup 1.
+     * Backup 1 is a hard link to {@code file} where the file system supports it, so that no data is copied and
+     * {@code file} stays in place until it is replaced.
+     */
+    private static void rotateBackups(Path file, int backups) throws IOException {
+        if (backups <= 0 || !Files.exists(file)) {
+            return;
+        }
+        for (int generation = backups; generation > 1; generation--) {
+            Path newer = getBackupPath(file, generation - 1);
+            if (Files.exists(newer)) {
+                Files.move(newer, getBackupPath(file, generation), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Path latestBackup = getBackupPath(file, 1);
+        Files.deleteIfExists(latestBackup);
+        try {
+            Files.createLink(latestBackup, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(file, latestBackup, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static int writeFully(FileChannel channel, String content) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(CHARSET));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        return buffer.capacity();
+    }
+
+    /**
+     * Writes the content of a file to a stream.
+     * The stream is owned by the caller, and must not be closed.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
     }
 
 }
@@ -3,18 +3,26 @@ package trackitnus.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -39,13 +47,23 @@ public class JsonUtil {
             .addSerializer(Level.class, new ToStringSerializer())
             .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    // Readers and writers are immutable and thread-safe, and are cached as creating them is not free.
+    // Streams passed to them are left open, as they belong to the caller.
+    private static final ObjectWriter prettyWriter = objectMapper.writerWithDefaultPrettyPrinter()
+        .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    private static final ObjectWriter compactWriter = objectMapper.writer()
+        .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    private static final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        FileUtil.writeToFile(jsonFile, out -> writeJson(out, objectToSerialize, false), 0);
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
         throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream in = Files.newInputStream(jsonFile)) {
+            return readJson(in, classOfObjectToDeserialize);
+        }
     }
 
     /**
@@ -92,6 +110,24 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Writes the JSON data representation of {@code instance} to {@code out}, without building it in memory first.
+     * {@code out} is flushed but not closed.
+     *
+     * @param isCompact whether to leave out all whitespace and line breaks, instead of indenting the output.
+     */
+    public static <T> void writeJson(OutputStream out, T instance, boolean isCompact) throws IOException {
+        ObjectWriter writer = isCompact ? compactWriter : prettyWriter;
+        writer.writeValue(out, instance);
+    }
+
+    /**
+     * Reads an instance of {@code instanceClass} from the JSON data in {@code in}, without reading the data into
+     * memory first. {@code in} is not closed, and may not have been read to the end.
+     */
+    public static <T> T readJson(InputStream in, Class<T> instanceClass) throws IOException {
+        return readerFor(instanceClass).readValue(in);
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -100,7 +136,7 @@ public class JsonUtil {
      * @return The instance of T with the specified values in the JSON string
      */
     public static <T> T fromJsonString(String json, Class<T> instanceClass) throws IOException {
-        return objectMapper.readValue(json, instanceClass);
+        return readerFor(instanceClass).readValue(json);
     }
 
     /**
@@ -111,7 +147,24 @@ public class JsonUtil {
      * @return JSON data representation of the given class instance, in string
      */
     public static <T> String toJsonString(T instance) throws JsonProcessingException {
-        return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
+        return prettyWriter.writeValueAsString(instance);
+    }
+
+    /**
+     * Converts a given instance of a class into its JSON data string representation, without any whitespace or
+     * line breaks.
+     *
+     * @param instance The T object to be converted into the JSON string
+     * @param <T>      The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in a single line
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return compactWriter.writeValueAsString(instance);
+    }
+
+    private static ObjectReader readerFor(Class<?> instanceClass) {
+        return readers.computeIfAbsent(instanceClass, cls -> objectMapper.readerFor(cls)
+            .without(JsonParser.Feature.AUTO_CLOSE_SOURCE));
     }
 
     /**
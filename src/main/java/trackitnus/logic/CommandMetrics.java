@@ -0,0 +1,165 @@
+package trackitnus.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+import trackitnus.commons.core.LogsCenter;
+
+/**
+ * Records how long commands take, per command word and per phase, and how much each save writes.
+ * <p>
+ * The parse and execute phases of a command are recorded under its command word, including its type, e.g.
+ * {@code T add}. Saves happen in the background and may cover several commands, so they are recorded on their own,
+ * together with the number of bytes they wrote and the size of the data they saved. The report of all the metrics is
+ * shown by the {@code stats} command, and logged periodically.
+ * <p>
+ * This class is thread-safe, so that saves can be recorded from the thread that performs them.
+ */
+public class CommandMetrics {
+
+    /** The phases of handling a command. */
+    public enum Phase { PARSE, EXECUTE }
+
+    public static final Duration DEFAULT_LOG_INTERVAL = Duration.ofMinutes(10);
+    /** The greatest number of command words that are recorded separately, which bounds the memory taken by typos. */
+    public static final int MAX_COMMAND_WORDS = 64;
+    public static final String OTHER_COMMAND_WORDS = "(other)";
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been run yet.";
+    public static final String MESSAGE_SAVE_SIZE = "The data had %1$d entities at the last save";
+    public static final String MESSAGE_SAVE_BYTES = "Saves wrote %1$d bytes in total, and %2$d bytes the last time, "
+        + "when the data had %3$d entities";
+
+    private static final Logger logger = LogsCenter.getLogger(CommandMetrics.class);
+    private static final String LATENCY_HEADER = String.format("%-12s%-9s%7s%10s%10s%10s%10s%10s",
+        "Command", "Phase", "Count", "Mean ms", "p50 ms", "p90 ms", "p99 ms", "Max ms");
+    private static final String LATENCY_ROW = "%-12s%-9s%7d%10.3f%10.3f%10.3f%10.3f%10.3f";
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    private final Map<String, Map<Phase, LatencyHistogram>> commandLatencies = new TreeMap<>();
+    private final LatencyHistogram saveLatencies = new LatencyHistogram();
+    private final long logIntervalNanos;
+    private long bytesSaved;
+    private long lastSaveBytes = -1;
+    private int lastSaveSize;
+    private long lastLogTime = System.nanoTime();
+    private boolean hasNewRecords;
+
+    /**
+     * Creates a {@code CommandMetrics} that is logged every {@link #DEFAULT_LOG_INTERVAL}.
+     */
+    public CommandMetrics() {
+        this(DEFAULT_LOG_INTERVAL);
+    }
+
+    /**
+     * Creates a {@code CommandMetrics} that is logged every {@code logInterval}.
+     */
+    public CommandMetrics(Duration logInterval) {
+        requireNonNull(logInterval);
+        logIntervalNanos = logInterval.toNanos();
+    }
+
+    /**
+     * Returns the command word of {@code commandText}, including its type if it has one, e.g. {@code T add} for
+     * {@code T add n/Lab 1 d/01/10/2020}.
+     */
+    public static String getCommandWord(String commandText) {
+        String text = commandText.trim();
+        int start = 0;
+        if (text.length() > 1 && text.charAt(0) >= 'A' && text.charAt(0) <= 'Z'
+            && Character.isWhitespace(text.charAt(1))) {
+            start = 2;
+            while (start < text.length() && Character.isWhitespace(text.charAt(start))) {
+                start++;
+            }
+        }
+        int end = start;
+        while (end < text.length() && !Character.isWhitespace(text.charAt(end))) {
+            end++;
+        }
+        return start == 0 ? text.substring(0, end) : text.charAt(0) + " " + text.substring(start, end);
+    }
+
+    /**
+     * Records that the given {@code phase} of a command with the given {@code commandWord} took {@code nanos}
+     * nanoseconds.
+     */
+    public synchronized void recordCommand(String commandWord, Phase phase, long nanos) {
+        requireNonNull(commandWord);
+        requireNonNull(phase);
+        String key = commandLatencies.containsKey(commandWord) || commandLatencies.size() < MAX_COMMAND_WORDS
+            ? commandWord
+            : OTHER_COMMAND_WORDS;
+        commandLatencies.computeIfAbsent(key, unused -> new EnumMap<>(Phase.class))
+            .computeIfAbsent(phase, unused -> new LatencyHistogram())
+            .record(nanos);
+        hasNewRecords = true;
+    }
+
+    /**
+     * Records a save of data of {@code size} entities, that took {@code nanos} nanoseconds and wrote {@code bytes}
+     * bytes, or -1 if they were not counted.
+     */
+    public synchronized void recordSave(int size, long nanos, long bytes) {
+        saveLatencies.record(nanos);
+        lastSaveSize = size;
+        lastSaveBytes = bytes;
+        if (bytes > 0) {
+            bytesSaved += bytes;
+        }
+        hasNewRecords = true;
+    }
+
+    /**
+     * Logs the report if something was recorded since it was last logged, and it was last logged at least the log
+     * interval ago.
+     *
+     * @return true if the report was logged.
+     */
+    public synchronized boolean logIfDue() {
+        long now = System.nanoTime();
+        if (!hasNewRecords || now - lastLogTime < logIntervalNanos) {
+            return false;
+        }
+        logger.info("Command metrics:\n" + getReport());
+        lastLogTime = now;
+        hasNewRecords = false;
+        return true;
+    }
+
+    /**
+     * Returns a table of the latencies of each phase of each command word and of the saves, followed by a summary of
+     * the saves.
+     */
+    public synchronized String getReport() {
+        if (commandLatencies.isEmpty()) {
+            return MESSAGE_NO_COMMANDS;
+        }
+
+        StringBuilder report = new StringBuilder(LATENCY_HEADER);
+        commandLatencies.forEach((commandWord, phases) -> phases.forEach((phase, histogram) ->
+            appendLatencyRow(report, commandWord, phase.toString().toLowerCase(), histogram)));
+        if (saveLatencies.getCount() > 0) {
+            appendLatencyRow(report, "", "save", saveLatencies);
+            report.append('\n').append(lastSaveBytes < 0
+                ? String.format(MESSAGE_SAVE_SIZE, lastSaveSize)
+                : String.format(MESSAGE_SAVE_BYTES, bytesSaved, lastSaveBytes, lastSaveSize));
+        }
+        return report.toString();
+    }
+
+    private static void appendLatencyRow(StringBuilder report, String commandWord, String phase,
+                                         LatencyHistogram histogram) {
+        report.append('\n').append(String.format(LATENCY_ROW, commandWord, phase,
+            histogram.getCount(), histogram.getMean() / NANOS_PER_MILLI,
+            histogram.getValueAtPercentile(50) / NANOS_PER_MILLI,
+            histogram.getValueAtPercentile(90) / NANOS_PER_MILLI,
+            histogram.getValueAtPercentile(99) / NANOS_PER_MILLI,
+            histogram.getMax() / NANOS_PER_MILLI));
+    }
+}
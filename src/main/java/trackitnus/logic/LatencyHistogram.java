@@ -0,0 +1,84 @@
+package trackitnus.logic;
+
+/**
+ * Records latencies in nanoseconds into a histogram of fixed size, from which percentiles can be read.
+ * <p>
+ * As in an HDR histogram, latencies below {@code 2 * SUB_BUCKETS} nanoseconds are counted exactly, and each power
+ * of two above that is split into {@code SUB_BUCKETS} buckets of equal width. Every latency is thus known to within
+ * about 3% of its value, whatever its magnitude, while recording takes constant time and no allocation.
+ * <p>
+ * This class is not thread-safe.
+ */
+public class LatencyHistogram {
+
+    /** The greatest latency that can be told apart from longer ones, about 73 minutes. */
+    public static final long MAX_TRACKABLE_NANOS = (1L << 42) - 1;
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private final long[] counts = new long[bucketOf(MAX_TRACKABLE_NANOS) + 1];
+    private long count;
+    private long total;
+    private long max;
+
+    /**
+     * Records a latency of {@code nanos} nanoseconds. Negative latencies are recorded as 0, and latencies above
+     * {@link #MAX_TRACKABLE_NANOS} as that.
+     */
+    public void record(long nanos) {
+        long value = Math.min(Math.max(nanos, 0), MAX_TRACKABLE_NANOS);
+        counts[bucketOf(value)]++;
+        count++;
+        total += value;
+        max = Math.max(max, value);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the mean of the recorded latencies, or 0 if none was recorded.
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) total / count;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the latency that {@code percentile} percent of the recorded latencies are at most, or 0 if none was
+     * recorded. The latency is rounded up to the upper end of its bucket, and never exceeds {@link #getMax()}.
+     */
+    public long getValueAtPercentile(double percentile) {
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(bucket), max);
+            }
+        }
+        return max;
+    }
+
+    private static int bucketOf(long value) {
+        if (value < 2 * SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    private static long upperBoundOf(int bucket) {
+        if (bucket < 2 * SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long subBucket = bucket % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
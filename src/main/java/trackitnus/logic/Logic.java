@@ -1,7 +1,7 @@
 package trackitnus.logic;
 
 import java.nio.file.Path;
-import java.time.LocalDate;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import trackitnus.commons.core.GuiSettings;
@@ -9,6 +9,7 @@ import trackitnus.commons.core.index.Index;
 import trackitnus.logic.commands.CommandResult;
 import trackitnus.logic.commands.exceptions.CommandException;
 import trackitnus.logic.parser.exceptions.ParseException;
+import trackitnus.model.AgendaModel;
 import trackitnus.model.Model;
 import trackitnus.model.ReadOnlyTrackIter;
 import trackitnus.model.commons.Code;
@@ -31,6 +32,32 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns true if the saved data has been loaded, and commands can be executed.
+     */
+    boolean isLoaded();
+
+    /**
+     * Replaces the data with {@code trackIter}, which was loaded from storage, and allows commands to be executed.
+     */
+    void completeLoad(ReadOnlyTrackIter trackIter);
+
+    /**
+     * Sets the handler that is given an error message when saving the data after a command fails.
+     * Data is saved in the background, so the handler may be called from a thread other than the caller's.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
+    /**
+     * Blocks until the data has been saved after every command executed so far.
+     */
+    void flushSaves();
+
+    /**
+     * Returns true if the data has been modified since it was last saved successfully.
+     */
+    boolean hasUnsavedChanges();
+
     /**
      * Returns the TrackIter.
      *
@@ -69,10 +96,10 @@ public interface Logic {
     void clearAllList();
 
     /**
-     * @param date The date to query
-     * @return all lessons happens on that date
+     * Re-sorts the lessons if the day of the week has changed since they were last sorted, to use by UI when switch
+     * tab
      */
-    ObservableList<Lesson> getDayUpcomingLessons(LocalDate date);
+    void refreshLessonOrder();
 
     /**
      * @param code The module code to query
@@ -98,15 +125,16 @@ public interface Logic {
     ObservableList<Task> getOverdueTasks();
 
     /**
-     * @return The list of all tasks that are not due until more than a week later.
+     * Makes all tasks and all lessons the filtered task and lesson lists, to use by UI when the agenda is shown.
      */
-    ObservableList<Task> getFutureTasks();
+    void showAgenda();
 
     /**
-     * @param date The date to query
-     * @return the list of all tasks that take place on that specific day
+     * @return the agenda of the tasks and lessons of each day, whose indexes refer to all tasks and all lessons once
+     * {@link #showAgenda()} is called
+     * @see Model#getAgenda()
      */
-    ObservableList<Task> getDayUpcomingTasks(LocalDate date);
+    AgendaModel getAgenda();
 
     /**
      * @param module The module to get index of
@@ -122,6 +150,11 @@ public interface Logic {
      */
     Index getModuleIndex(Code code) throws CommandException;
 
+    /**
+     * Returns true if a module with the given {@code code} exists.
+     */
+    boolean hasModule(Code code);
+
     /**
      * @param task The task to get index of.
      * @return The index of the task in list of all tasks.
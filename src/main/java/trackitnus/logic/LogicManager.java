@@ -1,19 +1,23 @@
 package trackitnus.logic;
 
-import java.io.IOException;
+import static java.util.Objects.requireNonNull;
+
 import java.nio.file.Path;
-import java.time.LocalDate;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import trackitnus.commons.core.GuiSettings;
 import trackitnus.commons.core.LogsCenter;
 import trackitnus.commons.core.index.Index;
+import trackitnus.logic.CommandMetrics.Phase;
 import trackitnus.logic.commands.Command;
 import trackitnus.logic.commands.CommandResult;
+import trackitnus.logic.commands.StatsCommand;
 import trackitnus.logic.commands.exceptions.CommandException;
 import trackitnus.logic.parser.TrackIterParser;
 import trackitnus.logic.parser.exceptions.ParseException;
+import trackitnus.model.AgendaModel;
 import trackitnus.model.Model;
 import trackitnus.model.ReadOnlyTrackIter;
 import trackitnus.model.commons.Code;
@@ -22,44 +26,108 @@ import trackitnus.model.lesson.Lesson;
 import trackitnus.model.module.Module;
 import trackitnus.model.task.Task;
 import trackitnus.storage.Storage;
+import trackitnus.storage.TrackIterSaveService;
 
 /**
  * The main LogicManager of the app.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String MESSAGE_NOT_LOADED = "Your data is still being loaded, please try again in a moment.";
     private static final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final TrackIterSaveService saveService;
     private final TrackIterParser trackIterParser;
+    private final CommandMetrics metrics = new CommandMetrics();
+    private boolean isLoaded;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The TrackIter is saved to {@code storage} in the background after every command that modifies it.
+     * {@code storage} is assumed to already hold the data that {@code model} starts with.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, true);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} as {@link #LogicManager(Model, Storage)} does. If {@code isLoaded} is false,
+     * the data of {@code model} is only shown until the data of {@code storage} is given to {@link #completeLoad}, and
+     * commands cannot be executed until then.
+     */
+    public LogicManager(Model model, Storage storage, boolean isLoaded) {
         this.model = model;
-        this.storage = storage;
-        trackIterParser = new TrackIterParser();
+        this.isLoaded = isLoaded;
+        this.saveService = new TrackIterSaveService(storage, model.getTrackIter().getVersion());
+        saveService.setSaveListener((snapshot, nanos, bytes) -> metrics.recordSave(getSize(snapshot), nanos, bytes));
+        trackIterParser = new TrackIterParser(TrackIterParser.createDefaultRegistry()
+            .register("", StatsCommand.COMMAND_WORD, arguments -> new StatsCommand(metrics)));
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        if (!isLoaded) {
+            throw new CommandException(MESSAGE_NOT_LOADED);
+        }
 
+        String commandWord = CommandMetrics.getCommandWord(commandText);
+        long start = System.nanoTime();
+        Command command;
+        try {
+            command = trackIterParser.parseCommand(commandText);
+        } finally {
+            metrics.recordCommand(commandWord, Phase.PARSE, System.nanoTime() - start);
+        }
 
-        Command command = trackIterParser.parseCommand(commandText);
-        CommandResult commandResult = command.execute(model);
-
+        start = System.nanoTime();
+        CommandResult commandResult;
         try {
-            storage.saveTrackIter(model.getTrackIter());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            commandResult = command.execute(model);
+            model.commitTrackIter();
+        } finally {
+            metrics.recordCommand(commandWord, Phase.EXECUTE, System.nanoTime() - start);
         }
+        saveService.requestSave(model.getTrackIter());
+        metrics.logIfDue();
 
         return commandResult;
     }
 
+    @Override
+    public boolean isLoaded() {
+        return isLoaded;
+    }
+
+    @Override
+    public void completeLoad(ReadOnlyTrackIter trackIter) {
+        requireNonNull(trackIter);
+        model.loadTrackIter(trackIter);
+        saveService.setSavedVersion(model.getTrackIter().getVersion());
+        isLoaded = true;
+    }
+
+    private static int getSize(ReadOnlyTrackIter trackIter) {
+        return trackIter.getContactList().size() + trackIter.getModuleList().size()
+            + trackIter.getTaskList().size() + trackIter.getLessonList().size();
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        saveService.setFailureHandler(ioe -> saveFailureHandler.accept(FILE_OPS_ERROR_MESSAGE + ioe));
+    }
+
+    @Override
+    public void flushSaves() {
+        saveService.flush();
+    }
+
+    @Override
+    public boolean hasUnsavedChanges() {
+        return saveService.hasUnsavedChanges(model.getTrackIter());
+    }
+
     @Override
     public ReadOnlyTrackIter getTrackIter() {
         return model.getTrackIter();
@@ -96,8 +164,8 @@ public class LogicManager implements Logic {
     }
 
     @Override
-    public ObservableList<Lesson> getDayUpcomingLessons(LocalDate date) {
-        return model.getDayUpcomingLessons(date);
+    public void refreshLessonOrder() {
+        model.refreshLessonOrder();
     }
 
     @Override
@@ -126,13 +194,13 @@ public class LogicManager implements Logic {
     }
 
     @Override
-    public ObservableList<Task> getFutureTasks() {
-        return model.getFutureTasks();
+    public void showAgenda() {
+        model.showAgenda();
     }
 
     @Override
-    public ObservableList<Task> getDayUpcomingTasks(LocalDate date) {
-        return model.getDayUpcomingTasks(date);
+    public AgendaModel getAgenda() {
+        return model.getAgenda();
     }
 
     @Override
@@ -145,6 +213,11 @@ public class LogicManager implements Logic {
         return model.getModuleIndex(code);
     }
 
+    @Override
+    public boolean hasModule(Code code) {
+        return model.hasModule(code);
+    }
+
     @Override
     public Index getTaskIndex(Task task) throws CommandException {
         return model.getTaskIndex(task);
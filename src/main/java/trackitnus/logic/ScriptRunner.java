@@ -0,0 +1,151 @@
+package trackitnus.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import trackitnus.commons.core.LogsCenter;
+import trackitnus.commons.util.StringUtil;
+import trackitnus.logic.commands.Command;
+import trackitnus.logic.commands.CommandResult;
+import trackitnus.logic.commands.exceptions.CommandException;
+import trackitnus.logic.parser.TrackIterParser;
+import trackitnus.logic.parser.exceptions.ParseException;
+import trackitnus.model.Model;
+import trackitnus.storage.TrackIterStorage;
+
+/**
+ * Runs a script of commands, one per line, against a {@code Model} without a GUI.
+ * <p>
+ * Unlike {@link LogicManager}, which saves in the background after every command, the data is saved synchronously,
+ * once the script ends and optionally after every given number of commands, so that bulk imports do not pay for one
+ * save per command. Blank lines and lines starting with {@value #COMMENT_PREFIX} are skipped. A line that fails, even
+ * with an unexpected error, is reported and the script carries on with the next line. An {@code exit} command ends
+ * the script.
+ */
+public class ScriptRunner {
+
+    public static final String COMMENT_PREFIX = "#";
+    public static final String MESSAGE_LINE_FAILED = "Line %1$d: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(ScriptRunner.class);
+
+    private final Model model;
+    private final TrackIterStorage storage;
+    private final int saveInterval;
+    private final TrackIterParser trackIterParser = new TrackIterParser();
+    private long savedVersion;
+
+    /**
+     * Creates a {@code ScriptRunner} that runs commands against {@code model} and saves it to {@code storage}, which
+     * is assumed to already hold the data that {@code model} starts with.
+     *
+     * @param saveInterval the number of commands after which the data is saved, or a non-positive number to only
+     *                     save it once the script ends.
+     */
+    public ScriptRunner(Model model, TrackIterStorage storage, int saveInterval) {
+        requireNonNull(model);
+        requireNonNull(storage);
+        this.model = model;
+        this.storage = storage;
+        this.saveInterval = saveInterval;
+        savedVersion = model.getTrackIter().getVersion();
+    }
+
+    /**
+     * Runs every command of {@code script}, reporting the commands that fail to {@code errorHandler}, then saves the
+     * data if it was modified.
+     *
+     * @throws IOException if the script cannot be read or the data cannot be saved.
+     */
+    public Result run(BufferedReader script, Consumer<String> errorHandler) throws IOException {
+        requireNonNull(script);
+        requireNonNull(errorHandler);
+
+        int lineNumber = 0;
+        int executed = 0;
+        int failed = 0;
+        String line;
+        while ((line = script.readLine()) != null) {
+            lineNumber++;
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            executed++;
+            CommandResult result;
+            try {
+                Command command = trackIterParser.parseCommand(commandText);
+                result = command.execute(model);
+                model.commitTrackIter();
+            } catch (CommandException | ParseException e) {
+                failed++;
+                errorHandler.accept(String.format(MESSAGE_LINE_FAILED, lineNumber, e.getMessage()));
+                continue;
+            } catch (RuntimeException e) {
+                // an unexpected error of one command must not lose the commands that succeeded before it
+                failed++;
+                logger.warning("Line " + lineNumber + " failed unexpectedly: " + StringUtil.getDetails(e));
+                errorHandler.accept(String.format(MESSAGE_LINE_FAILED, lineNumber, e));
+                continue;
+            }
+
+            if (result.isExit()) {
+                break;
+            }
+            if (saveInterval > 0 && executed % saveInterval == 0) {
+                save();
+            }
+        }
+        save();
+
+        logger.info("Ran " + executed + " commands from script, " + failed + " failed");
+        return new Result(executed, failed);
+    }
+
+    /**
+     * Saves the data if it was modified since it was last saved.
+     */
+    private void save() throws IOException {
+        long version = model.getTrackIter().getVersion();
+        if (version != savedVersion) {
+            storage.saveTrackIter(model.getTrackIter());
+            savedVersion = version;
+        }
+    }
+
+    /**
+     * The outcome of running a script.
+     */
+    public static class Result {
+        public static final String MESSAGE_SUMMARY = "Ran %1$d commands, %2$d failed";
+
+        private final int executed;
+        private final int failed;
+
+        private Result(int executed, int failed) {
+            this.executed = executed;
+            this.failed = failed;
+        }
+
+        /**
+         * Returns the number of commands that were run, including the ones that failed.
+         */
+        public int getExecuted() {
+            return executed;
+        }
+
+        public int getFailed() {
+            return failed;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(MESSAGE_SUMMARY, executed, failed);
+        }
+    }
+}
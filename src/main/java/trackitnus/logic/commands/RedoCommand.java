@@ -0,0 +1,30 @@
+package trackitnus.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import trackitnus.commons.core.Messages;
+import trackitnus.logic.commands.exceptions.CommandException;
+import trackitnus.model.Model;
+
+/**
+ * Reapplies the changes of the command that was last undone.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Reapplies the command that was last undone.\n"
+        + "Example: " + COMMAND_WORD;
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canRedoTrackIter()) {
+            throw new CommandException(Messages.MESSAGE_NOTHING_TO_REDO);
+        }
+
+        model.redoTrackIter();
+        return new CommandResult(Messages.MESSAGE_REDO_SUCCESS);
+    }
+}
@@ -0,0 +1,45 @@
+package trackitnus.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import trackitnus.logic.CommandMetrics;
+import trackitnus.model.Model;
+
+/**
+ * Shows how long each kind of command and the saves of the data have taken so far.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows how long commands and saves have taken.\n"
+        + "Example: " + COMMAND_WORD;
+
+    private final CommandMetrics metrics;
+
+    /**
+     * Creates a {@code StatsCommand} that shows the report of {@code metrics}.
+     */
+    public StatsCommand(CommandMetrics metrics) {
+        requireNonNull(metrics);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(metrics.getReport());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof StatsCommand // instanceof handles nulls
+            && metrics == ((StatsCommand) other).metrics);
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(metrics);
+    }
+}
@@ -0,0 +1,30 @@
+package trackitnus.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import trackitnus.commons.core.Messages;
+import trackitnus.logic.commands.exceptions.CommandException;
+import trackitnus.model.Model;
+
+/**
+ * Restores the app data to its state before the previous command that modified it.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Reverts the previous command that modified the data.\n"
+        + "Example: " + COMMAND_WORD;
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canUndoTrackIter()) {
+            throw new CommandException(Messages.MESSAGE_NOTHING_TO_UNDO);
+        }
+
+        model.undoTrackIter();
+        return new CommandResult(Messages.MESSAGE_UNDO_SUCCESS);
+    }
+}
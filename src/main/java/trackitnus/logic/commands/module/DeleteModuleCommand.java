@@ -2,8 +2,6 @@ package trackitnus.logic.commands.module;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
 
 import trackitnus.commons.core.Messages;
@@ -45,20 +43,20 @@ public final class DeleteModuleCommand extends Command {
             throw new CommandException(Messages.MESSAGE_MODULE_DOES_NOT_EXIST);
         }
 
-        // delete all the related tasks
-        List<Task> tasksToDelete = new ArrayList<>(model.getModuleTasks(targetCode));
-        for (Task task : tasksToDelete) {
-            model.deleteTask(task);
-        }
+        model.batch(trackIter -> {
+            // delete all the related tasks
+            for (Task task : trackIter.getModuleTasks(targetCode)) {
+                trackIter.removeTask(task);
+            }
 
-        // delete all the related lessons
-        List<Lesson> lessonsToDelete = new ArrayList<>(model.getModuleLessons(targetCode));
-        for (Lesson lesson : lessonsToDelete) {
-            model.deleteLesson(lesson);
-        }
+            // delete all the related lessons
+            for (Lesson lesson : trackIter.getModuleLessons(targetCode)) {
+                trackIter.removeLesson(lesson);
+            }
 
-        // delete the module
-        model.deleteModule(moduleToDelete.get());
+            // delete the module
+            trackIter.removeModule(moduleToDelete.get());
+        });
         return new CommandResult(String.format(Messages.MESSAGE_DELETE_MODULE_SUCCESS, moduleToDelete.get()),
             targetCode.code);
     }
@@ -5,8 +5,6 @@ import static trackitnus.commons.core.Messages.MESSAGE_DUPLICATE_MODULE;
 import static trackitnus.logic.parser.CliSyntax.PREFIX_CODE;
 import static trackitnus.logic.parser.CliSyntax.PREFIX_NAME;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
 
 import trackitnus.commons.core.Messages;
@@ -83,32 +81,29 @@ public final class EditModuleCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_MODULE);
         }
 
-        if (!moduleToEdit.hasSameCode(editedModule)) {
-            Code updatedCode = editModuleDescriptor.getCode().orElseThrow(RuntimeException::new);
-            // edit all the related tasks
-            List<Task> tasksToEdit = new ArrayList<>(model.getModuleTasks(code));
-            for (Task task : tasksToEdit) {
-                Task updatedTask = task.setCode(updatedCode);
-                model.setTask(task, updatedTask);
+        model.batch(trackIter -> {
+            if (!moduleToEdit.hasSameCode(editedModule)) {
+                Code updatedCode = editedModule.getCode();
+                // edit all the related tasks
+                for (Task task : trackIter.getModuleTasks(code)) {
+                    trackIter.setTask(task, task.setCode(updatedCode));
+                }
+
+                // edit all the related lessons
+                for (Lesson lesson : trackIter.getModuleLessons(code)) {
+                    trackIter.setLesson(lesson, lesson.setCode(updatedCode));
+                }
+
+                // edit all the related contacts
+                for (Contact contact : trackIter.getModuleContacts(code)) {
+                    trackIter.setContact(contact,
+                        contact.setTag(new Tag(code.toString()), new Tag(updatedCode.toString())));
+                }
             }
 
-            // edit all the related lessons
-            List<Lesson> lessonsToEdit = new ArrayList<>(model.getModuleLessons(code));
-            for (Lesson lesson : lessonsToEdit) {
-                Lesson updatedLesson = lesson.setCode(updatedCode);
-                model.setLesson(lesson, updatedLesson);
-            }
-
-            // edit all the related contacts
-            List<Contact> contactsToEdit = new ArrayList<>(model.getModuleContacts(code));
-            for (Contact contact : contactsToEdit) {
-                Contact updatedContact = contact.setTag(new Tag(code.toString()), new Tag(updatedCode.toString()));
-                model.setContact(contact, updatedContact);
-            }
-        }
-
-        // edit the module
-        model.setModule(moduleToEdit, editedModule);
+            // edit the module
+            trackIter.setModule(moduleToEdit, editedModule);
+        });
         return new CommandResult(String.format(Messages.MESSAGE_EDIT_MODULE_SUCCESS, editedModule), editedModule,
             moduleToEdit);
     }
@@ -1,9 +1,6 @@
 package trackitnus.logic.parser;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
+import static java.util.Objects.requireNonNull;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -12,137 +9,87 @@ import java.util.stream.Collectors;
  * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
  * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code t/}
  * in the above example.<br>
+ * <p>
+ * A prefix is only recognized right after a space. A tokenizer is created once for the prefixes of a command, and
+ * then finds all of them in a single pass over each arguments string, in the order they appear.
  */
 public class ArgumentTokenizer {
 
-    /**
-     * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
-     * respective argument values. Only the given prefixes will be recognized in the arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to tokenize the arguments string with
-     * @return ArgumentMultimap object that maps prefixes to their arguments
-     */
-    public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
-    }
+    /** The key of the preamble in the tokenized arguments. */
+    private static final Prefix PREAMBLE = new Prefix("");
 
-    /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-            .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-            .collect(Collectors.toList());
-    }
+    private final Prefix[] prefixes;
+    private final String[] prefixStrings;
+    private final char[] firstChars;
 
     /**
-     * {@see findAllPrefixPositions}
+     * Creates a tokenizer that recognizes the given {@code prefixes} in arguments strings.
+     *
+     * @param prefixes Prefixes to tokenize arguments strings with. They must not be empty or contain spaces, and
+     *                 none of them may start with another one, so that at most one prefix can start at a position.
+     * @throws IllegalArgumentException if the prefixes do not meet these conditions.
      */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
+    public ArgumentTokenizer(Prefix... prefixes) {
+        requireNonNull(prefixes);
+        this.prefixes = prefixes.clone();
+        prefixStrings = new String[prefixes.length];
+        firstChars = new char[prefixes.length];
+        for (int i = 0; i < prefixes.length; i++) {
+            String prefix = prefixes[i].getPrefix();
+            if (prefix.isEmpty() || prefix.indexOf(' ') != -1) {
+                throw new IllegalArgumentException("Invalid prefix: \"" + prefix + "\"");
+            }
+            for (int j = 0; j < i; j++) {
+                if (prefix.startsWith(prefixStrings[j]) || prefixStrings[j].startsWith(prefix)) {
+                    throw new IllegalArgumentException("Ambiguous prefixes: " + prefixStrings[j] + " and " + prefix);
+                }
+            }
+            prefixStrings[i] = prefix;
+            firstChars[i] = prefix.charAt(0);
         }
-
-        return positions;
-    }
-
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     * <p>
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-            : prefixIndex + 1; // +1 as offset for whitespace
     }
 
     /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
+     * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
+     * respective argument values. Only the prefixes of this tokenizer will be recognized in the arguments string.
      *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
+     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
      * @return ArgumentMultimap object that maps prefixes to their arguments
      */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
+    public ArgumentMultimap tokenize(String argsString) {
         ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+        Prefix currentPrefix = PREAMBLE;
+        int valueStartPos = 0;
+
+        for (int i = 1; i < argsString.length(); i++) {
+            if (argsString.charAt(i - 1) != ' ') {
+                continue;
+            }
+            int match = findPrefixAt(argsString, i);
+            if (match == -1) {
+                continue;
+            }
+            argMultimap.put(currentPrefix, argsString.substring(valueStartPos, i).trim());
+            currentPrefix = prefixes[match];
+            valueStartPos = i + prefixStrings[match].length();
+            // prefixes contain no spaces, so the next one cannot start before this one ends
+            i = valueStartPos - 1;
         }
+        argMultimap.put(currentPrefix, argsString.substring(valueStartPos).trim());
 
         return argMultimap;
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
-     */
-    private static String extractArgumentValue(String argsString,
-                                               PrefixPosition currentPrefixPosition,
-                                               PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value.trim();
-    }
-
-    /**
-     * Represents a prefix's position in an arguments string.
+     * Returns the index of the prefix that starts at {@code position} in {@code argsString}, or -1 if there is none.
      */
-    private static class PrefixPosition {
-        private final Prefix prefix;
-        private final int startPosition;
-
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
-        }
-
-        int getStartPosition() {
-            return startPosition;
-        }
-
-        Prefix getPrefix() {
-            return prefix;
+    private int findPrefixAt(String argsString, int position) {
+        char firstChar = argsString.charAt(position);
+        for (int i = 0; i < prefixStrings.length; i++) {
+            if (firstChars[i] == firstChar && argsString.startsWith(prefixStrings[i], position)) {
+                return i;
+            }
         }
+        return -1;
     }
-
 }
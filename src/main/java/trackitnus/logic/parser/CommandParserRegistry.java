@@ -0,0 +1,53 @@
+package trackitnus.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import trackitnus.logic.commands.Command;
+
+/**
+ * Maps each command, identified by its type and command word, to the parser of its arguments.
+ * <p>
+ * Parsers are registered once and then shared by every command they parse, so they must not keep any state between
+ * calls to {@link Parser#parse(String)}.
+ */
+public class CommandParserRegistry {
+
+    private final Map<String, Map<String, Parser<? extends Command>>> parsersByType = new HashMap<>();
+
+    /**
+     * Registers {@code parser} as the parser of the command with the given {@code type} and {@code commandWord}.
+     * Commands without a type are registered with the empty type.
+     *
+     * @throws IllegalArgumentException if a parser is already registered for that command.
+     */
+    public CommandParserRegistry register(String type, String commandWord, Parser<? extends Command> parser) {
+        requireNonNull(type);
+        requireNonNull(commandWord);
+        requireNonNull(parser);
+        Parser<? extends Command> previous = parsersByType.computeIfAbsent(type, unused -> new HashMap<>())
+            .putIfAbsent(commandWord, parser);
+        if (previous != null) {
+            throw new IllegalArgumentException("Command already registered: " + type + " " + commandWord);
+        }
+        return this;
+    }
+
+    /**
+     * Returns true if a command of the given {@code type} is registered.
+     */
+    public boolean hasType(String type) {
+        return parsersByType.containsKey(type);
+    }
+
+    /**
+     * Returns the parser of the command with the given {@code type} and {@code commandWord}, if it is registered.
+     */
+    public Optional<Parser<? extends Command>> getParser(String type, String commandWord) {
+        Map<String, Parser<? extends Command>> parsers = parsersByType.get(type);
+        return parsers == null ? Optional.empty() : Optional.ofNullable(parsers.get(commandWord));
+    }
+}
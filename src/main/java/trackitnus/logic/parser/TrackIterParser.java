@@ -1,12 +1,11 @@
 package trackitnus.logic.parser;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 import trackitnus.commons.core.Messages;
 import trackitnus.logic.commands.Command;
 import trackitnus.logic.commands.ExitCommand;
 import trackitnus.logic.commands.HelpCommand;
+import trackitnus.logic.commands.RedoCommand;
+import trackitnus.logic.commands.UndoCommand;
 import trackitnus.logic.commands.contact.AddContactCommand;
 import trackitnus.logic.commands.contact.DeleteContactCommand;
 import trackitnus.logic.commands.contact.EditContactCommand;
@@ -39,103 +38,121 @@ import trackitnus.model.task.Task;
 
 /**
  * Parses user input.
+ * <p>
+ * The user input is split into an optional type, a command word and the arguments, and the arguments are then parsed
+ * by the parser that the {@link CommandParserRegistry} holds for that type and command word.
  */
 public class TrackIterParser {
 
     /**
-     * Used for initial separation of command word and args.
+     * The parsers of all the commands of the app, which are shared by every {@code TrackIterParser}.
+     */
+    private static final CommandParserRegistry DEFAULT_REGISTRY = createDefaultRegistry();
+
+    private final CommandParserRegistry registry;
+
+    /**
+     * Creates a {@code TrackIterParser} that parses all the commands of the app.
+     */
+    public TrackIterParser() {
+        this(DEFAULT_REGISTRY);
+    }
+
+    /**
+     * Creates a {@code TrackIterParser} that parses the commands registered in {@code registry}.
+     */
+    public TrackIterParser(CommandParserRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Returns a registry holding the parsers of all the commands of the app.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<type>[A-Z]\\s+)?"
-        + "(?<commandWord>\\S+)(?<arguments>.*)");
+    public static CommandParserRegistry createDefaultRegistry() {
+        return new CommandParserRegistry()
+            .register(Contact.TYPE, AddContactCommand.COMMAND_WORD, new AddContactCommandParser())
+            .register(Contact.TYPE, EditContactCommand.COMMAND_WORD, new EditContactCommandParser())
+            .register(Contact.TYPE, DeleteContactCommand.COMMAND_WORD, new DeleteContactCommandParser())
+            .register(Module.TYPE, AddModuleCommand.COMMAND_WORD, new AddModuleCommandParser())
+            .register(Module.TYPE, EditModuleCommand.COMMAND_WORD, new EditModuleCommandParser())
+            .register(Module.TYPE, DeleteModuleCommand.COMMAND_WORD, new DeleteModuleCommandParser())
+            .register(Task.TYPE, AddTaskCommand.COMMAND_WORD, new AddTaskCommandParser())
+            .register(Task.TYPE, EditTaskCommand.COMMAND_WORD, new EditTaskCommandParser())
+            .register(Task.TYPE, DeleteTaskCommand.COMMAND_WORD, new DeleteTaskCommandParser())
+            .register(Lesson.TYPE, AddLessonCommand.COMMAND_WORD, new AddLessonCommandParser())
+            .register(Lesson.TYPE, EditLessonCommand.COMMAND_WORD, new EditLessonCommandParser())
+            .register(Lesson.TYPE, DeleteLessonCommand.COMMAND_WORD, new DeleteLessonCommandParser())
+            .register("", ExitCommand.COMMAND_WORD, arguments -> new ExitCommand())
+            .register("", HelpCommand.COMMAND_WORD, arguments -> new HelpCommand())
+            .register("", UndoCommand.COMMAND_WORD, arguments -> new UndoCommand())
+            .register("", RedoCommand.COMMAND_WORD, arguments -> new RedoCommand());
+    }
 
     /**
      * Parses user input into command for execution.
+     * <p>
+     * The user input is of the form {@code [TYPE] COMMAND_WORD [ARGUMENTS]}, where the type is a single uppercase
+     * letter followed by whitespace, and the arguments may not span several lines.
      *
      * @param userInput full user input string
      * @return the command based on the user input
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
-            throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
-        }
-
-        final String type = matcher.group("type") == null ? "" : matcher.group("type").trim();
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
-
-        switch (type) {
-        case Contact.TYPE:
-            switch (commandWord) {
-            case AddContactCommand.COMMAND_WORD:
-                return new AddContactCommandParser().parse(arguments);
-
-            case EditContactCommand.COMMAND_WORD:
-                return new EditContactCommandParser().parse(arguments);
-
-            case DeleteContactCommand.COMMAND_WORD:
-                return new DeleteContactCommandParser().parse(arguments);
-
-            default:
-                throw new ParseException(Messages.MESSAGE_UNKNOWN_COMMAND);
-            }
-        case Module.TYPE:
-            switch (commandWord) {
-            case AddModuleCommand.COMMAND_WORD:
-                return new AddModuleCommandParser().parse(arguments);
-
-            case EditModuleCommand.COMMAND_WORD:
-                return new EditModuleCommandParser().parse(arguments);
-
-            case DeleteModuleCommand.COMMAND_WORD:
-                return new DeleteModuleCommandParser().parse(arguments);
-
-            default:
-                throw new ParseException(Messages.MESSAGE_UNKNOWN_COMMAND);
+        final String input = userInput.trim();
+        final int length = input.length();
+
+        int position = 0;
+        String type = "";
+        if (length > 1 && isTypeLetter(input.charAt(0)) && isWhitespace(input.charAt(1))) {
+            type = input.substring(0, 1);
+            position = 2;
+            while (isWhitespace(input.charAt(position))) {
+                // the trimmed input does not end with whitespace, so this stops before its end
+                position++;
             }
-        case Task.TYPE:
-            switch (commandWord) {
-            case AddTaskCommand.COMMAND_WORD:
-                return new AddTaskCommandParser().parse(arguments);
-
-            case EditTaskCommand.COMMAND_WORD:
-                return new EditTaskCommandParser().parse(arguments);
-
-            case DeleteTaskCommand.COMMAND_WORD:
-                return new DeleteTaskCommandParser().parse(arguments);
-
-            default:
-                throw new ParseException(Messages.MESSAGE_UNKNOWN_COMMAND);
-            }
-        case Lesson.TYPE:
-            switch (commandWord) {
-            case AddLessonCommand.COMMAND_WORD:
-                return new AddLessonCommandParser().parse(arguments);
-
-            case EditLessonCommand.COMMAND_WORD:
-                return new EditLessonCommandParser().parse(arguments);
+        }
 
-            case DeleteLessonCommand.COMMAND_WORD:
-                return new DeleteLessonCommandParser().parse(arguments);
+        final int commandWordStart = position;
+        while (position < length && !isWhitespace(input.charAt(position))) {
+            position++;
+        }
+        if (position == commandWordStart || hasLineTerminator(input, position)) {
+            throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
+        }
+        final String commandWord = input.substring(commandWordStart, position);
+        final String arguments = input.substring(position);
+
+        Parser<? extends Command> parser = registry.getParser(type, commandWord).orElse(null);
+        if (parser == null) {
+            throw new ParseException(registry.hasType(type)
+                ? Messages.MESSAGE_UNKNOWN_COMMAND
+                : Messages.MESSAGE_INVALID_TYPE);
+        }
+        return parser.parse(arguments);
+    }
 
-            default:
-                throw new ParseException(Messages.MESSAGE_UNKNOWN_COMMAND);
-            }
-        case "":
-            switch (commandWord) {
-            case ExitCommand.COMMAND_WORD:
-                return new ExitCommand();
+    private static boolean isTypeLetter(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
 
-            case HelpCommand.COMMAND_WORD:
-                return new HelpCommand();
+    /**
+     * Returns true if {@code c} separates the type, the command word and the arguments.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
 
-            default:
-                throw new ParseException(Messages.MESSAGE_UNKNOWN_COMMAND);
+    /**
+     * Returns true if {@code input} has a line terminator at or after {@code from}.
+     */
+    private static boolean hasLineTerminator(String input, int from) {
+        for (int i = from; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return true;
             }
-        default:
-            throw new ParseException(Messages.MESSAGE_INVALID_TYPE);
         }
+        return false;
     }
-
 }
@@ -24,6 +24,8 @@ import trackitnus.model.tag.Tag;
  * Parses input arguments and creates a new AddContactCommand object
  */
 public class AddContactCommandParser implements Parser<AddContactCommand> {
+    private static final ArgumentTokenizer TOKENIZER =
+        new ArgumentTokenizer(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_TAG);
 
     /**
      * Parses the given {@code String} of arguments in the context of the AddContactCommand
@@ -32,8 +34,7 @@ public class AddContactCommandParser implements Parser<AddContactCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public AddContactCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-            ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_TAG);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenize(args);
 
         if (!ParserUtil.arePrefixesPresent(argMultimap, PREFIX_NAME)
             || !argMultimap.getPreamble().isEmpty()) {
@@ -27,6 +27,8 @@ import trackitnus.model.tag.Tag;
  * Parses input arguments and creates a new EditContactCommand object
  */
 public class EditContactCommandParser implements Parser<EditContactCommand> {
+    private static final ArgumentTokenizer TOKENIZER =
+        new ArgumentTokenizer(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_TAG);
 
     /**
      * Parses the given {@code String} of arguments in the context of the EditContactCommand
@@ -36,8 +38,7 @@ public class EditContactCommandParser implements Parser<EditContactCommand> {
      */
     public EditContactCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap =
-            ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_TAG);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenize(args);
 
         Index index;
 
@@ -22,6 +22,8 @@ import trackitnus.model.lesson.Type;
  * Parses input arguments and creates a new AddLessonCommand object
  */
 public class AddLessonCommandParser implements Parser<AddLessonCommand> {
+    private static final ArgumentTokenizer TOKENIZER =
+        new ArgumentTokenizer(PREFIX_CODE, PREFIX_TYPE, PREFIX_DATE, PREFIX_ADDRESS);
 
     /**
      * Parses the given {@code String} of arguments in the context of the AddLessonCommand
@@ -30,9 +32,7 @@ public class AddLessonCommandParser implements Parser<AddLessonCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public AddLessonCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-            ArgumentTokenizer.tokenize(args,
-                PREFIX_CODE, PREFIX_TYPE, PREFIX_DATE, PREFIX_ADDRESS);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenize(args);
 
         if (!ParserUtil
             .arePrefixesPresent(argMultimap, PREFIX_CODE, PREFIX_TYPE, PREFIX_DATE, PREFIX_ADDRESS) || !argMultimap
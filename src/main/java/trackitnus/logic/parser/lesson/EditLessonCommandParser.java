@@ -25,6 +25,9 @@ import trackitnus.model.lesson.Type;
  * Parses input arguments and creates a new EditLessonCommand object
  */
 public class EditLessonCommandParser implements Parser<EditLessonCommand> {
+    private static final ArgumentTokenizer TOKENIZER =
+        new ArgumentTokenizer(PREFIX_CODE, PREFIX_TYPE, PREFIX_DATE, PREFIX_ADDRESS);
+
     /**
      * Parses the given {@code String} of arguments in the context of the EditLessonCommand
      * and returns an EditLessonCommand object for execution.
@@ -33,9 +36,7 @@ public class EditLessonCommandParser implements Parser<EditLessonCommand> {
      */
     public EditLessonCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap =
-            ArgumentTokenizer.tokenize(args,
-                PREFIX_CODE, PREFIX_TYPE, PREFIX_DATE, PREFIX_ADDRESS);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenize(args);
         Index index;
 
         try {
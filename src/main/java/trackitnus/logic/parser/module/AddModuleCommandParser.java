@@ -18,6 +18,7 @@ import trackitnus.model.module.Module;
  * Parses input arguments and creates a new AddModuleCommand object
  */
 public class AddModuleCommandParser implements Parser<AddModuleCommand> {
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_CODE, PREFIX_NAME);
 
     /**
      * Parses the given {@code String} of arguments in the context of the AddModuleCommand
@@ -26,8 +27,7 @@ public class AddModuleCommandParser implements Parser<AddModuleCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public AddModuleCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-            ArgumentTokenizer.tokenize(args, PREFIX_CODE, PREFIX_NAME);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenize(args);
 
         if (!ParserUtil.arePrefixesPresent(argMultimap, PREFIX_CODE, PREFIX_NAME) || !argMultimap.getPreamble()
             .isEmpty()) {
@@ -13,6 +13,8 @@ import trackitnus.model.commons.Code;
  * Parses input arguments and creates a new DeleteModuleCommand object
  */
 public class DeleteModuleCommandParser implements Parser<DeleteModuleCommand> {
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer();
+
     /**
      * Parses the given {@code String} of arguments in the context of the DeleteModuleCommand
      * and returns a DeleteModuleCommand object for execution.
@@ -20,7 +22,7 @@ public class DeleteModuleCommandParser implements Parser<DeleteModuleCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public DeleteModuleCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenize(args);
 
         if (argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
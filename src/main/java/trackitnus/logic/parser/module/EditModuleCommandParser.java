@@ -18,6 +18,7 @@ import trackitnus.model.commons.Code;
  * Parses input arguments and creates a new EditModuleCommand object
  */
 public class EditModuleCommandParser implements Parser<EditModuleCommand> {
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_CODE, PREFIX_NAME);
 
     /**
      * Parses the given {@code String} of arguments in the context of the EditModuleCommand
@@ -27,8 +28,7 @@ public class EditModuleCommandParser implements Parser<EditModuleCommand> {
      */
     public EditModuleCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap =
-            ArgumentTokenizer.tokenize(args, PREFIX_CODE, PREFIX_NAME);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenize(args);
 
         if (argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
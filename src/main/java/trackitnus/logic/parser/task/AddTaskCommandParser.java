@@ -19,6 +19,8 @@ import trackitnus.model.commons.Name;
 import trackitnus.model.task.Task;
 
 public class AddTaskCommandParser implements Parser<AddTaskCommand> {
+    private static final ArgumentTokenizer TOKENIZER =
+        new ArgumentTokenizer(PREFIX_NAME, PREFIX_DATE, PREFIX_CODE, PREFIX_REMARK);
 
     /**
      * Parses the given {@code String} of arguments in the context of the AddTaskCommand
@@ -27,8 +29,7 @@ public class AddTaskCommandParser implements Parser<AddTaskCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public AddTaskCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-            ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_DATE, PREFIX_CODE, PREFIX_REMARK);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenize(args);
 
         if (!ParserUtil.arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_DATE)
             || !argMultimap.getPreamble().isEmpty()) {
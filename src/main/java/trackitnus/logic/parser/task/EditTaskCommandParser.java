@@ -21,6 +21,8 @@ import trackitnus.logic.parser.exceptions.ParseException;
  * Parses input arguments and creates a new EditTaskCommand object
  */
 public class EditTaskCommandParser implements Parser<EditTaskCommand> {
+    private static final ArgumentTokenizer TOKENIZER =
+        new ArgumentTokenizer(PREFIX_NAME, PREFIX_DATE, PREFIX_CODE, PREFIX_REMARK);
 
     /**
      * Parses the given {@code String} of arguments in the context of the EditTaskCommand
@@ -30,8 +32,7 @@ public class EditTaskCommandParser implements Parser<EditTaskCommand> {
      */
     public EditTaskCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap =
-            ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_DATE, PREFIX_CODE, PREFIX_REMARK);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenize(args);
 
         Index index;
         try {
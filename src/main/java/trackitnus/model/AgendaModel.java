@@ -0,0 +1,298 @@
+package trackitnus.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import trackitnus.commons.util.CollectionUtil;
+import trackitnus.model.lesson.DayOfWeek;
+import trackitnus.model.lesson.Lesson;
+import trackitnus.model.lesson.LessonComparator;
+import trackitnus.model.task.Task;
+import trackitnus.model.task.TaskComparator;
+import trackitnus.model.util.BatchObservableList;
+
+/**
+ * Buckets the tasks and lessons of a {@code TrackIter} by day, for the Upcoming tab.
+ * <p>
+ * Each {@link Day} has a live list of the tasks due on it, and of the lessons on its day of the week. The agenda
+ * listens to the change events of the task and lesson lists, and applies each added or removed item only to the
+ * bucket of its own day, so that a view bound to a day is only notified when an item of that day changes. Lessons
+ * repeat every week, so all days on the same day of the week share one lesson bucket.
+ * <p>
+ * Both lists are kept in chronological order, so the tasks of a day, and the lessons of a day of the week, are
+ * consecutive in them. Each day therefore also tells the position of its first task in the task list, and of its
+ * first lesson in the lesson list, from which the indexes of its items are computed without looking each one up.
+ * These positions are updated after every change, and only notify their listeners if they moved.
+ * <p>
+ * Every day handed out is kept up to date for as long as it is referenced. The agenda only holds its days weakly, so
+ * the days that are no longer shown are dropped once they are garbage collected.
+ */
+public class AgendaModel {
+
+    private static final Comparator<Task> TASK_COMPARATOR = new TaskComparator();
+    // Within a day of the week, lessons are ordered by time whatever the anchor is
+    private static final Comparator<Lesson> LESSON_COMPARATOR = new LessonComparator(DayOfWeek.Sun);
+
+    private final ObservableList<Task> tasks;
+    private final ObservableList<Lesson> lessons;
+    private final Map<DayOfWeek, WeekdayLessons> lessonsByWeekday = new EnumMap<>(DayOfWeek.class);
+    private final Map<Long, DayReference> days = new HashMap<>();
+    private final ReferenceQueue<Day> collectedDays = new ReferenceQueue<>();
+
+    /**
+     * Creates an agenda of {@code tasks} and {@code lessons}, which must be kept sorted by {@code TaskComparator} and
+     * {@code LessonComparator} respectively.
+     */
+    public AgendaModel(ObservableList<Task> tasks, ObservableList<Lesson> lessons) {
+        requireNonNull(tasks);
+        requireNonNull(lessons);
+        this.tasks = tasks;
+        this.lessons = lessons;
+
+        for (DayOfWeek weekday : DayOfWeek.values()) {
+            lessonsByWeekday.put(weekday, new WeekdayLessons());
+        }
+        for (Lesson lesson : lessons) {
+            lessonsByWeekday.get(lesson.getWeekday()).lessons.add(lesson);
+        }
+        lessonsByWeekday.values().forEach(weekdayLessons -> weekdayLessons.lessons.sort(LESSON_COMPARATOR));
+        updateFirstLessonIndexes();
+
+        tasks.addListener(this::onTasksChanged);
+        lessons.addListener(this::onLessonsChanged);
+    }
+
+    /**
+     * Returns the agenda of {@code date}.
+     */
+    public Day getDay(LocalDate date) {
+        requireNonNull(date);
+        removeCollectedDays();
+        Day day = getLiveDay(date.toEpochDay());
+        if (day == null) {
+            day = new Day(date);
+            days.put(day.epochDay, new DayReference(day, collectedDays));
+        }
+        return day;
+    }
+
+    /**
+     * Returns the agendas of the days from {@code startDate} inclusive to {@code endDate} exclusive, in order. An
+     * empty range returns no days.
+     */
+    public List<Day> getDays(LocalDate startDate, LocalDate endDate) {
+        requireNonNull(startDate);
+        requireNonNull(endDate);
+        if (!endDate.isAfter(startDate)) {
+            return List.of();
+        }
+        return startDate.datesUntil(endDate).map(this::getDay).collect(Collectors.toList());
+    }
+
+    private void onTasksChanged(ListChangeListener.Change<? extends Task> change) {
+        // holding the live days keeps them from being collected halfway through
+        List<Day> liveDays = getLiveDays();
+        liveDays.forEach(day -> day.tasks.beginBatch());
+        try {
+            while (change.next()) {
+                // tasks are kept sorted, so a permutation does not move a task to another day
+                for (Task removed : change.getRemoved()) {
+                    Day day = getLiveDay(removed.getDate().toEpochDay());
+                    if (day != null) {
+                        day.tasks.remove(removed);
+                    }
+                }
+                for (Task added : change.getAddedSubList()) {
+                    Day day = getLiveDay(added.getDate().toEpochDay());
+                    if (day != null) {
+                        day.tasks.add(CollectionUtil.upperBound(day.tasks, added, TASK_COMPARATOR), added);
+                    }
+                }
+            }
+        } finally {
+            liveDays.forEach(day -> day.tasks.endBatch());
+        }
+        liveDays.forEach(Day::updateFirstTaskIndex);
+    }
+
+    /**
+     * Returns the day of {@code epochDay} if it is still in use, or null otherwise.
+     */
+    private Day getLiveDay(long epochDay) {
+        DayReference reference = days.get(epochDay);
+        return reference == null ? null : reference.get();
+    }
+
+    /**
+     * Returns the days that are still in use.
+     */
+    private List<Day> getLiveDays() {
+        removeCollectedDays();
+        List<Day> liveDays = new ArrayList<>(days.size());
+        for (DayReference reference : days.values()) {
+            Day day = reference.get();
+            if (day != null) {
+                liveDays.add(day);
+            }
+        }
+        return liveDays;
+    }
+
+    /**
+     * Stops updating the days that have been garbage collected.
+     */
+    private void removeCollectedDays() {
+        Reference<? extends Day> collected;
+        while ((collected = collectedDays.poll()) != null) {
+            DayReference reference = (DayReference) collected;
+            // the day may already have been requested again
+            days.remove(reference.epochDay, reference);
+        }
+    }
+
+    private void onLessonsChanged(ListChangeListener.Change<? extends Lesson> change) {
+        lessonsByWeekday.values().forEach(weekdayLessons -> weekdayLessons.lessons.beginBatch());
+        try {
+            while (change.next()) {
+                // a permutation only rotates the week, which does not move a lesson to another day
+                for (Lesson removed : change.getRemoved()) {
+                    lessonsByWeekday.get(removed.getWeekday()).lessons.remove(removed);
+                }
+                for (Lesson added : change.getAddedSubList()) {
+                    List<Lesson> weekdayLessons = lessonsByWeekday.get(added.getWeekday()).lessons;
+                    weekdayLessons.add(CollectionUtil.upperBound(weekdayLessons, added, LESSON_COMPARATOR), added);
+                }
+            }
+        } finally {
+            lessonsByWeekday.values().forEach(weekdayLessons -> weekdayLessons.lessons.endBatch());
+        }
+        updateFirstLessonIndexes();
+    }
+
+    /**
+     * Updates the position of the first lesson of each day of the week in the lesson list. The lesson list starts
+     * from an anchor day of the week and wraps around the end of the week, so the days of the week are consecutive in
+     * it, in order from the day of its first lesson.
+     */
+    private void updateFirstLessonIndexes() {
+        DayOfWeek first = lessons.isEmpty() ? DayOfWeek.Sun : lessons.get(0).getWeekday();
+        lessonsByWeekday.forEach((weekday, weekdayLessons) -> weekdayLessons.firstIndex.set(lowerBound(lessons,
+            lesson -> DayOfWeek.distanceBetweenTwoDay(first, lesson.getWeekday()),
+            DayOfWeek.distanceBetweenTwoDay(first, weekday))));
+    }
+
+    /**
+     * Returns the position of the first element of {@code sortedList} whose key is at least {@code key}, where
+     * {@code sortedList} is sorted by the keys given by {@code keyExtractor}.
+     */
+    private static <T> int lowerBound(List<? extends T> sortedList, ToLongFunction<? super T> keyExtractor,
+                                      long key) {
+        int low = 0;
+        int high = sortedList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keyExtractor.applyAsLong(sortedList.get(mid)) < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * A weak reference to the {@code Day} of {@code epochDay}.
+     */
+    private static class DayReference extends WeakReference<Day> {
+        private final long epochDay;
+
+        DayReference(Day day, ReferenceQueue<Day> collectedDays) {
+            super(day, collectedDays);
+            epochDay = day.epochDay;
+        }
+    }
+
+    /**
+     * The lessons on one day of the week.
+     */
+    private static class WeekdayLessons {
+        private final BatchObservableList<Lesson> lessons = new BatchObservableList<>();
+        private final ObservableList<Lesson> unmodifiableLessons = FXCollections.unmodifiableObservableList(lessons);
+        private final ReadOnlyIntegerWrapper firstIndex = new ReadOnlyIntegerWrapper();
+    }
+
+    /**
+     * The tasks and lessons of one day.
+     */
+    public class Day {
+        private final LocalDate date;
+        private final long epochDay;
+        private final BatchObservableList<Task> tasks = new BatchObservableList<>();
+        private final ObservableList<Task> unmodifiableTasks = FXCollections.unmodifiableObservableList(tasks);
+        private final ReadOnlyIntegerWrapper firstTaskIndex = new ReadOnlyIntegerWrapper();
+        private final WeekdayLessons weekdayLessons;
+
+        private Day(LocalDate date) {
+            this.date = date;
+            epochDay = date.toEpochDay();
+            weekdayLessons = lessonsByWeekday.get(DayOfWeek.getLessonWeekDay(date));
+            updateFirstTaskIndex();
+            List<Task> allTasks = AgendaModel.this.tasks;
+            tasks.addAll(allTasks.subList(firstTaskIndex.get(),
+                lowerBound(allTasks, task -> task.getDate().toEpochDay(), epochDay + 1)));
+        }
+
+        public LocalDate getDate() {
+            return date;
+        }
+
+        /**
+         * Returns a live, unmodifiable list of the tasks due on this day, in {@code TaskComparator} order.
+         */
+        public ObservableList<Task> getTasks() {
+            return unmodifiableTasks;
+        }
+
+        /**
+         * Returns a live, unmodifiable list of the lessons on the day of the week of this day, in order of time.
+         */
+        public ObservableList<Lesson> getLessons() {
+            return weekdayLessons.unmodifiableLessons;
+        }
+
+        /**
+         * Returns the zero-based position in the task list of the first task of this day.
+         */
+        public ReadOnlyIntegerProperty firstTaskIndexProperty() {
+            return firstTaskIndex.getReadOnlyProperty();
+        }
+
+        /**
+         * Returns the zero-based position in the lesson list of the first lesson of this day.
+         */
+        public ReadOnlyIntegerProperty firstLessonIndexProperty() {
+            return weekdayLessons.firstIndex.getReadOnlyProperty();
+        }
+
+        private void updateFirstTaskIndex() {
+            firstTaskIndex.set(lowerBound(AgendaModel.this.tasks, task -> task.getDate().toEpochDay(), epochDay));
+        }
+    }
+}
@@ -1,8 +1,9 @@
 package trackitnus.model;
 
 import java.nio.file.Path;
-import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -70,6 +71,47 @@ public interface Model {
      */
     void setTrackIter(ReadOnlyTrackIter trackIt);
 
+    /**
+     * Replaces TrackIter data with the data loaded from storage in {@code trackIt}, and starts the undo history over
+     * from it.
+     */
+    void loadTrackIter(ReadOnlyTrackIter trackIt);
+
+    /**
+     * Applies {@code mutations} to the TrackIter as one transaction: views of the data are notified of all the
+     * modifications at once, and if {@code mutations} throws, none of its modifications are kept.
+     */
+    void batch(Consumer<MutableTrackIter> mutations);
+
+    //=========== Undo/Redo ================================================================================
+
+    /**
+     * Records the current TrackIter data in the undo history, if it was modified since it was last recorded.
+     */
+    void commitTrackIter();
+
+    /**
+     * Returns true if there is a previous TrackIter state to undo to.
+     */
+    boolean canUndoTrackIter();
+
+    /**
+     * Returns true if there is an undone TrackIter state to redo to.
+     */
+    boolean canRedoTrackIter();
+
+    /**
+     * Restores the TrackIter to its previous state.
+     * There must be a state to undo to.
+     */
+    void undoTrackIter();
+
+    /**
+     * Restores the TrackIter to the state that was last undone.
+     * There must be a state to redo to.
+     */
+    void redoTrackIter();
+
     //=========== Contact ================================================================================
 
     /**
@@ -108,7 +150,8 @@ public interface Model {
     ObservableList<Contact> getFilteredContactList();
 
     /**
-     * Updates the filter of the filtered contact list to filter by the given {@code predicate}.
+     * Makes the view of the contacts that match {@code predicate} the filtered contact list.
+     * Lists returned earlier by this model keep their own filters.
      *
      * @throws NullPointerException if {@code predicate} is null.
      */
@@ -189,7 +232,8 @@ public interface Model {
     ObservableList<Task> getFilteredTaskList();
 
     /**
-     * Updates the filter of the filtered task list to filter by the given {@code predicate}.
+     * Makes the view of the tasks that match {@code predicate} the filtered task list.
+     * Lists returned earlier by this model keep their own filters.
      *
      * @throws NullPointerException if {@code predicate} is null.
      */
@@ -243,11 +287,6 @@ public interface Model {
 
     //--------------------------------START of V1.3's new functions--------------------------------
 
-    /**
-     * @param date The date to query
-     * @return all lessons happens on that date
-     */
-    ObservableList<Lesson> getDayUpcomingLessons(LocalDate date);
 
     /**
      * @param code The module code to query
@@ -279,26 +318,50 @@ public interface Model {
      */
     ObservableList<Task> getModuleTasks(Code code);
 
+    /**
+     * Unlike {@link #getModuleTasks(Code)}, this does not change the filtered task list.
+     *
+     * @param code The module code to query
+     * @return all tasks of a specific module
+     */
+    List<Task> getTasksOfModule(Code code);
+
+    /**
+     * Unlike {@link #getModuleLessons(Code)}, this does not change the filtered lesson list.
+     *
+     * @param code The module code to query
+     * @return all lessons of a specific module
+     */
+    List<Lesson> getLessonsOfModule(Code code);
+
+    /**
+     * Unlike {@link #getModuleContacts(Code)}, this does not change the filtered contact list.
+     *
+     * @param code The module code to query
+     * @return all contacts tagged with a specific module
+     */
+    List<Contact> getContactsOfModule(Code code);
+
     /**
      * @return A list of tasks where each task's deadline is before today.
      */
     ObservableList<Task> getOverdueTasks();
 
     /**
-     * @return A list of tasks where each task's deadline is more than 7 days away.
+     * Makes all tasks and all lessons the filtered task and lesson lists, which the indexes of the agenda refer to.
      */
-    ObservableList<Task> getFutureTasks();
+    void showAgenda();
 
     /**
-     * @param date The date to query
-     * @return the list of all tasks that take place on the specified date
+     * @return the agenda of the tasks and lessons of each day
      */
-    ObservableList<Task> getDayUpcomingTasks(LocalDate date);
+    AgendaModel getAgenda();
 
     //--------------------------------END of V1.3's new functions--------------------------------
 
     /**
-     * Updates the filter of the filtered lesson list to filter by the given {@code predicate}.
+     * Makes the view of the lessons that match {@code predicate} the filtered lesson list.
+     * Lists returned earlier by this model keep their own filters.
      *
      * @throws NullPointerException if {@code predicate} is null.
      */
@@ -309,4 +372,9 @@ public interface Model {
      */
     void clearAllList();
 
+    /**
+     * Re-sorts the lessons if the day of the week has changed since they were last sorted.
+     */
+    void refreshLessonOrder();
+
 }
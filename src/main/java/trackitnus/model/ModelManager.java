@@ -6,6 +6,9 @@ import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -21,17 +24,15 @@ import trackitnus.model.commons.Code;
 import trackitnus.model.commons.Name;
 import trackitnus.model.contact.Contact;
 import trackitnus.model.contact.ContactHasTagPredicate;
-import trackitnus.model.lesson.DayOfWeek;
 import trackitnus.model.lesson.Lesson;
 import trackitnus.model.lesson.LessonHasCodePredicate;
-import trackitnus.model.lesson.LessonOnWeekdayPredicate;
 import trackitnus.model.module.Module;
 import trackitnus.model.tag.Tag;
 import trackitnus.model.task.Task;
-import trackitnus.model.task.TaskAfterDatePredicate;
 import trackitnus.model.task.TaskHasCodePredicate;
-import trackitnus.model.task.TaskIsOverduePredicate;
-import trackitnus.model.task.TaskOnDatePredicate;
+import trackitnus.model.util.PositionIndex;
+import trackitnus.model.util.ViewRegistry;
+import trackitnus.model.util.ViewRegistry.View;
 
 /**
  * Represents the in-memory model of the app data.
@@ -40,11 +41,20 @@ public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final TrackIter trackIter;
+    private final TrackIterHistory history;
     private final UserPrefs userPrefs;
-    private final FilteredList<Contact> filteredContacts;
     private final FilteredList<Module> filteredModules;
-    private final FilteredList<Task> filteredTasks;
-    private final FilteredList<Lesson> filteredLessons;
+    private final PositionIndex<Module, Code> modulePositions;
+    private final PositionIndex<Module, Code> filteredModulePositions;
+    private final ViewRegistry<Contact, Contact> contactViews;
+    private final ViewRegistry<Task, Task> taskViews;
+    private final ViewRegistry<Lesson, Lesson> lessonViews;
+    private final AgendaModel agenda;
+
+    // The views last shown to the user, which the indexes given in commands refer to
+    private View<Contact, Contact> shownContacts;
+    private View<Task, Task> shownTasks;
+    private View<Lesson, Lesson> shownLessons;
 
     /**
      * Initializes a ModelManager with the given trackIter and userPrefs.
@@ -57,10 +67,19 @@ public class ModelManager implements Model {
 
         this.trackIter = new TrackIter(trackIter);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredContacts = new FilteredList<>(this.trackIter.getContactList());
+        history = new TrackIterHistory(this.trackIter.getState());
         filteredModules = new FilteredList<>(this.trackIter.getModuleList());
-        filteredTasks = new FilteredList<>(this.trackIter.getTaskList());
-        filteredLessons = new FilteredList<>(this.trackIter.getLessonList());
+        modulePositions = new PositionIndex<>(this.trackIter.getModuleList(), Module::getCode);
+        filteredModulePositions = new PositionIndex<>(filteredModules, Module::getCode);
+        contactViews = new ViewRegistry<>(this.trackIter.getContactList(), Function.identity(),
+            PREDICATE_SHOW_ALL_CONTACTS);
+        taskViews = new ViewRegistry<>(this.trackIter.getTaskList(), Function.identity(), PREDICATE_SHOW_ALL_TASKS);
+        lessonViews = new ViewRegistry<>(this.trackIter.getLessonList(), Function.identity(),
+            PREDICATE_SHOW_ALL_LESSONS);
+        shownContacts = contactViews.getView(PREDICATE_SHOW_ALL_CONTACTS);
+        shownTasks = taskViews.getView(PREDICATE_SHOW_ALL_TASKS);
+        shownLessons = lessonViews.getView(PREDICATE_SHOW_ALL_LESSONS);
+        agenda = new AgendaModel(this.trackIter.getTaskList(), this.trackIter.getLessonList());
     }
 
     public ModelManager() {
@@ -111,7 +130,49 @@ public class ModelManager implements Model {
 
     @Override
     public void setTrackIter(ReadOnlyTrackIter trackIt) {
-        trackIter.resetData(trackIt);
+        requireNonNull(trackIt);
+        // views are notified once, of all the lists being replaced together
+        trackIter.batch(unused -> trackIter.resetData(trackIt));
+    }
+
+    @Override
+    public void loadTrackIter(ReadOnlyTrackIter trackIt) {
+        setTrackIter(trackIt);
+        history.reset(trackIter.getState());
+    }
+
+    @Override
+    public void batch(Consumer<MutableTrackIter> mutations) {
+        trackIter.batch(mutations);
+    }
+
+    //=========== Undo/Redo ================================================================================
+
+    @Override
+    public void commitTrackIter() {
+        history.commit(trackIter.getState());
+    }
+
+    @Override
+    public boolean canUndoTrackIter() {
+        return history.canUndo();
+    }
+
+    @Override
+    public boolean canRedoTrackIter() {
+        return history.canRedo();
+    }
+
+    @Override
+    public void undoTrackIter() {
+        trackIter.restore(history.undo());
+        history.amend(trackIter.getState());
+    }
+
+    @Override
+    public void redoTrackIter() {
+        trackIter.restore(history.redo());
+        history.amend(trackIter.getState());
     }
 
     @Override
@@ -145,13 +206,13 @@ public class ModelManager implements Model {
 
     @Override
     public ObservableList<Contact> getFilteredContactList() {
-        return filteredContacts;
+        return shownContacts.getItems();
     }
 
     @Override
     public void updateFilteredContactList(Predicate<Contact> predicate) {
         requireNonNull(predicate);
-        filteredContacts.setPredicate(predicate);
+        shownContacts = contactViews.getView(predicate);
     }
 
     @Override
@@ -168,13 +229,8 @@ public class ModelManager implements Model {
 
     @Override
     public Optional<Module> getModule(Code code) {
-        List<Module> allModules = trackIter.getModuleList();
-        for (Module module : allModules) {
-            if (module.getCode().equals(code)) {
-                return Optional.of(module);
-            }
-        }
-        return Optional.empty();
+        requireNonNull(code);
+        return modulePositions.get(code);
     }
 
     @Override
@@ -222,23 +278,23 @@ public class ModelManager implements Model {
 
     @Override
     public ObservableList<Task> getFilteredTaskList() {
-        return filteredTasks;
+        return shownTasks.getItems();
     }
 
     @Override
     public void updateFilteredTaskList(Predicate<Task> predicate) {
         requireNonNull(predicate);
-        filteredTasks.setPredicate(predicate);
+        shownTasks = taskViews.getView(predicate);
     }
 
     @Override
     public Index getTaskIndex(Task task) throws CommandException {
-        ObservableList<Task> taskList = getFilteredTaskList();
-        int index = taskList.indexOf(task);
-        if (index == -1) {
+        requireNonNull(task);
+        OptionalInt index = shownTasks.indexOf(task);
+        if (index.isEmpty()) {
             throw new CommandException(Messages.MESSAGE_TASK_DOES_NOT_EXIST);
         }
-        return Index.fromZeroBased(index);
+        return Index.fromZeroBased(index.getAsInt());
     }
 
     //=========== Lesson ================================================================================
@@ -270,8 +326,9 @@ public class ModelManager implements Model {
         trackIter.setLesson(target, editedLesson);
     }
 
-    private void sortLesson() {
-        trackIter.sortLesson();
+    @Override
+    public void refreshLessonOrder() {
+        trackIter.refreshLessonOrder();
     }
 
     @Override
@@ -283,15 +340,7 @@ public class ModelManager implements Model {
 
     @Override
     public ObservableList<Lesson> getFilteredLessonList() {
-        return filteredLessons;
-    }
-
-    @Override
-    public ObservableList<Lesson> getDayUpcomingLessons(LocalDate date) {
-        sortLesson();
-        updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
-        DayOfWeek weekday = DayOfWeek.getLessonWeekDay(date);
-        return getFilteredLessonList().filtered(new LessonOnWeekdayPredicate(weekday));
+        return shownLessons.getItems();
     }
 
     @Override
@@ -302,20 +351,22 @@ public class ModelManager implements Model {
 
     @Override
     public Index getLessonIndex(Lesson lesson) throws CommandException {
-        ObservableList<Lesson> lessonList = getFilteredLessonList();
-        int index = lessonList.indexOf(lesson);
-        if (index == -1) {
+        requireNonNull(lesson);
+        OptionalInt index = shownLessons.indexOf(lesson);
+        if (index.isEmpty()) {
             throw new CommandException(Messages.MESSAGE_LESSON_DOES_NOT_EXIST);
         }
-        return Index.fromZeroBased(index);
+        return Index.fromZeroBased(index.getAsInt());
     }
 
     @Override
     public Index getModuleIndex(Code code) throws CommandException {
-        ObservableList<Module> moduleList = getFilteredModuleList();
-        Module module = getModule(code).orElseThrow(() -> new CommandException(Messages.MESSAGE_MODULE_DOES_NOT_EXIST));
-        int index = moduleList.indexOf(module);
-        return Index.fromZeroBased(index);
+        requireNonNull(code);
+        OptionalInt index = filteredModulePositions.indexOf(code);
+        if (index.isEmpty()) {
+            throw new CommandException(Messages.MESSAGE_MODULE_DOES_NOT_EXIST);
+        }
+        return Index.fromZeroBased(index.getAsInt());
     }
 
     @Override
@@ -331,29 +382,45 @@ public class ModelManager implements Model {
         return getFilteredTaskList();
     }
 
+    @Override
+    public List<Task> getTasksOfModule(Code code) {
+        requireNonNull(code);
+        return trackIter.getModuleTasks(code);
+    }
+
+    @Override
+    public List<Lesson> getLessonsOfModule(Code code) {
+        requireNonNull(code);
+        return trackIter.getModuleLessons(code);
+    }
+
+    @Override
+    public List<Contact> getContactsOfModule(Code code) {
+        requireNonNull(code);
+        return trackIter.getModuleContacts(code);
+    }
+
     @Override
     public ObservableList<Task> getOverdueTasks() {
         updateFilteredTaskList(Model.PREDICATE_SHOW_ALL_TASKS);
-        return getFilteredTaskList().filtered(new TaskIsOverduePredicate());
+        return trackIter.getTasksBefore(LocalDate.now());
     }
 
     @Override
-    public ObservableList<Task> getFutureTasks() {
-        updateFilteredTaskList(Model.PREDICATE_SHOW_ALL_TASKS);
-        LocalDate oneWeekLater = LocalDate.now().plusWeeks(1);
-        return getFilteredTaskList().filtered(new TaskAfterDatePredicate(oneWeekLater));
+    public void showAgenda() {
+        updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
+        updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
     }
 
     @Override
-    public ObservableList<Task> getDayUpcomingTasks(LocalDate date) {
-        updateFilteredTaskList(Model.PREDICATE_SHOW_ALL_TASKS);
-        return getFilteredTaskList().filtered(new TaskOnDatePredicate(date));
+    public AgendaModel getAgenda() {
+        return agenda;
     }
 
     @Override
     public void updateFilteredLessonList(Predicate<Lesson> predicate) {
         requireNonNull(predicate);
-        filteredLessons.setPredicate(predicate);
+        shownLessons = lessonViews.getView(predicate);
     }
 
     @Override
@@ -372,10 +439,10 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return trackIter.equals(other.trackIter)
             && userPrefs.equals(other.userPrefs)
-            && filteredContacts.equals(other.filteredContacts)
+            && getFilteredContactList().equals(other.getFilteredContactList())
             && filteredModules.equals(other.filteredModules)
-            && filteredTasks.equals(other.filteredTasks)
-            && filteredLessons.equals(other.filteredLessons);
+            && getFilteredTaskList().equals(other.getFilteredTaskList())
+            && getFilteredLessonList().equals(other.getFilteredLessonList());
     }
 
 }
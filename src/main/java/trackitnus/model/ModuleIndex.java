@@ -0,0 +1,125 @@
+package trackitnus.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import trackitnus.model.commons.Code;
+import trackitnus.model.contact.Contact;
+import trackitnus.model.lesson.Lesson;
+import trackitnus.model.tag.Tag;
+import trackitnus.model.task.Task;
+
+/**
+ * A secondary index of a {@code TrackIter} that maps each module code to the tasks and lessons of that module,
+ * and to the contacts tagged with that code.
+ * Looking up the items of a module costs O(items in that module) instead of a scan over every item in the app.
+ * <p>
+ * The index must be updated by its owner on every add, set and remove of the indexed lists.
+ */
+class ModuleIndex {
+
+    private final Map<Code, Set<Task>> tasks = new HashMap<>();
+    private final Map<Code, Set<Lesson>> lessons = new HashMap<>();
+    private final Map<Tag, Set<Contact>> contacts = new HashMap<>();
+
+    //=========== Task ================================================================================
+
+    void addTask(Task task) {
+        task.getCode().ifPresent(code -> put(tasks, code, task));
+    }
+
+    void removeTask(Task task) {
+        task.getCode().ifPresent(code -> remove(tasks, code, task));
+    }
+
+    void setTasks(Collection<Task> newTasks) {
+        tasks.clear();
+        newTasks.forEach(this::addTask);
+    }
+
+    /**
+     * Returns the tasks of the module with the given {@code code}.
+     */
+    List<Task> getTasks(Code code) {
+        requireNonNull(code);
+        return get(tasks, code);
+    }
+
+    //=========== Lesson ================================================================================
+
+    void addLesson(Lesson lesson) {
+        put(lessons, lesson.getCode(), lesson);
+    }
+
+    void removeLesson(Lesson lesson) {
+        remove(lessons, lesson.getCode(), lesson);
+    }
+
+    void setLessons(Collection<Lesson> newLessons) {
+        lessons.clear();
+        newLessons.forEach(this::addLesson);
+    }
+
+    /**
+     * Returns the lessons of the module with the given {@code code}.
+     */
+    List<Lesson> getLessons(Code code) {
+        requireNonNull(code);
+        return get(lessons, code);
+    }
+
+    //=========== Contact ================================================================================
+
+    void addContact(Contact contact) {
+        contact.getTags().forEach(tag -> put(contacts, tag, contact));
+    }
+
+    void removeContact(Contact contact) {
+        contact.getTags().forEach(tag -> remove(contacts, tag, contact));
+    }
+
+    void setContacts(Collection<Contact> newContacts) {
+        contacts.clear();
+        newContacts.forEach(this::addContact);
+    }
+
+    /**
+     * Returns the contacts tagged with the given module {@code code}.
+     */
+    List<Contact> getContacts(Code code) {
+        requireNonNull(code);
+        return get(contacts, new Tag(code.code));
+    }
+
+    //=========== Util ================================================================================
+
+    private static <K, V> void put(Map<K, Set<V>> map, K key, V value) {
+        map.computeIfAbsent(key, unused -> new LinkedHashSet<>()).add(value);
+    }
+
+    private static <K, V> void remove(Map<K, Set<V>> map, K key, V value) {
+        Set<V> values = map.get(key);
+        if (values == null) {
+            return;
+        }
+        values.remove(value);
+        if (values.isEmpty()) {
+            map.remove(key);
+        }
+    }
+
+    /**
+     * Returns an immutable copy of the values under {@code key}, so callers may mutate the indexed lists while
+     * iterating over the result.
+     */
+    private static <K, V> List<V> get(Map<K, Set<V>> map, K key) {
+        Set<V> values = map.get(key);
+        return values == null ? List.of() : List.copyOf(values);
+    }
+}
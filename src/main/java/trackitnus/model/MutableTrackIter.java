@@ -0,0 +1,112 @@
+package trackitnus.model;
+
+import java.util.List;
+
+import trackitnus.model.commons.Code;
+import trackitnus.model.contact.Contact;
+import trackitnus.model.lesson.Lesson;
+import trackitnus.model.module.Module;
+import trackitnus.model.task.Task;
+
+/**
+ * The operations available to a batch of modifications of a TrackIter.
+ *
+ * @see Model#batch(java.util.function.Consumer)
+ */
+public interface MutableTrackIter extends ReadOnlyTrackIter {
+
+    /**
+     * Returns true if a module with the same identity as {@code module} exists.
+     */
+    boolean hasModule(Module module);
+
+    /**
+     * Adds a module, which must not already exist.
+     */
+    void addModule(Module module);
+
+    /**
+     * Replaces {@code moduleToEdit}, which must exist, with {@code editedModule}.
+     */
+    void setModule(Module moduleToEdit, Module editedModule);
+
+    /**
+     * Removes {@code module}, which must exist.
+     */
+    void removeModule(Module module);
+
+    /**
+     * Returns true if a contact with the same identity as {@code contact} exists.
+     */
+    boolean hasContact(Contact contact);
+
+    /**
+     * Adds a contact, which must not already exist.
+     */
+    void addContact(Contact contact);
+
+    /**
+     * Replaces {@code contactToEdit}, which must exist, with {@code editedContact}.
+     */
+    void setContact(Contact contactToEdit, Contact editedContact);
+
+    /**
+     * Removes {@code contact}, which must exist.
+     */
+    void removeContact(Contact contact);
+
+    /**
+     * Returns true if a task with the same identity as {@code task} exists.
+     */
+    boolean hasTask(Task task);
+
+    /**
+     * Adds a task, which must not already exist.
+     */
+    void addTask(Task task);
+
+    /**
+     * Replaces {@code taskToEdit}, which must exist, with {@code editedTask}.
+     */
+    void setTask(Task taskToEdit, Task editedTask);
+
+    /**
+     * Removes {@code task}, which must exist.
+     */
+    void removeTask(Task task);
+
+    /**
+     * Returns true if a lesson with the same identity as {@code lesson} exists.
+     */
+    boolean hasLesson(Lesson lesson);
+
+    /**
+     * Adds a lesson, which must not already exist.
+     */
+    void addLesson(Lesson lesson);
+
+    /**
+     * Replaces {@code lessonToEdit}, which must exist, with {@code editedLesson}.
+     */
+    void setLesson(Lesson lessonToEdit, Lesson editedLesson);
+
+    /**
+     * Removes {@code lesson}, which must exist.
+     */
+    void removeLesson(Lesson lesson);
+
+    /**
+     * Returns the tasks of the module with the given {@code code}.
+     */
+    List<Task> getModuleTasks(Code code);
+
+    /**
+     * Returns the lessons of the module with the given {@code code}.
+     */
+    List<Lesson> getModuleLessons(Code code);
+
+    /**
+     * Returns the contacts tagged with the given module {@code code}.
+     */
+    List<Contact> getModuleContacts(Code code);
+}
@@ -34,4 +34,10 @@ public interface ReadOnlyTrackIter {
      * This list will not contain any duplicate lessons.
      */
     ObservableList<Lesson> getLessonList();
+
+    /**
+     * Returns a number that changes every time the data is modified, and stays the same otherwise.
+     * Two views with the same version of the same TrackIter hold the same data.
+     */
+    long getVersion();
 }
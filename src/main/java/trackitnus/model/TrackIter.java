@@ -2,31 +2,47 @@ package trackitnus.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import trackitnus.model.commons.Code;
 import trackitnus.model.contact.Contact;
 import trackitnus.model.contact.UniqueContactList;
 import trackitnus.model.lesson.Lesson;
-import trackitnus.model.lesson.LessonComparator;
 import trackitnus.model.lesson.UniqueLessonList;
 import trackitnus.model.module.Module;
 import trackitnus.model.module.UniqueModuleList;
 import trackitnus.model.task.Task;
-import trackitnus.model.task.TaskComparator;
+import trackitnus.model.task.TaskDateIndex;
 import trackitnus.model.task.UniqueTaskList;
+import trackitnus.model.util.PersistentList;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSameContact comparison)
  */
-public final class TrackIter implements ReadOnlyTrackIter {
+public final class TrackIter implements MutableTrackIter {
 
     private final UniqueContactList contacts;
     private final UniqueModuleList modules;
     private final UniqueTaskList tasks;
     private final UniqueLessonList lessons;
+    private final ModuleIndex moduleIndex;
+    private final TaskDateIndex taskDateIndex;
+
+    /** Incremented on every modification, see {@link #getVersion()}. */
+    private long version;
+
+    // Persistent copies of the lists, kept in sync with their change events, see {@link #getState()}
+    private PersistentList<Contact> contactState = PersistentList.empty();
+    private PersistentList<Module> moduleState = PersistentList.empty();
+    private PersistentList<Task> taskState = PersistentList.empty();
+    private PersistentList<Lesson> lessonState = PersistentList.empty();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -39,6 +55,17 @@ public final class TrackIter implements ReadOnlyTrackIter {
         modules = new UniqueModuleList();
         tasks = new UniqueTaskList();
         lessons = new UniqueLessonList();
+        moduleIndex = new ModuleIndex();
+        taskDateIndex = new TaskDateIndex();
+
+        contacts.asUnmodifiableObservableList().addListener((ListChangeListener<Contact>) change ->
+            contactState = applyChange(contactState, change));
+        modules.asUnmodifiableObservableList().addListener((ListChangeListener<Module>) change ->
+            moduleState = applyChange(moduleState, change));
+        tasks.asUnmodifiableObservableList().addListener((ListChangeListener<Task>) change ->
+            taskState = applyChange(taskState, change));
+        lessons.asUnmodifiableObservableList().addListener((ListChangeListener<Lesson>) change ->
+            lessonState = applyChange(lessonState, change));
     }
 
     public TrackIter() {
@@ -60,6 +87,8 @@ public final class TrackIter implements ReadOnlyTrackIter {
      */
     public void setContacts(List<Contact> contacts) {
         this.contacts.setContacts(contacts);
+        moduleIndex.setContacts(contacts);
+        version++;
     }
 
     /**
@@ -68,6 +97,7 @@ public final class TrackIter implements ReadOnlyTrackIter {
      */
     public void setModules(List<Module> modules) {
         this.modules.setModules(modules);
+        version++;
     }
 
     /**
@@ -76,6 +106,9 @@ public final class TrackIter implements ReadOnlyTrackIter {
      */
     public void setTasks(List<Task> tasks) {
         this.tasks.setTasks(tasks);
+        moduleIndex.setTasks(tasks);
+        taskDateIndex.setAll(tasks);
+        version++;
     }
 
     /**
@@ -84,6 +117,8 @@ public final class TrackIter implements ReadOnlyTrackIter {
      */
     public void setLessons(List<Lesson> lessons) {
         this.lessons.setLessons(lessons);
+        moduleIndex.setLessons(lessons);
+        version++;
     }
 
     /**
@@ -98,6 +133,101 @@ public final class TrackIter implements ReadOnlyTrackIter {
         setLessons(newData.getLessonList());
     }
 
+    /**
+     * Applies {@code mutations} to this {@code TrackIter} as one transaction.
+     * <p>
+     * Listeners of each list, and of each task date view, are notified of all the modifications in a single change
+     * once {@code mutations} completes. If {@code mutations} throws, every modification it made is undone before the
+     * exception is rethrown.
+     */
+    public void batch(Consumer<? super MutableTrackIter> mutations) {
+        requireNonNull(mutations);
+
+        List<Contact> contactsBefore = new ArrayList<>(contacts.asUnmodifiableObservableList());
+        List<Module> modulesBefore = new ArrayList<>(modules.asUnmodifiableObservableList());
+        List<Task> tasksBefore = new ArrayList<>(tasks.asUnmodifiableObservableList());
+        List<Lesson> lessonsBefore = new ArrayList<>(lessons.asUnmodifiableObservableList());
+        long versionBefore = version;
+
+        contacts.beginBatch();
+        modules.beginBatch();
+        tasks.beginBatch();
+        lessons.beginBatch();
+        taskDateIndex.beginBatch();
+        try {
+            mutations.accept(this);
+        } catch (RuntimeException | Error e) {
+            setContacts(contactsBefore);
+            setModules(modulesBefore);
+            setTasks(tasksBefore);
+            setLessons(lessonsBefore);
+            version = versionBefore;
+            throw e;
+        } finally {
+            taskDateIndex.endBatch();
+            lessons.endBatch();
+            tasks.endBatch();
+            modules.endBatch();
+            contacts.endBatch();
+        }
+    }
+
+    //=========== Snapshots ================================================================================
+
+    /**
+     * Returns an immutable snapshot of the current data, in O(1).
+     */
+    public TrackIterState getState() {
+        return new TrackIterState(contactState, moduleState, taskState, lessonState, version);
+    }
+
+    /**
+     * Replaces the existing data of this {@code TrackIter} with the data of {@code state}.
+     * This counts as a modification, so the version is incremented rather than set to that of {@code state}.
+     */
+    public void restore(TrackIterState state) {
+        requireNonNull(state);
+
+        setContacts(state.getContacts().toList());
+        setModules(state.getModules().toList());
+        setTasks(state.getTasks().toList());
+        setLessons(state.getLessons().toList());
+
+        // Share the structure of the snapshot instead of the copies built from the change events, unless the lists
+        // were ordered differently, as lessons are re-sorted for the current day
+        contactState = preferShared(contactState, state.getContacts());
+        moduleState = preferShared(moduleState, state.getModules());
+        taskState = preferShared(taskState, state.getTasks());
+        lessonState = preferShared(lessonState, state.getLessons());
+    }
+
+    private static <T> PersistentList<T> preferShared(PersistentList<T> current, PersistentList<T> shared) {
+        return current.equals(shared) ? shared : current;
+    }
+
+    /**
+     * Returns {@code list} with the modifications reported by {@code change} applied, in O(log n) per added or
+     * removed element. A permutation, or a replacement of the whole list, is copied from the changed list instead.
+     */
+    private static <T> PersistentList<T> applyChange(PersistentList<T> list,
+                                                     ListChangeListener.Change<? extends T> change) {
+        PersistentList<T> result = list;
+        while (change.next()) {
+            if (change.wasPermutated() || change.getRemovedSize() == result.size()) {
+                return PersistentList.of(change.getList());
+            }
+            // sub-changes are reported in order, with positions that take the earlier sub-changes into account
+            int from = change.getFrom();
+            for (int i = 0; i < change.getRemovedSize(); i++) {
+                result = result.remove(from);
+            }
+            List<? extends T> added = change.getAddedSubList();
+            for (int i = 0; i < added.size(); i++) {
+                result = result.insert(from + i, added.get(i));
+            }
+        }
+        return result;
+    }
 
     //=========== Module ================================================================================
 
@@ -115,6 +245,7 @@ public final class TrackIter implements ReadOnlyTrackIter {
      */
     public void addModule(Module module) {
         modules.add(module);
+        version++;
     }
 
     /**
@@ -127,6 +258,7 @@ public final class TrackIter implements ReadOnlyTrackIter {
         requireNonNull(editedModule);
 
         modules.setModule(moduleToEdit, editedModule);
+        version++;
     }
 
     /**
@@ -135,6 +267,7 @@ public final class TrackIter implements ReadOnlyTrackIter {
      */
     public void removeModule(Module module) {
         modules.remove(module);
+        version++;
     }
 
     //=========== Contact ================================================================================
@@ -153,6 +286,8 @@ public final class TrackIter implements ReadOnlyTrackIter {
      */
     public void addContact(Contact contact) {
         contacts.add(contact);
+        moduleIndex.addContact(contact);
+        version++;
     }
 
     /**
@@ -165,6 +300,9 @@ public final class TrackIter implements ReadOnlyTrackIter {
         requireNonNull(editedContact);
 
         contacts.setContact(contactToEdit, editedContact);
+        moduleIndex.removeContact(contactToEdit);
+        moduleIndex.addContact(editedContact);
+        version++;
     }
 
     /**
@@ -173,6 +311,8 @@ public final class TrackIter implements ReadOnlyTrackIter {
      */
     public void removeContact(Contact contact) {
         contacts.remove(contact);
+        moduleIndex.removeContact(contact);
+        version++;
     }
 
 
@@ -192,6 +332,9 @@ public final class TrackIter implements ReadOnlyTrackIter {
      */
     public void addTask(Task task) {
         tasks.add(task);
+        moduleIndex.addTask(task);
+        taskDateIndex.add(task);
+        version++;
     }
 
     /**
@@ -204,6 +347,11 @@ public final class TrackIter implements ReadOnlyTrackIter {
         requireNonNull(editedTask);
 
         tasks.setTask(taskToEdit, editedTask);
+        moduleIndex.removeTask(taskToEdit);
+        moduleIndex.addTask(editedTask);
+        taskDateIndex.remove(taskToEdit);
+        taskDateIndex.add(editedTask);
+        version++;
     }
 
     /**
@@ -212,6 +360,9 @@ public final class TrackIter implements ReadOnlyTrackIter {
      */
     public void removeTask(Task task) {
         tasks.remove(task);
+        moduleIndex.removeTask(task);
+        taskDateIndex.remove(task);
+        version++;
     }
 
     //=========== Lesson ================================================================================
@@ -230,6 +381,8 @@ public final class TrackIter implements ReadOnlyTrackIter {
      */
     public void addLesson(Lesson lesson) {
         lessons.add(lesson);
+        moduleIndex.addLesson(lesson);
+        version++;
     }
 
     /**
@@ -242,6 +395,9 @@ public final class TrackIter implements ReadOnlyTrackIter {
         requireNonNull(editedLesson);
 
         lessons.setLesson(lessonToEdit, editedLesson);
+        moduleIndex.removeLesson(lessonToEdit);
+        moduleIndex.addLesson(editedLesson);
+        version++;
     }
 
     /**
@@ -250,10 +406,49 @@ public final class TrackIter implements ReadOnlyTrackIter {
      */
     public void removeLesson(Lesson lesson) {
         lessons.remove(lesson);
+        moduleIndex.removeLesson(lesson);
+        version++;
+    }
+
+    //=========== Module Index ================================================================================
+
+    /**
+     * Returns the tasks of the module with the given {@code code}, in O(tasks of that module).
+     */
+    public List<Task> getModuleTasks(Code code) {
+        return moduleIndex.getTasks(code);
+    }
+
+    /**
+     * Returns the lessons of the module with the given {@code code}, in O(lessons of that module).
+     */
+    public List<Lesson> getModuleLessons(Code code) {
+        return moduleIndex.getLessons(code);
+    }
+
+    /**
+     * Returns the contacts tagged with the given module {@code code}, in O(contacts of that module).
+     */
+    public List<Contact> getModuleContacts(Code code) {
+        return moduleIndex.getContacts(code);
+    }
+
+    //=========== Task Date Index ================================================================================
+
+    /**
+     * Returns a live view of all tasks dated strictly before {@code date}.
+     */
+    public ObservableList<Task> getTasksBefore(LocalDate date) {
+        return taskDateIndex.getTasksBefore(date);
     }
 
     //// util methods
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public ObservableList<Contact> getContactList() {
         return contacts.asUnmodifiableObservableList();
@@ -266,13 +461,11 @@ public final class TrackIter implements ReadOnlyTrackIter {
 
     @Override
     public ObservableList<Task> getTaskList() {
-        tasks.sort(new TaskComparator());
         return tasks.asUnmodifiableObservableList();
     }
 
     @Override
     public ObservableList<Lesson> getLessonList() {
-        lessons.sort(new LessonComparator());
         return lessons.asUnmodifiableObservableList();
     }
 
@@ -285,28 +478,23 @@ public final class TrackIter implements ReadOnlyTrackIter {
             return false;
         }
         // Two TrackIter will be considered equal if they have the SAME SET of contacts, modules, tasks & lessons
-        // Since we sometimes sort tasks & lessons, before comparing equality it's necessary to sort as well
         TrackIter casted = (TrackIter) other;
-        sortAll();
-        casted.sortAll();
         return contacts.equals(casted.contacts)
             && modules.equals(casted.modules)
             && tasks.equals(casted.tasks)
             && lessons.equals(casted.lessons);
     }
 
-    private void sortAll() {
-        tasks.sort(new TaskComparator());
-        lessons.sort(new LessonComparator());
-    }
-
     @Override
     public int hashCode() {
         return Objects.hash(contacts, modules, tasks, lessons);
     }
 
-    public void sortLesson() {
-        lessons.sort(new LessonComparator());
+    /**
+     * Re-sorts the lessons if the day of the week has changed since they were last sorted.
+     */
+    public void refreshLessonOrder() {
+        lessons.refreshOrder();
     }
 
     @Override
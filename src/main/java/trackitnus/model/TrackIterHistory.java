@@ -0,0 +1,101 @@
+package trackitnus.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * The undo and redo history of a TrackIter, as a bounded sequence of {@code TrackIterState} snapshots.
+ * <p>
+ * As snapshots share structure, the history costs memory proportional to the modifications it records. Only the
+ * {@value #MAX_UNDO_STATES} most recent states can be undone to.
+ */
+public class TrackIterHistory {
+
+    public static final int MAX_UNDO_STATES = 20;
+
+    private final Deque<TrackIterState> undoStates = new ArrayDeque<>();
+    private final Deque<TrackIterState> redoStates = new ArrayDeque<>();
+    private TrackIterState currentState;
+
+    /**
+     * Creates a history that starts at {@code initialState}, with nothing to undo or redo.
+     */
+    public TrackIterHistory(TrackIterState initialState) {
+        requireNonNull(initialState);
+        currentState = initialState;
+    }
+
+    /**
+     * Records {@code state} as the current state. If it has a different version from the current state, the current
+     * state can be undone to and the states that were undone can no longer be redone.
+     */
+    public void commit(TrackIterState state) {
+        requireNonNull(state);
+        if (state.getVersion() != currentState.getVersion()) {
+            if (undoStates.size() == MAX_UNDO_STATES) {
+                undoStates.removeLast();
+            }
+            undoStates.push(currentState);
+            redoStates.clear();
+        }
+        currentState = state;
+    }
+
+    /**
+     * Starts the history over at {@code state}, with nothing to undo or redo.
+     */
+    public void reset(TrackIterState state) {
+        requireNonNull(state);
+        undoStates.clear();
+        redoStates.clear();
+        currentState = state;
+    }
+
+    /**
+     * Replaces the current state with {@code state}, which holds the same data, without recording a new state.
+     */
+    public void amend(TrackIterState state) {
+        requireNonNull(state);
+        currentState = state;
+    }
+
+    public boolean canUndo() {
+        return !undoStates.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoStates.isEmpty();
+    }
+
+    /**
+     * Moves back to the previous state, and returns it. Once restored, the restored data should replace it through
+     * {@link #amend(TrackIterState)}.
+     *
+     * @throws IllegalStateException if there is no state to undo to.
+     */
+    public TrackIterState undo() {
+        if (!canUndo()) {
+            throw new IllegalStateException("No state to undo to");
+        }
+        redoStates.push(currentState);
+        currentState = undoStates.pop();
+        return currentState;
+    }
+
+    /**
+     * Moves forward to the state that was last undone, and returns it. Once restored, the restored data should replace
+     * it through {@link #amend(TrackIterState)}.
+     *
+     * @throws IllegalStateException if there is no state to redo to.
+     */
+    public TrackIterState redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("No state to redo to");
+        }
+        undoStates.push(currentState);
+        currentState = redoStates.pop();
+        return currentState;
+    }
+}
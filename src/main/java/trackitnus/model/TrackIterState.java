@@ -0,0 +1,83 @@
+package trackitnus.model;
+
+import java.util.Objects;
+
+import trackitnus.commons.util.CollectionUtil;
+import trackitnus.model.contact.Contact;
+import trackitnus.model.lesson.Lesson;
+import trackitnus.model.module.Module;
+import trackitnus.model.task.Task;
+import trackitnus.model.util.PersistentList;
+
+/**
+ * An immutable snapshot of the data of a {@code TrackIter}, which can be restored with
+ * {@link TrackIter#restore(TrackIterState)}.
+ * <p>
+ * Snapshots share structure with each other: a snapshot taken after a command only copies the parts of the lists
+ * that the command modified, so keeping many of them costs memory proportional to the modifications between them.
+ */
+public final class TrackIterState {
+
+    private final PersistentList<Contact> contacts;
+    private final PersistentList<Module> modules;
+    private final PersistentList<Task> tasks;
+    private final PersistentList<Lesson> lessons;
+    private final long version;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public TrackIterState(PersistentList<Contact> contacts, PersistentList<Module> modules,
+                          PersistentList<Task> tasks, PersistentList<Lesson> lessons, long version) {
+        CollectionUtil.requireAllNonNull(contacts, modules, tasks, lessons);
+        this.contacts = contacts;
+        this.modules = modules;
+        this.tasks = tasks;
+        this.lessons = lessons;
+        this.version = version;
+    }
+
+    public PersistentList<Contact> getContacts() {
+        return contacts;
+    }
+
+    public PersistentList<Module> getModules() {
+        return modules;
+    }
+
+    public PersistentList<Task> getTasks() {
+        return tasks;
+    }
+
+    public PersistentList<Lesson> getLessons() {
+        return lessons;
+    }
+
+    /**
+     * Returns the {@link ReadOnlyTrackIter#getVersion() version} of the TrackIter when the snapshot was taken.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof TrackIterState)) {
+            return false;
+        }
+        // the version is not part of the data
+        TrackIterState otherState = (TrackIterState) other;
+        return contacts.equals(otherState.contacts)
+            && modules.equals(otherState.modules)
+            && tasks.equals(otherState.tasks)
+            && lessons.equals(otherState.lessons);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(contacts, modules, tasks, lessons);
+    }
+}
@@ -26,4 +26,9 @@ public class ContactHasTagPredicate implements Predicate<Contact> {
             || (other instanceof ContactHasTagPredicate // instanceof handles nulls
             && tag.equals(((ContactHasTagPredicate) other).tag)); // state check
     }
+
+    @Override
+    public int hashCode() {
+        return tag.hashCode();
+    }
 }
@@ -28,4 +28,9 @@ public class NameContainsKeywordsPredicate implements Predicate<Contact> {
             && keywords.equals(((NameContainsKeywordsPredicate) other).keywords)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
 }
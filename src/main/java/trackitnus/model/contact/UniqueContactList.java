@@ -8,8 +8,11 @@ import java.util.List;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import trackitnus.commons.util.CollectionUtil;
+import trackitnus.model.commons.Name;
 import trackitnus.model.contact.exceptions.ContactNotFoundException;
 import trackitnus.model.contact.exceptions.DuplicateContactException;
+import trackitnus.model.util.BatchObservableList;
+import trackitnus.model.util.IdentityIndex;
 
 /**
  * A list of contacts that enforces uniqueness between its elements and does not allow nulls.
@@ -19,22 +22,27 @@ import trackitnus.model.contact.exceptions.DuplicateContactException;
  * However, the removal of a contact uses Contact#equals(Object) so
  * as to ensure that the contact with exactly the same fields will be removed.
  * <p>
+ * Identity checks are answered by an {@code IdentityIndex} kept in sync with the backing list, so adding and
+ * checking for duplicates take amortized O(1) time regardless of the size of the list.
+ * <p>
  * Supports a minimal set of list operations.
  *
  * @see Contact#isSameContact(Contact)
  */
 public class UniqueContactList implements Iterable<Contact> {
 
-    private final ObservableList<Contact> internalList = FXCollections.observableArrayList();
+    private final BatchObservableList<Contact> internalList = new BatchObservableList<>();
     private final ObservableList<Contact> internalUnmodifiableList =
         FXCollections.unmodifiableObservableList(internalList);
+    private final IdentityIndex<Contact, Name> index =
+        new IdentityIndex<>(Contact::getName, Contact::isSameContact);
 
     /**
      * Returns true if the list contains an equivalent contact as the given argument.
      */
     public boolean contains(Contact toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameContact);
+        return index.contains(toCheck);
     }
 
     /**
@@ -47,6 +55,7 @@ public class UniqueContactList implements Iterable<Contact> {
             throw new DuplicateContactException();
         }
         internalList.add(toAdd);
+        index.add(toAdd);
     }
 
     /**
@@ -57,8 +66,8 @@ public class UniqueContactList implements Iterable<Contact> {
     public void setContact(Contact target, Contact editedContact) {
         CollectionUtil.requireAllNonNull(target, editedContact);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        int targetIndex = internalList.indexOf(target);
+        if (targetIndex == -1) {
             throw new ContactNotFoundException();
         }
 
@@ -66,7 +75,9 @@ public class UniqueContactList implements Iterable<Contact> {
             throw new DuplicateContactException();
         }
 
-        internalList.set(index, editedContact);
+        internalList.set(targetIndex, editedContact);
+        index.remove(target);
+        index.add(editedContact);
     }
 
     /**
@@ -78,11 +89,13 @@ public class UniqueContactList implements Iterable<Contact> {
         if (!internalList.remove(toRemove)) {
             throw new ContactNotFoundException();
         }
+        index.remove(toRemove);
     }
 
     public void setContacts(UniqueContactList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        index.setAll(replacement.internalList);
     }
 
     /**
@@ -96,6 +109,7 @@ public class UniqueContactList implements Iterable<Contact> {
         }
 
         internalList.setAll(contacts);
+        index.setAll(contacts);
     }
 
     /**
@@ -105,6 +119,21 @@ public class UniqueContactList implements Iterable<Contact> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Starts grouping the modifications of this list into a single change, see
+     * {@link BatchObservableList#beginBatch()}.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Reports the modifications made since the matching {@link #beginBatch()} as a single change.
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
     @Override
     public Iterator<Contact> iterator() {
         return internalList.iterator();
@@ -126,14 +155,7 @@ public class UniqueContactList implements Iterable<Contact> {
      * Returns true if {@code contacts} contains only unique contacts.
      */
     private boolean contactsAreUnique(List<Contact> contacts) {
-        for (int i = 0; i < contacts.size() - 1; i++) {
-            for (int j = i + 1; j < contacts.size(); j++) {
-                if (contacts.get(i).isSameContact(contacts.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return index.areUnique(contacts);
     }
 
     @Override
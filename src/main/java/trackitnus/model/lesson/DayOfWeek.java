@@ -35,7 +35,14 @@ public enum DayOfWeek {
         }
     }
 
-    public static Integer distanceBetweenTwoDay(DayOfWeek from, DayOfWeek to) {
+    /**
+     * Returns the current day of the week in {@code LessonDateTime.DEFAULT_TIME_ZONE}.
+     */
+    public static DayOfWeek getCurrentWeekDay() {
+        return getLessonWeekDay(LocalDate.now(LessonDateTime.DEFAULT_TIME_ZONE));
+    }
+
+    public static int distanceBetweenTwoDay(DayOfWeek from, DayOfWeek to) {
         return (to.ordinal() - from.ordinal() + SIZE) % SIZE;
     }
 }
@@ -1,22 +1,60 @@
 package trackitnus.model.lesson;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.Comparator;
 
 /**
  * Compares 2 lessons in chronological order to facilitate sorting.
+ * <p>
+ * The week is rotated so that it starts from a fixed anchor day, which is taken once when the comparator is created
+ * rather than on every comparison. A sort with one comparator therefore reads the clock at most once and cannot see
+ * the order change halfway through, and comparisons only compare precomputed primitive keys.
  */
 public class LessonComparator implements Comparator<Lesson> {
+    private final DayOfWeek anchor;
+
+    /**
+     * Creates a comparator that orders lessons starting from the current day of the week.
+     */
+    public LessonComparator() {
+        this(DayOfWeek.getCurrentWeekDay());
+    }
+
     /**
+     * Creates a comparator that orders lessons starting from {@code anchor}.
+     */
+    public LessonComparator(DayOfWeek anchor) {
+        requireNonNull(anchor);
+        this.anchor = anchor;
+    }
+
+    public DayOfWeek getAnchor() {
+        return anchor;
+    }
+
+    /**
+     * Lessons that start at the same time are ordered by code, type, end time and address.
+     *
      * @param firstLesson  First lesson to compare.
      * @param secondLesson Second lesson to compare.
      * @return an int < 0 if firstLesson is "less than" secondLesson.
      */
     @Override
     public int compare(Lesson firstLesson, Lesson secondLesson) {
-        int res = firstLesson.getTime().compareTo(secondLesson.getTime());
-        if (res != 0) {
-            return res;
+        int res = firstLesson.getTime().compareTo(secondLesson.getTime(), anchor);
+        if (res == 0) {
+            res = firstLesson.getCode().code.compareTo(secondLesson.getCode().code);
+        }
+        if (res == 0) {
+            res = firstLesson.getTypeStr().compareTo(secondLesson.getTypeStr());
+        }
+        if (res == 0) {
+            res = firstLesson.getEndTime().compareTo(secondLesson.getEndTime());
+        }
+        if (res == 0) {
+            res = firstLesson.getAddress().value.compareTo(secondLesson.getAddress().value);
         }
-        return firstLesson.toString().compareTo(secondLesson.toString());
+        return res;
     }
 }
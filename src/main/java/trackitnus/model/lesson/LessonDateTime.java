@@ -1,9 +1,9 @@
 package trackitnus.model.lesson;
 
-import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.Objects;
 
 import trackitnus.commons.util.AppUtil;
 import trackitnus.commons.util.CollectionUtil;
@@ -16,9 +16,15 @@ public class LessonDateTime {
         "Lesson's time should be in the format \"ddd H:mm-H:mm\" (in 24-hour format) and Starting time should be "
             + "earlier than Finishing time, e.g. Mon 8:00-13:00";
 
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int MINUTES_PER_DAY = 24 * MINUTES_PER_HOUR;
+    private static final int MINUTES_PER_WEEK = DayOfWeek.values().length * MINUTES_PER_DAY;
+
     private final DayOfWeek weekday;
     private final LocalTime startTime;
     private final LocalTime endTime;
+    /** Minutes from the start of the week (Sun 0:00) to the start of this lesson, used as its sort key. */
+    private final int weekMinute;
 
     /**
      * Every field must be present and not null.
@@ -33,6 +39,8 @@ public class LessonDateTime {
         AppUtil.checkArgument(isValidTime(startTime, endTime), MESSAGE_CONSTRAINTS + " " + startTime + " " + endTime);
         this.startTime = startTime;
         this.endTime = endTime;
+        this.weekMinute = weekday.ordinal() * MINUTES_PER_DAY
+            + startTime.getHour() * MINUTES_PER_HOUR + startTime.getMinute();
     }
 
     private boolean isValidTime(LocalTime startTime, LocalTime endTime) {
@@ -52,24 +60,33 @@ public class LessonDateTime {
     }
 
     /**
-     * Compares this LessonDateTime with another LessonDateTime in chronological order.
+     * Returns the number of minutes from the start of {@code anchor} to the start of this lesson, counting forward and
+     * wrapping around the end of the week. Ordering lessons by this key lists them chronologically from {@code anchor}.
+     */
+    public int getSortKey(DayOfWeek anchor) {
+        return (weekMinute - anchor.ordinal() * MINUTES_PER_DAY + MINUTES_PER_WEEK) % MINUTES_PER_WEEK;
+    }
+
+    /**
+     * Compares this LessonDateTime with another LessonDateTime in chronological order, starting from the current day
+     * of the week. Use {@link #compareTo(LessonDateTime, DayOfWeek)} when comparing many times, e.g. when sorting.
      *
      * @param other The other LessonDateTime to compare.
      * @return an int < 0 if this is "less than" other.
      */
     public int compareTo(LessonDateTime other) {
-        if (equals(other)) {
-            return 0;
-        } else {
-            LocalDate currentDate = LocalDate.now(DEFAULT_TIME_ZONE);
-            DayOfWeek currentWeekday = DayOfWeek.getLessonWeekDay(currentDate);
-            Integer currentToThis = DayOfWeek.distanceBetweenTwoDay(currentWeekday, getWeekday());
-            Integer currentToOther = DayOfWeek.distanceBetweenTwoDay(currentWeekday, other.getWeekday());
-            int result = currentToThis.compareTo(currentToOther);
-            return result == 0
-                ? getStartTime().compareTo(other.getStartTime())
-                : result;
-        }
+        return compareTo(other, DayOfWeek.getCurrentWeekDay());
+    }
+
+    /**
+     * Compares this LessonDateTime with another LessonDateTime in chronological order, starting from {@code anchor}.
+     *
+     * @param other  The other LessonDateTime to compare.
+     * @param anchor The day of the week that comes first.
+     * @return an int < 0 if this is "less than" other.
+     */
+    public int compareTo(LessonDateTime other, DayOfWeek anchor) {
+        return Integer.compare(getSortKey(anchor), other.getSortKey(anchor));
     }
 
     @Override
@@ -88,6 +105,11 @@ public class LessonDateTime {
             && otherDate.endTime.equals(endTime);
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(weekday, startTime, endTime);
+    }
+
     @Override
     public String toString() {
         return weekday.name() + " "
@@ -26,4 +26,9 @@ public class LessonHasCodePredicate implements Predicate<Lesson> {
             || (other instanceof LessonHasCodePredicate // instanceof handles nulls
             && code.equals(((LessonHasCodePredicate) other).code)); // state check
     }
+
+    @Override
+    public int hashCode() {
+        return code.hashCode();
+    }
 }
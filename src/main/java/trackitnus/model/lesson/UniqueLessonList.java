@@ -2,6 +2,8 @@ package trackitnus.model.lesson;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 
@@ -10,6 +12,8 @@ import javafx.collections.ObservableList;
 import trackitnus.commons.util.CollectionUtil;
 import trackitnus.model.lesson.exceptions.DuplicateLessonException;
 import trackitnus.model.lesson.exceptions.LessonNotFoundException;
+import trackitnus.model.util.BatchObservableList;
+import trackitnus.model.util.IdentityIndex;
 
 /**
  * A list of lessons that enforces uniqueness between its elements and does not allow nulls.
@@ -19,22 +23,33 @@ import trackitnus.model.lesson.exceptions.LessonNotFoundException;
  * However, the removal of a lesson uses Lesson#equals(Object) so
  * as to ensure that the lesson with exactly the same fields will be removed.
  * <p>
+ * Identity checks are answered by an {@code IdentityIndex} kept in sync with the backing list, so adding and
+ * checking for duplicates take amortized O(1) time regardless of the size of the list.
+ * <p>
+ * The list is kept in {@code LessonComparator} order. New lessons are inserted at their sorted position found by
+ * binary search. As that order starts from the current day of the week, the comparator is anchored to the day the
+ * list was last sorted on, and the whole list is only re-sorted by {@link #refreshOrder()} on a different day of the
+ * week. Until then, the list keeps its order, so that the indexes shown to the user stay valid.
+ * <p>
  * Supports a minimal set of list operations.
  *
  * @see Lesson#isSameLesson(Lesson)
  */
 public class UniqueLessonList implements Iterable<Lesson> {
 
-    private final ObservableList<Lesson> internalList = FXCollections.observableArrayList();
+    private final BatchObservableList<Lesson> internalList = new BatchObservableList<>();
     private final ObservableList<Lesson> internalUnmodifiableList =
         FXCollections.unmodifiableObservableList(internalList);
+    private final IdentityIndex<Lesson, Lesson> index =
+        new IdentityIndex<>(lesson -> lesson, Lesson::isSameLesson);
+    private LessonComparator lessonComparator = new LessonComparator();
 
     /**
      * Returns true if the list contains an equivalent lesson as the given argument.
      */
     public boolean contains(Lesson toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameLesson);
+        return index.contains(toCheck);
     }
 
     /**
@@ -46,7 +61,8 @@ public class UniqueLessonList implements Iterable<Lesson> {
         if (contains(toAdd)) {
             throw new DuplicateLessonException();
         }
-        internalList.add(toAdd);
+        internalList.add(CollectionUtil.upperBound(internalList, toAdd, lessonComparator), toAdd);
+        index.add(toAdd);
     }
 
     /**
@@ -57,8 +73,8 @@ public class UniqueLessonList implements Iterable<Lesson> {
     public void setLesson(Lesson target, Lesson editedLesson) {
         CollectionUtil.requireAllNonNull(target, editedLesson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        int targetIndex = CollectionUtil.indexOfSorted(internalList, target, lessonComparator);
+        if (targetIndex == -1) {
             throw new LessonNotFoundException();
         }
 
@@ -66,7 +82,14 @@ public class UniqueLessonList implements Iterable<Lesson> {
             throw new DuplicateLessonException();
         }
 
-        internalList.set(index, editedLesson);
+        if (isInOrderAt(targetIndex, editedLesson)) {
+            internalList.set(targetIndex, editedLesson);
+        } else {
+            internalList.remove(targetIndex);
+            internalList.add(CollectionUtil.upperBound(internalList, editedLesson, lessonComparator), editedLesson);
+        }
+        index.remove(target);
+        index.add(editedLesson);
     }
 
     /**
@@ -75,14 +98,19 @@ public class UniqueLessonList implements Iterable<Lesson> {
      */
     public void remove(Lesson toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int targetIndex = CollectionUtil.indexOfSorted(internalList, toRemove, lessonComparator);
+        if (targetIndex == -1) {
             throw new LessonNotFoundException();
         }
+        internalList.remove(targetIndex);
+        index.remove(toRemove);
     }
 
     public void setLessons(UniqueLessonList replacement) {
         requireNonNull(replacement);
+        lessonComparator = replacement.lessonComparator;
         internalList.setAll(replacement.internalList);
+        index.setAll(replacement.internalList);
     }
 
     /**
@@ -95,7 +123,11 @@ public class UniqueLessonList implements Iterable<Lesson> {
             throw new DuplicateLessonException();
         }
 
-        internalList.setAll(lessons);
+        lessonComparator = new LessonComparator();
+        List<Lesson> sortedLessons = new ArrayList<>(lessons);
+        sortedLessons.sort(lessonComparator);
+        internalList.setAll(sortedLessons);
+        index.setAll(lessons);
     }
 
     /**
@@ -105,39 +137,80 @@ public class UniqueLessonList implements Iterable<Lesson> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Starts grouping the modifications of this list into a single change, see
+     * {@link BatchObservableList#beginBatch()}.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Reports the modifications made since the matching {@link #beginBatch()} as a single change.
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
     @Override
     public Iterator<Lesson> iterator() {
         return internalList.iterator();
     }
 
+    /**
+     * Returns true if both lists hold the same lessons, even if they were sorted from different days of the week.
+     */
     @Override
     public boolean equals(Object other) {
-        return other == this // short circuit if same object
-            || (other instanceof UniqueLessonList // instanceof handles nulls
-            && internalList.equals(((UniqueLessonList) other).internalList));
+        if (other == this) { // short circuit if same object
+            return true;
+        }
+        if (!(other instanceof UniqueLessonList)) { // instanceof handles nulls
+            return false;
+        }
+        UniqueLessonList otherList = (UniqueLessonList) other;
+        if (lessonComparator.getAnchor() == otherList.lessonComparator.getAnchor()) {
+            return internalList.equals(otherList.internalList);
+        }
+        return internalList.size() == otherList.internalList.size()
+            && new HashSet<>(internalList).containsAll(otherList.internalList);
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        // independent of the order, as equal lists may be sorted from different days of the week
+        int hashCode = 0;
+        for (Lesson lesson : internalList) {
+            hashCode += lesson.hashCode();
+        }
+        return hashCode;
     }
 
     /**
      * Returns true if {@code lessons} contains only unique lessons.
      */
     private boolean lessonsAreUnique(List<Lesson> lessons) {
-        for (int i = 0; i < lessons.size() - 1; i++) {
-            for (int j = i + 1; j < lessons.size(); j++) {
-                if (lessons.get(i).isSameLesson(lessons.get(j))) {
-                    return false;
-                }
-            }
+        return index.areUnique(lessons);
+    }
+
+    /**
+     * Re-sorts the list if the day of the week has changed since it was last sorted.
+     */
+    public void refreshOrder() {
+        DayOfWeek today = DayOfWeek.getCurrentWeekDay();
+        if (today != lessonComparator.getAnchor()) {
+            lessonComparator = new LessonComparator(today);
+            internalList.sort(lessonComparator);
         }
-        return true;
     }
 
-    public void sort(LessonComparator lessonComparator) {
-        internalList.sort(lessonComparator);
+    /**
+     * Returns true if {@code lesson} can replace the lesson at {@code position} without breaking the sorted order.
+     */
+    private boolean isInOrderAt(int position, Lesson lesson) {
+        return (position == 0 || lessonComparator.compare(internalList.get(position - 1), lesson) <= 0)
+            && (position == internalList.size() - 1
+            || lessonComparator.compare(lesson, internalList.get(position + 1)) <= 0);
     }
 
     @Override
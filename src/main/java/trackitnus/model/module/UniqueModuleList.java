@@ -8,8 +8,11 @@ import java.util.List;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import trackitnus.commons.util.CollectionUtil;
+import trackitnus.model.commons.Code;
 import trackitnus.model.module.exceptions.DuplicateModuleException;
 import trackitnus.model.module.exceptions.ModuleNotFoundException;
+import trackitnus.model.util.BatchObservableList;
+import trackitnus.model.util.IdentityIndex;
 
 /**
  * A list of modules that enforces uniqueness between its elements and does not allow nulls.
@@ -19,22 +22,27 @@ import trackitnus.model.module.exceptions.ModuleNotFoundException;
  * However, the removal of a module uses Module#equals(Object) so
  * as to ensure that the module with exactly the same fields will be removed.
  * <p>
+ * Identity checks are answered by an {@code IdentityIndex} kept in sync with the backing list, so adding and
+ * checking for duplicates take amortized O(1) time regardless of the size of the list.
+ * <p>
  * Supports a minimal set of list operations.
  *
  * @see Module#hasSameCode(Module)
  */
 public class UniqueModuleList implements Iterable<Module> {
 
-    private final ObservableList<Module> internalList = FXCollections.observableArrayList();
+    private final BatchObservableList<Module> internalList = new BatchObservableList<>();
     private final ObservableList<Module> internalUnmodifiableList =
         FXCollections.unmodifiableObservableList(internalList);
+    private final IdentityIndex<Module, Code> index =
+        new IdentityIndex<>(Module::getCode, Module::hasSameCode);
 
     /**
      * Returns true if the list contains an equivalent module as the given argument.
      */
     public boolean contains(Module toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::hasSameCode);
+        return index.contains(toCheck);
     }
 
     /**
@@ -47,6 +55,7 @@ public class UniqueModuleList implements Iterable<Module> {
             throw new DuplicateModuleException();
         }
         internalList.add(toAdd);
+        index.add(toAdd);
     }
 
     /**
@@ -57,8 +66,8 @@ public class UniqueModuleList implements Iterable<Module> {
     public void setModule(Module target, Module editedModule) {
         CollectionUtil.requireAllNonNull(target, editedModule);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        int targetIndex = internalList.indexOf(target);
+        if (targetIndex == -1) {
             throw new ModuleNotFoundException();
         }
 
@@ -66,7 +75,9 @@ public class UniqueModuleList implements Iterable<Module> {
             throw new DuplicateModuleException();
         }
 
-        internalList.set(index, editedModule);
+        internalList.set(targetIndex, editedModule);
+        index.remove(target);
+        index.add(editedModule);
     }
 
     /**
@@ -78,11 +89,13 @@ public class UniqueModuleList implements Iterable<Module> {
         if (!internalList.remove(toRemove)) {
             throw new ModuleNotFoundException();
         }
+        index.remove(toRemove);
     }
 
     public void setModules(UniqueModuleList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        index.setAll(replacement.internalList);
     }
 
     /**
@@ -96,6 +109,7 @@ public class UniqueModuleList implements Iterable<Module> {
         }
 
         internalList.setAll(modules);
+        index.setAll(modules);
     }
 
     /**
@@ -105,6 +119,21 @@ public class UniqueModuleList implements Iterable<Module> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Starts grouping the modifications of this list into a single change, see
+     * {@link BatchObservableList#beginBatch()}.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Reports the modifications made since the matching {@link #beginBatch()} as a single change.
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
     @Override
     public Iterator<Module> iterator() {
         return internalList.iterator();
@@ -126,14 +155,7 @@ public class UniqueModuleList implements Iterable<Module> {
      * Returns true if {@code modules} contains only unique modules.
      */
     private boolean modulesAreUnique(List<Module> modules) {
-        for (int i = 0; i < modules.size() - 1; i++) {
-            for (int j = i + 1; j < modules.size(); j++) {
-                if (modules.get(i).hasSameCode(modules.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return index.areUnique(modules);
     }
 
     @Override
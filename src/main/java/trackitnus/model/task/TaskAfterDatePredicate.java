@@ -25,4 +25,9 @@ public class TaskAfterDatePredicate implements Predicate<Task> {
             || (other instanceof TaskAfterDatePredicate // instanceof handles nulls
             && date.equals(((TaskAfterDatePredicate) other).date)); // state check
     }
+
+    @Override
+    public int hashCode() {
+        return date.hashCode();
+    }
 }
@@ -0,0 +1,228 @@
+package trackitnus.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import trackitnus.commons.util.CollectionUtil;
+import trackitnus.model.util.BatchObservableList;
+
+/**
+ * A date-ordered index of tasks that answers "tasks before D", "tasks on D" and "tasks after D" in
+ * O(log n + k) time, where k is the number of tasks in the range.
+ * <p>
+ * Tasks are bucketed by the epoch day of their date. Range queries are returned as live, unmodifiable views that are
+ * updated incrementally as tasks are added and removed, so a UI bound to a view stays reactive without ever
+ * re-filtering the whole task list. Views of the same range are shared, and every view is kept up to date for as long
+ * as it is referenced. The index only holds its views weakly, so the views that are no longer used are dropped once
+ * they are garbage collected.
+ * <p>
+ * The index must be updated by its owner on every add, set and remove of the indexed list.
+ */
+public class TaskDateIndex {
+
+    private static final Comparator<Task> TASK_COMPARATOR = new TaskComparator();
+
+    private final NavigableMap<Long, List<Task>> tasksByDay = new TreeMap<>();
+    private final Map<DateRange, RangeView> views = new HashMap<>();
+    private final ReferenceQueue<ObservableList<Task>> collectedViews = new ReferenceQueue<>();
+    private int batchDepth;
+
+    /**
+     * Adds {@code toAdd} to the index and to every live view whose range contains its date.
+     */
+    public void add(Task toAdd) {
+        requireNonNull(toAdd);
+        removeCollectedViews();
+        long day = toAdd.getDate().toEpochDay();
+        insertSorted(tasksByDay.computeIfAbsent(day, unused -> new ArrayList<>()), toAdd);
+        for (Map.Entry<DateRange, RangeView> entry : views.entrySet()) {
+            if (entry.getKey().contains(day)) {
+                insertSorted(entry.getValue().tasks, toAdd);
+            }
+        }
+    }
+
+    /**
+     * Removes {@code toRemove} from the index and from every live view whose range contains its date.
+     */
+    public void remove(Task toRemove) {
+        requireNonNull(toRemove);
+        removeCollectedViews();
+        long day = toRemove.getDate().toEpochDay();
+        List<Task> tasksOnDay = tasksByDay.get(day);
+        if (tasksOnDay == null || !tasksOnDay.remove(toRemove)) {
+            return;
+        }
+        if (tasksOnDay.isEmpty()) {
+            tasksByDay.remove(day);
+        }
+        for (Map.Entry<DateRange, RangeView> entry : views.entrySet()) {
+            if (entry.getKey().contains(day)) {
+                entry.getValue().tasks.remove(toRemove);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with {@code tasks}, and refreshes every live view.
+     */
+    public void setAll(Collection<Task> tasks) {
+        requireNonNull(tasks);
+        removeCollectedViews();
+        tasksByDay.clear();
+        for (Task task : tasks) {
+            insertSorted(tasksByDay.computeIfAbsent(task.getDate().toEpochDay(), unused -> new ArrayList<>()), task);
+        }
+        for (Map.Entry<DateRange, RangeView> entry : views.entrySet()) {
+            entry.getValue().tasks.setAll(query(entry.getKey()));
+        }
+    }
+
+    /**
+     * Starts grouping the modifications of every live view into a single change per view, including views created
+     * before the matching {@link #endBatch()}.
+     */
+    public void beginBatch() {
+        removeCollectedViews();
+        batchDepth++;
+        views.values().forEach(view -> view.tasks.beginBatch());
+    }
+
+    /**
+     * Reports the modifications made to each live view since the matching {@link #beginBatch()} as a single change.
+     */
+    public void endBatch() {
+        assert batchDepth > 0;
+        batchDepth--;
+        views.values().forEach(view -> view.tasks.endBatch());
+    }
+
+    /**
+     * Returns a live view of all tasks dated strictly before {@code date}.
+     */
+    public ObservableList<Task> getTasksBefore(LocalDate date) {
+        requireNonNull(date);
+        return getView(new DateRange(Long.MIN_VALUE, date.toEpochDay()));
+    }
+
+    /**
+     * Returns a live view of all tasks dated on {@code date}.
+     */
+    public ObservableList<Task> getTasksOn(LocalDate date) {
+        requireNonNull(date);
+        return getView(new DateRange(date.toEpochDay(), date.toEpochDay() + 1));
+    }
+
+    /**
+     * Returns a live view of all tasks dated strictly after {@code date}.
+     */
+    public ObservableList<Task> getTasksAfter(LocalDate date) {
+        requireNonNull(date);
+        return getView(new DateRange(date.toEpochDay() + 1, Long.MAX_VALUE));
+    }
+
+    private ObservableList<Task> getView(DateRange range) {
+        removeCollectedViews();
+        RangeView view = views.get(range);
+        ObservableList<Task> unmodifiableTasks = view == null ? null : view.get();
+        if (unmodifiableTasks == null) {
+            BatchObservableList<Task> tasks = new BatchObservableList<>();
+            tasks.addAll(query(range));
+            for (int i = 0; i < batchDepth; i++) {
+                tasks.beginBatch();
+            }
+            unmodifiableTasks = FXCollections.unmodifiableObservableList(tasks);
+            views.put(range, new RangeView(range, tasks, unmodifiableTasks, collectedViews));
+        }
+        return unmodifiableTasks;
+    }
+
+    /**
+     * Stops updating the views that have been garbage collected.
+     */
+    private void removeCollectedViews() {
+        Reference<? extends ObservableList<Task>> collected;
+        while ((collected = collectedViews.poll()) != null) {
+            RangeView view = (RangeView) collected;
+            // the range may already have a new view
+            views.remove(view.range, view);
+        }
+    }
+
+    /**
+     * Returns the tasks in {@code range} in {@code TaskComparator} order.
+     */
+    private List<Task> query(DateRange range) {
+        List<Task> result = new ArrayList<>();
+        tasksByDay.subMap(range.fromDay, true, range.toDay, false).values().forEach(result::addAll);
+        return result;
+    }
+
+    /**
+     * Inserts {@code task} into {@code sortedTasks}, keeping it in {@code TaskComparator} order.
+     */
+    private static void insertSorted(List<Task> sortedTasks, Task task) {
+        sortedTasks.add(CollectionUtil.upperBound(sortedTasks, task, TASK_COMPARATOR), task);
+    }
+
+    /**
+     * A half-open range of epoch days, {@code [fromDay, toDay)}.
+     */
+    private static class DateRange {
+        private final long fromDay;
+        private final long toDay;
+
+        DateRange(long fromDay, long toDay) {
+            this.fromDay = fromDay;
+            this.toDay = toDay;
+        }
+
+        boolean contains(long day) {
+            return fromDay <= day && day < toDay;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                || (other instanceof DateRange // instanceof handles nulls
+                && fromDay == ((DateRange) other).fromDay
+                && toDay == ((DateRange) other).toDay); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(fromDay, toDay);
+        }
+    }
+
+    /**
+     * A live view of the tasks in a {@code DateRange}. The unmodifiable list handed out is only weakly referenced, and
+     * strongly references the {@code tasks} it wraps, so the view is kept up to date exactly as long as it is in use.
+     */
+    private static class RangeView extends WeakReference<ObservableList<Task>> {
+        private final DateRange range;
+        private final BatchObservableList<Task> tasks;
+
+        RangeView(DateRange range, BatchObservableList<Task> tasks, ObservableList<Task> unmodifiableTasks,
+                  ReferenceQueue<ObservableList<Task>> collectedViews) {
+            super(unmodifiableTasks, collectedViews);
+            this.range = range;
+            this.tasks = tasks;
+        }
+    }
+}
@@ -26,4 +26,9 @@ public class TaskHasCodePredicate implements Predicate<Task> {
             || (other instanceof TaskHasCodePredicate // instanceof handles nulls
             && code.equals(((TaskHasCodePredicate) other).code)); // state check
     }
+
+    @Override
+    public int hashCode() {
+        return code.hashCode();
+    }
 }
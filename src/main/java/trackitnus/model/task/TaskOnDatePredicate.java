@@ -25,4 +25,9 @@ public class TaskOnDatePredicate implements Predicate<Task> {
             || (other instanceof TaskOnDatePredicate // instanceof handles nulls
             && date.equals(((TaskOnDatePredicate) other).date)); // state check
     }
+
+    @Override
+    public int hashCode() {
+        return date.hashCode();
+    }
 }
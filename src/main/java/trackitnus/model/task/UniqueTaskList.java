@@ -2,6 +2,7 @@ package trackitnus.model.task;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
@@ -10,6 +11,8 @@ import javafx.collections.ObservableList;
 import trackitnus.commons.util.CollectionUtil;
 import trackitnus.model.task.exceptions.DuplicateTaskException;
 import trackitnus.model.task.exceptions.TaskNotFoundException;
+import trackitnus.model.util.BatchObservableList;
+import trackitnus.model.util.IdentityIndex;
 
 /**
  * A list of tasks that enforces uniqueness between its elements and does not allow nulls.
@@ -19,22 +22,31 @@ import trackitnus.model.task.exceptions.TaskNotFoundException;
  * However, the removal of a task uses Task#equals(Object) so
  * as to ensure that the task with exactly the same fields will be removed.
  * <p>
+ * Identity checks are answered by an {@code IdentityIndex} kept in sync with the backing list, so adding and
+ * checking for duplicates take amortized O(1) time regardless of the size of the list.
+ * <p>
+ * The list is kept in {@code TaskComparator} order at all times. New tasks are inserted at their sorted position
+ * found by binary search, so reading the list never has to sort it, and each change only affects the rows involved.
+ * <p>
  * Supports a minimal set of list operations.
  *
  * @see Task#isSameTask(Task)
  */
 public class UniqueTaskList implements Iterable<Task> {
 
-    private final ObservableList<Task> internalList = FXCollections.observableArrayList();
+    private final BatchObservableList<Task> internalList = new BatchObservableList<>();
     private final ObservableList<Task> internalUnmodifiableList =
         FXCollections.unmodifiableObservableList(internalList);
+    private final IdentityIndex<Task, Task> index =
+        new IdentityIndex<>(task -> task, Task::isSameTask);
+    private final TaskComparator taskComparator = new TaskComparator();
 
     /**
      * Returns true if the list contains an equivalent task as the given argument.
      */
     public boolean contains(Task toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTask);
+        return index.contains(toCheck);
     }
 
     /**
@@ -46,7 +58,8 @@ public class UniqueTaskList implements Iterable<Task> {
         if (contains(toAdd)) {
             throw new DuplicateTaskException();
         }
-        internalList.add(toAdd);
+        internalList.add(CollectionUtil.upperBound(internalList, toAdd, taskComparator), toAdd);
+        index.add(toAdd);
     }
 
     /**
@@ -57,8 +70,8 @@ public class UniqueTaskList implements Iterable<Task> {
     public void setTask(Task target, Task editedTask) {
         CollectionUtil.requireAllNonNull(target, editedTask);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        int targetIndex = CollectionUtil.indexOfSorted(internalList, target, taskComparator);
+        if (targetIndex == -1) {
             throw new TaskNotFoundException();
         }
 
@@ -66,7 +79,14 @@ public class UniqueTaskList implements Iterable<Task> {
             throw new DuplicateTaskException();
         }
 
-        internalList.set(index, editedTask);
+        if (isInOrderAt(targetIndex, editedTask)) {
+            internalList.set(targetIndex, editedTask);
+        } else {
+            internalList.remove(targetIndex);
+            internalList.add(CollectionUtil.upperBound(internalList, editedTask, taskComparator), editedTask);
+        }
+        index.remove(target);
+        index.add(editedTask);
     }
 
     /**
@@ -75,14 +95,18 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public void remove(Task toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int targetIndex = CollectionUtil.indexOfSorted(internalList, toRemove, taskComparator);
+        if (targetIndex == -1) {
             throw new TaskNotFoundException();
         }
+        internalList.remove(targetIndex);
+        index.remove(toRemove);
     }
 
     public void setTasks(UniqueTaskList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        index.setAll(replacement.internalList);
     }
 
     /**
@@ -95,7 +119,10 @@ public class UniqueTaskList implements Iterable<Task> {
             throw new DuplicateTaskException();
         }
 
-        internalList.setAll(tasks);
+        List<Task> sortedTasks = new ArrayList<>(tasks);
+        sortedTasks.sort(taskComparator);
+        internalList.setAll(sortedTasks);
+        index.setAll(tasks);
     }
 
     /**
@@ -105,6 +132,21 @@ public class UniqueTaskList implements Iterable<Task> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Starts grouping the modifications of this list into a single change, see
+     * {@link BatchObservableList#beginBatch()}.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Reports the modifications made since the matching {@link #beginBatch()} as a single change.
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
     @Override
     public Iterator<Task> iterator() {
         return internalList.iterator();
@@ -126,18 +168,16 @@ public class UniqueTaskList implements Iterable<Task> {
      * Returns true if {@code tasks} contains only unique tasks.
      */
     private boolean tasksAreUnique(List<Task> tasks) {
-        for (int i = 0; i < tasks.size() - 1; i++) {
-            for (int j = i + 1; j < tasks.size(); j++) {
-                if (tasks.get(i).isSameTask(tasks.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return index.areUnique(tasks);
     }
 
-    public void sort(TaskComparator taskComparator) {
-        internalList.sort(taskComparator);
+    /**
+     * Returns true if {@code task} can replace the task at {@code position} without breaking the sorted order.
+     */
+    private boolean isInOrderAt(int position, Task task) {
+        return (position == 0 || taskComparator.compare(internalList.get(position - 1), task) <= 0)
+            && (position == internalList.size() - 1
+            || taskComparator.compare(task, internalList.get(position + 1)) <= 0);
     }
 
     @Override
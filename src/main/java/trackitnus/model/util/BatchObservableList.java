@@ -0,0 +1,85 @@
+package trackitnus.model.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable array list whose modifications can be grouped into batches. All modifications made between
+ * {@link #beginBatch()} and the matching {@link #endBatch()} are reported to listeners as a single change, once the
+ * batch ends, so that views of the list only have to process them once.
+ * <p>
+ * Batches can be nested; the change is reported when the outermost batch ends.
+ *
+ * @param <E> the type of the list elements
+ */
+public class BatchObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final List<E> elements = new ArrayList<>();
+
+    /**
+     * Starts a batch. Every call must be followed by a call to {@link #endBatch()}, even if a modification fails.
+     */
+    public void beginBatch() {
+        beginChange();
+    }
+
+    /**
+     * Ends a batch, and reports the modifications made during it if it is the outermost batch.
+     */
+    public void endBatch() {
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+
+    /**
+     * Sorts the list with a stable sort, and reports the new order as a single permutation.
+     */
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        Integer[] order = new Integer[elements.size()];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, (i, j) -> comparator.compare(elements.get(i), elements.get(j)));
+
+        int[] permutation = new int[order.length];
+        List<E> sorted = new ArrayList<>(order.length);
+        for (int newIndex = 0; newIndex < order.length; newIndex++) {
+            permutation[order[newIndex]] = newIndex;
+            sorted.add(elements.get(order[newIndex]));
+        }
+
+        beginChange();
+        modCount++;
+        elements.clear();
+        elements.addAll(sorted);
+        nextPermutation(0, permutation.length, permutation);
+        endChange();
+    }
+}
@@ -0,0 +1,234 @@
+package trackitnus.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static trackitnus.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import trackitnus.model.TrackIter;
+import trackitnus.model.commons.Address;
+import trackitnus.model.commons.Code;
+import trackitnus.model.commons.Name;
+import trackitnus.model.contact.Contact;
+import trackitnus.model.contact.Email;
+import trackitnus.model.contact.Phone;
+import trackitnus.model.lesson.DayOfWeek;
+import trackitnus.model.lesson.Lesson;
+import trackitnus.model.lesson.LessonDateTime;
+import trackitnus.model.lesson.Type;
+import trackitnus.model.module.Module;
+import trackitnus.model.tag.Tag;
+import trackitnus.model.task.Task;
+
+/**
+ * Generates large, realistic {@code TrackIter} data sets for benchmarks, load tests and stress tests of the UI.
+ * <p>
+ * The data set consists of modules, weekly lessons of those modules on weekdays, tasks due on the days of a semester,
+ * and contacts tagged with the codes of the modules they are involved in. It is fully determined by the seed and the
+ * configuration of the generator, including the semester start, so the same data set can be generated again, e.g. to
+ * compare two benchmark runs. The semester start defaults to a fixed date rather than the current one for the same
+ * reason.
+ */
+public class DatasetGenerator {
+
+    /** The greatest number of modules that can be generated. */
+    public static final int MAX_MODULES = 100_000;
+    /** The greatest number of weekly lessons that can be generated for each module. */
+    public static final int MAX_LESSONS_PER_MODULE = 1_000;
+    /** The number of days of a semester, from the first week of lessons to the end of the examinations. */
+    public static final int SEMESTER_DAYS = 17 * 7;
+    /** The semester start used unless another is set, the first day of Semester 1 of AY2020/21. */
+    public static final LocalDate DEFAULT_SEMESTER_START = LocalDate.of(2020, 8, 10);
+
+    private static final String[] CODE_PREFIXES = {"CS", "MA", "ST", "IS", "EE", "CG", "GEA", "GEH", "GER", "LSM",
+        "PC", "ES"};
+    private static final String[] CODE_SUFFIXES = {"", "", "", "", "S", "T", "R", "X"};
+    private static final String[] MODULE_TOPICS = {"Programming", "Algorithms", "Data Structures", "Statistics",
+        "Linear Algebra", "Calculus", "Databases", "Networks", "Operating Systems", "Software Engineering",
+        "Signals", "Ethics", "Biology", "Physics", "Writing"};
+    private static final String[] MODULE_LEVELS = {"Introduction to", "Principles of", "Advanced", "Topics in"};
+    private static final String[] TASK_KINDS = {"Assignment", "Tutorial", "Lab", "Quiz", "Reading", "Project",
+        "Problem Set", "Essay"};
+    private static final String[] TASK_REMARKS = {"", "", "", "Submit on LumiNUS", "Group work", "Graded",
+        "Bring calculator"};
+    private static final Type[] LESSON_TYPES = {Type.LEC, Type.LEC, Type.TUT, Type.TUT, Type.LAB, Type.REC, Type.SEC};
+    private static final DayOfWeek[] LESSON_DAYS = {DayOfWeek.Mon, DayOfWeek.Tue, DayOfWeek.Wed, DayOfWeek.Thu,
+        DayOfWeek.Fri};
+    private static final String[] VENUES = {"COM1-0210", "COM1-B112", "i3-Aud", "LT19", "LT27", "S16-0436",
+        "UTown-SR1", "E-Learning"};
+    private static final int FIRST_LESSON_HOUR = 8;
+    private static final int LAST_LESSON_END_HOUR = 21;
+    private static final int MAX_LESSON_HOURS = 3;
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Jeffry", "Roy",
+        "Wei Hong", "Hui Min", "Priya", "Ahmad", "Mei Ling", "Jun Jie", "Siti"};
+    private static final String[] LAST_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Lum", "Tan", "Lim",
+        "Ng", "Wong", "Kumar", "Chua", "Goh", "Balakrishnan"};
+    private static final String[] ROLE_TAGS = {"TA", "Professor", "classmates", "friends"};
+    private static final int PHONE_NUMBERS = 10_000_000;
+    /** A prime that does not divide {@code PHONE_NUMBERS}, so that multiplying by it permutes the phone numbers. */
+    private static final int PHONE_STRIDE = 7_919;
+    private static final double TASKS_WITH_MODULE = 0.85;
+
+    private final long seed;
+    private int moduleCount = 6;
+    private int lessonsPerWeek = 20;
+    private int taskCount = 50;
+    private int contactCount = 20;
+    private LocalDate semesterStart = DEFAULT_SEMESTER_START;
+
+    /**
+     * Creates a generator of a small data set of 6 modules, 20 weekly lessons, 50 tasks and 20 contacts, for a
+     * semester starting on {@link #DEFAULT_SEMESTER_START}.
+     */
+    public DatasetGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Sets the number of modules to generate.
+     */
+    public DatasetGenerator withModules(int moduleCount) {
+        checkArgument(moduleCount >= 0 && moduleCount <= MAX_MODULES, "Invalid number of modules: " + moduleCount);
+        this.moduleCount = moduleCount;
+        return this;
+    }
+
+    /**
+     * Sets the number of weekly lessons to generate, over all modules.
+     */
+    public DatasetGenerator withLessonsPerWeek(int lessonsPerWeek) {
+        checkArgument(lessonsPerWeek >= 0, "Invalid number of lessons: " + lessonsPerWeek);
+        this.lessonsPerWeek = lessonsPerWeek;
+        return this;
+    }
+
+    /**
+     * Sets the number of tasks to generate.
+     */
+    public DatasetGenerator withTasks(int taskCount) {
+        checkArgument(taskCount >= 0, "Invalid number of tasks: " + taskCount);
+        this.taskCount = taskCount;
+        return this;
+    }
+
+    /**
+     * Sets the number of contacts to generate.
+     */
+    public DatasetGenerator withContacts(int contactCount) {
+        checkArgument(contactCount >= 0 && contactCount <= PHONE_NUMBERS,
+            "Invalid number of contacts: " + contactCount);
+        this.contactCount = contactCount;
+        return this;
+    }
+
+    /**
+     * Sets the first day of the semester, over the {@value #SEMESTER_DAYS} days of which the tasks are due.
+     */
+    public DatasetGenerator withSemesterStart(LocalDate semesterStart) {
+        requireNonNull(semesterStart);
+        this.semesterStart = semesterStart;
+        return this;
+    }
+
+    /**
+     * Generates the data set.
+     *
+     * @throws IllegalArgumentException if lessons are to be generated without modules, or more than
+     *                                  {@value #MAX_LESSONS_PER_MODULE} lessons for each module.
+     */
+    public TrackIter generate() {
+        checkArgument(lessonsPerWeek <= (long) moduleCount * MAX_LESSONS_PER_MODULE,
+            "Too many lessons for " + moduleCount + " modules: " + lessonsPerWeek);
+
+        // each kind of entity has its own random sequence, so changing the number of lessons, tasks or contacts
+        // does not change the other entities
+        Random random = new Random(seed);
+        List<Module> modules = generateModules(new Random(random.nextLong()));
+        List<Lesson> lessons = generateLessons(new Random(random.nextLong()), modules);
+        List<Task> tasks = generateTasks(new Random(random.nextLong()), modules);
+        List<Contact> contacts = generateContacts(new Random(random.nextLong()), modules);
+
+        // set the lists in bulk, as adding the entities one by one would spend most of the time keeping them sorted
+        TrackIter trackIter = new TrackIter();
+        trackIter.setModules(modules);
+        trackIter.setLessons(lessons);
+        trackIter.setTasks(tasks);
+        trackIter.setContacts(contacts);
+        return trackIter;
+    }
+
+    private List<Module> generateModules(Random random) {
+        Set<String> codes = new LinkedHashSet<>();
+        while (codes.size() < moduleCount) {
+            codes.add(pick(random, CODE_PREFIXES) + (1000 + random.nextInt(9000)) + pick(random, CODE_SUFFIXES));
+        }
+        List<Module> modules = new ArrayList<>();
+        for (String code : codes) {
+            String name = pick(random, MODULE_LEVELS) + " " + pick(random, MODULE_TOPICS);
+            modules.add(new Module(new Code(code), new Name(name)));
+        }
+        return modules;
+    }
+
+    private List<Lesson> generateLessons(Random random, List<Module> modules) {
+        Set<Lesson> lessons = new LinkedHashSet<>();
+        while (lessons.size() < lessonsPerWeek) {
+            Code code = modules.get(random.nextInt(modules.size())).getCode();
+            int hours = 1 + random.nextInt(MAX_LESSON_HOURS);
+            LocalTime startTime = LocalTime.of(
+                FIRST_LESSON_HOUR + random.nextInt(LAST_LESSON_END_HOUR - hours - FIRST_LESSON_HOUR + 1), 0);
+            LessonDateTime time = new LessonDateTime(pick(random, LESSON_DAYS), startTime, startTime.plusHours(hours));
+            lessons.add(new Lesson(code, pick(random, LESSON_TYPES), time, new Address(pick(random, VENUES))));
+        }
+        return new ArrayList<>(lessons);
+    }
+
+    private List<Task> generateTasks(Random random, List<Module> modules) {
+        int[] numbers = new int[TASK_KINDS.length];
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < taskCount; i++) {
+            // number the tasks of each kind, which also keeps their names unique
+            int kind = random.nextInt(TASK_KINDS.length);
+            Name name = new Name(TASK_KINDS[kind] + " " + ++numbers[kind]);
+            LocalDate date = semesterStart.plusDays(random.nextInt(SEMESTER_DAYS));
+            Code code = !modules.isEmpty() && random.nextDouble() < TASKS_WITH_MODULE
+                ? modules.get(random.nextInt(modules.size())).getCode()
+                : null;
+            tasks.add(new Task(name, date, code, pick(random, TASK_REMARKS)));
+        }
+        return tasks;
+    }
+
+    private List<Contact> generateContacts(Random random, List<Module> modules) {
+        List<Contact> contacts = new ArrayList<>();
+        for (int i = 0; i < contactCount; i++) {
+            // go through every combination of first and last names before numbering them, so that few contacts
+            // share a name, as contacts are told apart by their names first
+            String firstName = FIRST_NAMES[i % FIRST_NAMES.length];
+            String lastName = LAST_NAMES[i / FIRST_NAMES.length % LAST_NAMES.length];
+            int generation = i / (FIRST_NAMES.length * LAST_NAMES.length);
+            String name = firstName + " " + lastName + (generation == 0 ? "" : " " + (generation + 1));
+            Phone phone = new Phone(String.valueOf(80_000_000 + (int) ((long) i * PHONE_STRIDE % PHONE_NUMBERS)));
+            Email email = new Email((firstName + lastName).replace(" ", "").toLowerCase() + i + "@u.nus.edu");
+
+            Set<Tag> tags = new HashSet<>();
+            tags.add(new Tag(pick(random, ROLE_TAGS)));
+            for (int j = random.nextInt(3); j > 0 && !modules.isEmpty(); j--) {
+                tags.add(new Tag(modules.get(random.nextInt(modules.size())).getCode().toString()));
+            }
+            contacts.add(new Contact(new Name(name), phone, email, tags));
+        }
+        return contacts;
+    }
+
+    private static <T> T pick(Random random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,114 @@
+package trackitnus.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * A hash index over the elements of a unique list, used to answer "is there already an element with the same
+ * identity" in amortized O(1) instead of scanning the whole list.
+ * <p>
+ * Elements are bucketed by a hash key extracted from each element. The key must be consistent with the identity
+ * predicate, i.e. two elements that are considered the same must always produce equal keys. Elements within a bucket
+ * are then compared with the identity predicate, which allows weaker notions of identity (such as
+ * {@code Contact#isSameContact}) that cannot be expressed as a single key.
+ * <p>
+ * The index does not own the elements; it is the caller's responsibility to keep it in sync with the backing list.
+ *
+ * @param <T> the type of the indexed elements
+ * @param <K> the type of the hash key
+ */
+public class IdentityIndex<T, K> {
+
+    private final Map<K, List<T>> buckets = new HashMap<>();
+    private final Function<? super T, ? extends K> keyExtractor;
+    private final BiPredicate<? super T, ? super T> isSameIdentity;
+
+    /**
+     * Creates an empty index.
+     *
+     * @param keyExtractor   extracts the hash key of an element. Elements with the same identity must have equal keys.
+     * @param isSameIdentity returns true if two elements have the same identity.
+     */
+    public IdentityIndex(Function<? super T, ? extends K> keyExtractor,
+                         BiPredicate<? super T, ? super T> isSameIdentity) {
+        requireNonNull(keyExtractor);
+        requireNonNull(isSameIdentity);
+        this.keyExtractor = keyExtractor;
+        this.isSameIdentity = isSameIdentity;
+    }
+
+    /**
+     * Returns true if the index contains an element with the same identity as {@code toCheck}.
+     */
+    public boolean contains(T toCheck) {
+        requireNonNull(toCheck);
+        List<T> bucket = buckets.get(keyExtractor.apply(toCheck));
+        if (bucket == null) {
+            return false;
+        }
+        for (T element : bucket) {
+            if (isSameIdentity.test(toCheck, element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds {@code toAdd} to the index. Uniqueness is not checked here.
+     */
+    public void add(T toAdd) {
+        requireNonNull(toAdd);
+        buckets.computeIfAbsent(keyExtractor.apply(toAdd), unused -> new ArrayList<>(1)).add(toAdd);
+    }
+
+    /**
+     * Removes the element equal to {@code toRemove} (as defined by {@code equals}) from the index.
+     *
+     * @return true if such an element was found and removed.
+     */
+    public boolean remove(T toRemove) {
+        requireNonNull(toRemove);
+        K key = keyExtractor.apply(toRemove);
+        List<T> bucket = buckets.get(key);
+        if (bucket == null || !bucket.remove(toRemove)) {
+            return false;
+        }
+        if (bucket.isEmpty()) {
+            buckets.remove(key);
+        }
+        return true;
+    }
+
+    /**
+     * Replaces the contents of this index with {@code elements}.
+     */
+    public void setAll(Collection<? extends T> elements) {
+        requireNonNull(elements);
+        buckets.clear();
+        elements.forEach(this::add);
+    }
+
+    /**
+     * Returns true if no two elements of {@code elements} have the same identity.
+     * Runs in expected O(n) time, using a fresh index with the same key extractor and identity predicate.
+     */
+    public boolean areUnique(Collection<? extends T> elements) {
+        requireNonNull(elements);
+        IdentityIndex<T, K> seen = new IdentityIndex<>(keyExtractor, isSameIdentity);
+        for (T element : elements) {
+            if (seen.contains(element)) {
+                return false;
+            }
+            seen.add(element);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,471 @@
+package trackitnus.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list that shares structure with the lists it was derived from.
+ * <p>
+ * The elements are kept in a balanced (AVL) tree ordered by position, where every node knows the size of its subtree.
+ * {@link #insert}, {@link #set} and {@link #remove} return a new list in O(log n) time and space: only the nodes on
+ * the path to the modified position are copied, and every other node is shared with the original list. Keeping many
+ * versions of a large list therefore costs memory proportional to the modifications between them, not to their size.
+ *
+ * @param <T> the type of the list elements
+ */
+public final class PersistentList<T> implements Iterable<T> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<T> root;
+
+    private PersistentList(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * Returns a list of the elements of {@code elements}, in order, built in O(n) time.
+     */
+    public static <T> PersistentList<T> of(List<? extends T> elements) {
+        requireNonNull(elements);
+        if (elements.isEmpty()) {
+            return empty();
+        }
+        return new PersistentList<>(build(elements, 0, elements.size()));
+    }
+
+    public int size() {
+        return sizeOf(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not a position in this list.
+     */
+    public T get(int index) {
+        checkIndex(index, size());
+        Node<T> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * Returns a list with {@code element} inserted at {@code index}, shifting the elements from {@code index} onwards.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is negative or greater than the size of this list.
+     */
+    public PersistentList<T> insert(int index, T element) {
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(insertInto(root, index, element));
+    }
+
+    /**
+     * Returns a list with the element at {@code index} replaced by {@code element}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not a position in this list.
+     */
+    public PersistentList<T> set(int index, T element) {
+        checkIndex(index, size());
+        return new PersistentList<>(setIn(root, index, element));
+    }
+
+    /**
+     * Returns a list without the element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not a position in this list.
+     */
+    public PersistentList<T> remove(int index) {
+        checkIndex(index, size());
+        return new PersistentList<>(removeFrom(root, index));
+    }
+
+    /**
+     * Returns a new mutable list of the elements of this list, in order.
+     */
+    public List<T> toList() {
+        List<T> list = new ArrayList<>(size());
+        forEach(list::add);
+        return list;
+    }
+
+    /**
+     * Returns a new mutable list of the elements from {@code fromIndex} inclusive to {@code toIndex} exclusive, in
+     * O(log n + k) time, where k is the number of elements returned.
+     *
+     * @throws IndexOutOfBoundsException if the range is not a range of positions of this list.
+     */
+    public List<T> subList(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Size: " + size());
+        }
+        List<T> list = new ArrayList<>(toIndex - fromIndex);
+        collect(root, fromIndex, toIndex, list);
+        return list;
+    }
+
+    /**
+     * Returns the number of leading elements that {@code first} and {@code second} have in common.
+     * <p>
+     * The parts of the lists that share structure are skipped without comparing their elements, so for a list and
+     * the lists derived from it, the time taken grows with the number of modifications between them rather than with
+     * their size.
+     */
+    public static int commonPrefixLength(PersistentList<?> first, PersistentList<?> second) {
+        requireNonNull(first);
+        requireNonNull(second);
+        return commonLength(first, second, false, Math.min(first.size(), second.size()));
+    }
+
+    /**
+     * Returns the number of trailing elements that {@code first} and {@code second} have in common, up to
+     * {@code limit}. See {@link #commonPrefixLength(PersistentList, PersistentList)}.
+     */
+    public static int commonSuffixLength(PersistentList<?> first, PersistentList<?> second, int limit) {
+        requireNonNull(first);
+        requireNonNull(second);
+        return commonLength(first, second, true, Math.min(limit, Math.min(first.size(), second.size())));
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private final Deque<Node<T>> path = new ArrayDeque<>();
+
+            {
+                pushLeftmost(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<T> node = path.pop();
+                pushLeftmost(node.right);
+                return node.value;
+            }
+
+            private void pushLeftmost(Node<T> node) {
+                for (Node<T> current = node; current != null; current = current.left) {
+                    path.push(current);
+                }
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof PersistentList)) {
+            return false;
+        }
+        PersistentList<?> otherList = (PersistentList<?>) other;
+        if (size() != otherList.size()) {
+            return false;
+        }
+        Iterator<?> otherElements = otherList.iterator();
+        for (T element : this) {
+            if (!element.equals(otherElements.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (T element : this) {
+            hash = 31 * hash + element.hashCode();
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    //=========== Tree operations ================================================================================
+
+    /**
+     * Adds the elements of the subtree of {@code node} from {@code fromIndex} to {@code toIndex}, relative to the
+     * subtree, to {@code list}, skipping the subtrees outside of the range.
+     */
+    private static <T> void collect(Node<T> node, int fromIndex, int toIndex, List<T> list) {
+        if (node == null || fromIndex >= toIndex) {
+            return;
+        }
+        int leftSize = sizeOf(node.left);
+        if (fromIndex < leftSize) {
+            collect(node.left, fromIndex, Math.min(toIndex, leftSize), list);
+        }
+        if (fromIndex <= leftSize && leftSize < toIndex) {
+            list.add(node.value);
+        }
+        if (toIndex > leftSize + 1) {
+            collect(node.right, Math.max(fromIndex - leftSize - 1, 0), toIndex - leftSize - 1, list);
+        }
+    }
+
+    /**
+     * Returns the number of elements, up to {@code limit}, that {@code first} and {@code second} have in common from
+     * their start, or from their end if {@code fromEnd} is true.
+     */
+    private static int commonLength(PersistentList<?> first, PersistentList<?> second, boolean fromEnd, int limit) {
+        Cursor firstCursor = new Cursor(first.root, fromEnd);
+        Cursor secondCursor = new Cursor(second.root, fromEnd);
+        int length = 0;
+        while (length < limit) {
+            Node<?> shared = firstCursor.findSharedSubtree(secondCursor);
+            if (shared != null) {
+                if (shared.size >= limit - length) {
+                    return limit;
+                }
+                firstCursor.skip(shared);
+                secondCursor.skip(shared);
+                length += shared.size;
+            } else if (firstCursor.next().equals(secondCursor.next())) {
+                length++;
+            } else {
+                return length;
+            }
+        }
+        return length;
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Bound: " + bound);
+        }
+    }
+
+    private static <T> Node<T> build(List<? extends T> elements, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>(elements.get(middle), build(elements, from, middle), build(elements, middle + 1, to));
+    }
+
+    private static <T> Node<T> insertInto(Node<T> node, int index, T element) {
+        if (node == null) {
+            return new Node<>(element, null, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(node.value, insertInto(node.left, index, element), node.right);
+        }
+        return balance(node.value, node.left, insertInto(node.right, index - leftSize - 1, element));
+    }
+
+    private static <T> Node<T> setIn(Node<T> node, int index, T element) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.value, setIn(node.left, index, element), node.right);
+        }
+        if (index > leftSize) {
+            return new Node<>(node.value, node.left, setIn(node.right, index - leftSize - 1, element));
+        }
+        return new Node<>(element, node.left, node.right);
+    }
+
+    private static <T> Node<T> removeFrom(Node<T> node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(node.value, removeFrom(node.left, index), node.right);
+        }
+        if (index > leftSize) {
+            return balance(node.value, node.left, removeFrom(node.right, index - leftSize - 1));
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        Node<T> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.value, node.left, removeFrom(node.right, 0));
+    }
+
+    /**
+     * Returns a node of {@code value} between {@code left} and {@code right}, rotated so that the heights of its
+     * subtrees differ by at most one. The heights of {@code left} and {@code right} may differ by at most two.
+     */
+    private static <T> Node<T> balance(T value, Node<T> left, Node<T> right) {
+        int difference = heightOf(left) - heightOf(right);
+        if (difference > 1) {
+            if (heightOf(left.left) < heightOf(left.right)) {
+                left = rotateLeft(left.value, left.left, left.right);
+            }
+            return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+        }
+        if (difference < -1) {
+            if (heightOf(right.right) < heightOf(right.left)) {
+                right = rotateRight(right.value, right.left, right.right);
+            }
+            return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+        }
+        return new Node<>(value, left, right);
+    }
+
+    private static <T> Node<T> rotateLeft(T value, Node<T> left, Node<T> right) {
+        return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+    }
+
+    private static <T> Node<T> rotateRight(T value, Node<T> left, Node<T> right) {
+        return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * Walks the nodes of a tree in order, or in reverse order.
+     * <p>
+     * The next node is on top of {@code path}, followed by the ancestors whose values are still to be walked. If the
+     * next node has no first child, it starts a run of nodes in {@code path} that each have the node before them as
+     * their first child, which are the roots of the subtrees that start at the next position.
+     */
+    private static final class Cursor {
+        private final Deque<Node<?>> path = new ArrayDeque<>();
+        private final boolean isReversed;
+
+        private Cursor(Node<?> root, boolean isReversed) {
+            this.isReversed = isReversed;
+            pushFirsts(root);
+        }
+
+        /**
+         * Returns the largest subtree that starts at the next position of both this cursor and {@code other}, or null
+         * if there is none.
+         */
+        private Node<?> findSharedSubtree(Cursor other) {
+            Node<?> shared = null;
+            Iterator<Node<?>> nodes = path.iterator();
+            Node<?> node = firstStartingHere(nodes);
+            Iterator<Node<?>> otherNodes = other.path.iterator();
+            Node<?> otherNode = other.firstStartingHere(otherNodes);
+            // both paths lead with subtrees of increasing sizes that start at the same position
+            while (node != null && otherNode != null) {
+                if (node == otherNode) {
+                    shared = node;
+                }
+                if (node.size <= otherNode.size) {
+                    node = nextStartingHere(node, nodes);
+                } else {
+                    otherNode = nextStartingHere(otherNode, otherNodes);
+                }
+            }
+            return shared;
+        }
+
+        /**
+         * Returns the next node if its subtree starts at the next position, that is, if none of the subtree has been
+         * walked yet, or null.
+         */
+        private Node<?> firstStartingHere(Iterator<Node<?>> nodes) {
+            if (!nodes.hasNext()) {
+                return null;
+            }
+            Node<?> node = nodes.next();
+            return firstChild(node) == null ? node : null;
+        }
+
+        /**
+         * Returns the node after {@code node} in {@code path} if its subtree starts at the same position, or null.
+         */
+        private Node<?> nextStartingHere(Node<?> node, Iterator<Node<?>> nodes) {
+            if (!nodes.hasNext()) {
+                return null;
+            }
+            Node<?> parent = nodes.next();
+            return firstChild(parent) == node ? parent : null;
+        }
+
+        /**
+         * Skips the subtree of {@code node}, which must start at the next position.
+         */
+        private void skip(Node<?> node) {
+            Node<?> popped;
+            do {
+                popped = path.pop();
+            } while (popped != node);
+        }
+
+        private Object next() {
+            Node<?> node = path.pop();
+            pushFirsts(isReversed ? node.left : node.right);
+            return node.value;
+        }
+
+        private void pushFirsts(Node<?> node) {
+            for (Node<?> current = node; current != null; current = firstChild(current)) {
+                path.push(current);
+            }
+        }
+
+        private Node<?> firstChild(Node<?> node) {
+            return isReversed ? node.right : node.left;
+        }
+    }
+
+    private static final class Node<T> {
+        private final T value;
+        private final Node<T> left;
+        private final Node<T> right;
+        private final int size;
+        private final int height;
+
+        private Node(T value, Node<T> left, Node<T> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            size = sizeOf(left) + sizeOf(right) + 1;
+            height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+}
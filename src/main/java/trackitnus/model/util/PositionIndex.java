@@ -0,0 +1,89 @@
+package trackitnus.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A hash index from a key of each element of an observable list to the element's position in the list, used to
+ * answer {@code indexOf}-style lookups in amortized O(1) instead of scanning the whole list.
+ * <p>
+ * The index keeps itself in sync with the list through change events. A change only records the first position
+ * that may have moved; the positions from there to the end of the list are recomputed on the next lookup. A burst of
+ * changes therefore costs at most one pass over the list, and lookups between changes cost O(1).
+ * <p>
+ * Keys must be unique within the list, which holds for the keys of a unique list and for views of such a list.
+ *
+ * @param <T> the type of the list elements
+ * @param <K> the type of the key
+ */
+public class PositionIndex<T, K> {
+
+    private final ObservableList<T> list;
+    private final Function<? super T, ? extends K> keyExtractor;
+    private final Map<K, Integer> positions = new HashMap<>();
+
+    /** Positions of elements before this one are up to date. */
+    private int validUpTo = 0;
+
+    /**
+     * Creates an index over {@code list}, which must not contain two elements with equal keys.
+     *
+     * @param keyExtractor extracts the key of an element.
+     */
+    public PositionIndex(ObservableList<T> list, Function<? super T, ? extends K> keyExtractor) {
+        requireNonNull(list);
+        requireNonNull(keyExtractor);
+        this.list = list;
+        this.keyExtractor = keyExtractor;
+        list.addListener(this::onChanged);
+    }
+
+    /**
+     * Returns the position of the element with the given {@code key}, or an empty {@code OptionalInt} if there is no
+     * such element in the list.
+     */
+    public OptionalInt indexOf(K key) {
+        requireNonNull(key);
+        refresh();
+        Integer position = positions.get(key);
+        return position == null ? OptionalInt.empty() : OptionalInt.of(position);
+    }
+
+    /**
+     * Returns the element with the given {@code key}, or {@code Optional.empty()} if there is no such element in the
+     * list.
+     */
+    public Optional<T> get(K key) {
+        OptionalInt position = indexOf(key);
+        return position.isPresent() ? Optional.of(list.get(position.getAsInt())) : Optional.empty();
+    }
+
+    private void onChanged(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            // a removed key that is still in the list was added back by this change, at or after its start
+            for (T removed : change.getRemoved()) {
+                positions.remove(keyExtractor.apply(removed));
+            }
+            validUpTo = Math.min(validUpTo, change.getFrom());
+        }
+    }
+
+    /**
+     * Recomputes the positions of the elements that may have moved since the last lookup.
+     */
+    private void refresh() {
+        int size = list.size();
+        for (int i = validUpTo; i < size; i++) {
+            positions.put(keyExtractor.apply(list.get(i)), i);
+        }
+        validUpTo = size;
+    }
+}
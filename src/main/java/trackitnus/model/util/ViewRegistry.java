@@ -0,0 +1,100 @@
+package trackitnus.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+
+/**
+ * Hands out filtered views of a list, one per predicate, so that every panel showing a subset of the list gets a view
+ * of its own instead of sharing a single filtered list whose predicate the other panels keep replacing.
+ * <p>
+ * A view is a {@link FilteredList}, which is updated incrementally from the change events of the source list, and
+ * is only filtered from scratch when it is created. Views are cached by predicate, so asking again for equal
+ * predicates (such as those of a module tab that is shown again) reuses the existing view. Only the most recently
+ * used views are cached; a view that is no longer cached stays up to date for as long as it is referenced.
+ * <p>
+ * Predicates must implement {@code equals} and {@code hashCode} to be shared, and must not depend on anything but the
+ * element being tested, such as the current time.
+ * <p>
+ * The view of the predicate that matches every element is the source list itself, so that showing everything, which
+ * is what the app does most of the time, adds no filtering work to each change of the source list.
+ *
+ * @param <T> the type of the list elements
+ * @param <K> the type of the key that positions are looked up by
+ */
+public class ViewRegistry<T, K> {
+
+    private static final int MAX_CACHED_VIEWS = 32;
+
+    private final ObservableList<T> source;
+    private final Function<? super T, ? extends K> keyExtractor;
+    private final Predicate<? super T> matchAll;
+    private final View<T, K> unfilteredView;
+    private final Map<Predicate<? super T>, View<T, K>> views =
+        new LinkedHashMap<>(MAX_CACHED_VIEWS, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Predicate<? super T>, View<T, K>> eldest) {
+                return size() > MAX_CACHED_VIEWS;
+            }
+        };
+
+    /**
+     * Creates a registry of views of {@code source}.
+     *
+     * @param keyExtractor extracts the key of an element, which must be unique within {@code source}.
+     * @param matchAll     the predicate that matches every element, whose view is {@code source} itself.
+     */
+    public ViewRegistry(ObservableList<T> source, Function<? super T, ? extends K> keyExtractor,
+                        Predicate<? super T> matchAll) {
+        requireNonNull(source);
+        requireNonNull(keyExtractor);
+        requireNonNull(matchAll);
+        this.source = source;
+        this.keyExtractor = keyExtractor;
+        this.matchAll = matchAll;
+        unfilteredView = new View<>(source, keyExtractor);
+    }
+
+    /**
+     * Returns the view of the elements that match {@code predicate}, creating it if it is not cached.
+     */
+    public View<T, K> getView(Predicate<? super T> predicate) {
+        requireNonNull(predicate);
+        if (predicate.equals(matchAll)) {
+            return unfilteredView;
+        }
+        return views.computeIfAbsent(predicate, unused ->
+            new View<>(new FilteredList<>(source, predicate), keyExtractor));
+    }
+
+    /**
+     * A live, unmodifiable view of the elements of a list that match a predicate, with O(1) position lookups.
+     */
+    public static class View<T, K> {
+        private final ObservableList<T> items;
+        private final PositionIndex<T, K> positions;
+
+        private View(ObservableList<T> items, Function<? super T, ? extends K> keyExtractor) {
+            this.items = items;
+            positions = new PositionIndex<>(items, keyExtractor);
+        }
+
+        public ObservableList<T> getItems() {
+            return items;
+        }
+
+        /**
+         * Returns the position in this view of the element with the given {@code key}, if it is in this view.
+         */
+        public OptionalInt indexOf(K key) {
+            return positions.indexOf(key);
+        }
+    }
+}
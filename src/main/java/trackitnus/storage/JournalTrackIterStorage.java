@@ -0,0 +1,270 @@
+package trackitnus.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import trackitnus.commons.core.LogsCenter;
+import trackitnus.commons.exceptions.DataConversionException;
+import trackitnus.commons.exceptions.IllegalValueException;
+import trackitnus.commons.util.FileUtil;
+import trackitnus.commons.util.JsonUtil;
+import trackitnus.model.ReadOnlyTrackIter;
+import trackitnus.model.util.PersistentList;
+
+/**
+ * A class to access TrackIter data stored as a json snapshot file plus a write-ahead journal on the hard disk.
+ * <p>
+ * The snapshot has the same format as the file written by {@link JsonTrackIterStorage}. Once it has been written,
+ * each save compares every list with the list that was last saved, and appends the changed range of each changed
+ * list as one compact {@link JsonJournalRecord} to a journal file next to the snapshot, instead of rewriting the
+ * whole snapshot. The lists are compared as the {@code PersistentList}s of the {@code TrackIterState}s saved, which
+ * share the structure of their unchanged parts, so both the comparison and the record written only take time
+ * proportional to the size of the change, not to the size of the data.
+ * <p>
+ * The journal is compacted into a new snapshot once it holds {@link #COMPACTION_THRESHOLD} records, or after a save
+ * failed. Every record carries the checksum of the snapshot it was written on top of, so records left over from
+ * before a compaction are ignored when reading. On reading, the journal is replayed over the snapshot.
+ * <p>
+ * This class is not thread-safe. Saves are expected to come from a single thread, such as that of a
+ * {@link TrackIterSaveService}.
+ */
+public class JournalTrackIterStorage implements TrackIterStorage {
+
+    public static final int COMPACTION_THRESHOLD = 100;
+    private static final String JOURNAL_EXTENSION = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalTrackIterStorage.class);
+
+    private final Path filePath;
+
+    /** The data as of the last successful save, or null if the next save must write a new snapshot. */
+    private TrackIterSnapshot saved;
+    private long snapshotChecksum;
+    private int journalSize;
+    private long bytesWritten;
+
+    public JournalTrackIterStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getTrackIterFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal kept next to the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return Paths.get(filePath.toString() + JOURNAL_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyTrackIter> readTrackIter() throws DataConversionException, IOException {
+        return readTrackIter(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTrackIter()}.
+     * Falls back to the newest readable backup of the snapshot, together with its own journal, if the snapshot is
+     * missing or not in the correct format.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot and its backups, or the journal, are not in the correct format.
+     */
+    public Optional<ReadOnlyTrackIter> readTrackIter(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        return TrackIterFiles.read(filePath, snapshotPath -> readSnapshot(snapshotPath,
+            getJournalFilePath(snapshotPath)));
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} and replays {@code journalPath} over it.
+     */
+    private static Optional<ReadOnlyTrackIter> readSnapshot(Path filePath, Path journalPath)
+        throws DataConversionException, IOException {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        // the checksum is taken as the snapshot is parsed, so that the file is neither read twice nor held in memory
+        CRC32 checksum = new CRC32();
+        JsonSerializableTrackIter jsonTrackIter;
+        try (InputStream in = new CheckedInputStream(Files.newInputStream(filePath), checksum)) {
+            jsonTrackIter = JsonUtil.readJson(in, JsonSerializableTrackIter.class);
+            in.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+
+        try {
+            replayJournal(journalPath, checksum.getValue(), jsonTrackIter);
+            return Optional.of(jsonTrackIter.toModelType());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveTrackIter(ReadOnlyTrackIter trackIter) throws IOException {
+        requireNonNull(trackIter);
+
+        if (saved == null || journalSize >= COMPACTION_THRESHOLD) {
+            compact(trackIter);
+            return;
+        }
+
+        TrackIterSnapshot current = TrackIterSnapshot.of(trackIter);
+        List<JsonJournalRecord> records = new ArrayList<>();
+        diff(saved.getContacts(), current.getContacts(), JsonJournalRecord::ofContacts)
+            .ifPresent(records::add);
+        diff(saved.getModules(), current.getModules(), JsonJournalRecord::ofModules)
+            .ifPresent(records::add);
+        diff(saved.getTasks(), current.getTasks(), JsonJournalRecord::ofTasks)
+            .ifPresent(records::add);
+        diff(saved.getLessons(), current.getLessons(), JsonJournalRecord::ofLessons)
+            .ifPresent(records::add);
+        if (records.isEmpty()) {
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (JsonJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+        try {
+            bytesWritten += FileUtil.appendToFile(getJournalFilePath(filePath), lines.toString());
+        } catch (IOException ioe) {
+            // the journal may now end with a partial record, so start over from a fresh snapshot next time
+            saved = null;
+            throw ioe;
+        }
+        journalSize += records.size();
+        saved = current;
+    }
+
+    /**
+     * Similar to {@link #saveTrackIter(ReadOnlyTrackIter)}.
+     * Saving to a location other than {@link #getTrackIterFilePath()} writes a snapshot without a journal.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveTrackIter(ReadOnlyTrackIter trackIter, Path filePath) throws IOException {
+        requireNonNull(trackIter);
+        requireNonNull(filePath);
+
+        if (filePath.equals(this.filePath)) {
+            saveTrackIter(trackIter);
+            return;
+        }
+        TrackIterFiles.write(trackIter, filePath);
+        bytesWritten += Files.size(filePath);
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * Writes {@code trackIter} as a new snapshot and starts a new journal.
+     * The previous snapshot becomes a backup together with its journal.
+     */
+    private void compact(ReadOnlyTrackIter trackIter) throws IOException {
+        saved = null;
+        TrackIterSnapshot current = TrackIterSnapshot.of(trackIter);
+        snapshotChecksum = TrackIterFiles.write(current, filePath);
+        bytesWritten += Files.size(filePath);
+        rotateJournals();
+        journalSize = 0;
+        saved = current;
+    }
+
+    /**
+     * Moves every journal one generation back, following the backups of the snapshots they belong to.
+     */
+    private void rotateJournals() throws IOException {
+        for (int generation = TrackIterFiles.BACKUP_GENERATIONS; generation > 0; generation--) {
+            Path newerSnapshot = generation == 1 ? filePath : FileUtil.getBackupPath(filePath, generation - 1);
+            Path newer = getJournalFilePath(newerSnapshot);
+            Path older = getJournalFilePath(FileUtil.getBackupPath(filePath, generation));
+            if (Files.exists(newer)) {
+                Files.move(newer, older, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                Files.deleteIfExists(older);
+            }
+        }
+    }
+
+    /**
+     * Applies the records in {@code journalPath} that were written on top of the snapshot with the given checksum.
+     * An unreadable last record is the result of an interrupted save, and is ignored.
+     */
+    private static void replayJournal(Path journalPath, long checksum, JsonSerializableTrackIter jsonTrackIter)
+        throws DataConversionException, IOException, IllegalValueException {
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                JsonJournalRecord record;
+                try {
+                    record = JsonUtil.fromJsonString(line, JsonJournalRecord.class);
+                } catch (IOException e) {
+                    if (reader.readLine() == null) {
+                        logger.warning("Ignoring incomplete last record of journal " + journalPath + ": " + e);
+                        return;
+                    }
+                    logger.warning("Error reading from journal file " + journalPath + ": " + e);
+                    throw new DataConversionException(e);
+                }
+                if (record.getSnapshot() == checksum) {
+                    jsonTrackIter.replay(record);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a record that turns {@code saved} into {@code current} by replacing the range between their common
+     * prefix and common suffix, or {@code Optional.empty()} if the lists are equal.
+     */
+    private <T> Optional<JsonJournalRecord> diff(PersistentList<T> saved, PersistentList<T> current,
+                                                 RecordFactory<T> recordFactory) {
+        int prefix = PersistentList.commonPrefixLength(saved, current);
+        if (prefix == saved.size() && prefix == current.size()) {
+            return Optional.empty();
+        }
+        int minSize = Math.min(saved.size(), current.size());
+        int suffix = PersistentList.commonSuffixLength(saved, current, minSize - prefix);
+        return Optional.of(recordFactory.create(snapshotChecksum, prefix, saved.size() - prefix - suffix,
+            current.subList(prefix, current.size() - suffix)));
+    }
+
+    /**
+     * Creates a journal record for a change to a list of {@code T}.
+     */
+    @FunctionalInterface
+    private interface RecordFactory<T> {
+        JsonJournalRecord create(long snapshot, int from, int removed, List<T> added);
+    }
+}
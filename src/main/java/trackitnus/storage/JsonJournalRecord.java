@@ -0,0 +1,132 @@
+package trackitnus.storage;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import trackitnus.commons.exceptions.IllegalValueException;
+import trackitnus.model.contact.Contact;
+import trackitnus.model.lesson.Lesson;
+import trackitnus.model.module.Module;
+import trackitnus.model.task.Task;
+
+/**
+ * A single change to one of the lists of a TrackIter, as written to the journal of a
+ * {@link JournalTrackIterStorage}.
+ * <p>
+ * A record replaces {@code removed} items starting at position {@code from} of the named list with the added items.
+ * Additions, edits and removals are all expressed this way. Only the added items of the named list are present.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonJournalRecord {
+
+    public static final String CONTACTS = "contacts";
+    public static final String MODULES = "modules";
+    public static final String TASKS = "tasks";
+    public static final String LESSONS = "lessons";
+    public static final String MESSAGE_INVALID_RECORD = "Journal record does not match the data file: %s";
+
+    private final long snapshot;
+    private final String list;
+    private final int from;
+    private final int removed;
+    private final List<JsonAdaptedContact> contacts;
+    private final List<JsonAdaptedModule> modules;
+    private final List<JsonAdaptedTask> tasks;
+    private final List<JsonAdaptedLesson> lessons;
+
+    /**
+     * Constructs a {@code JsonJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonJournalRecord(@JsonProperty("snapshot") long snapshot, @JsonProperty("list") String list,
+                             @JsonProperty("from") int from, @JsonProperty("removed") int removed,
+                             @JsonProperty("contacts") List<JsonAdaptedContact> contacts,
+                             @JsonProperty("modules") List<JsonAdaptedModule> modules,
+                             @JsonProperty("tasks") List<JsonAdaptedTask> tasks,
+                             @JsonProperty("lessons") List<JsonAdaptedLesson> lessons) {
+        this.snapshot = snapshot;
+        this.list = list;
+        this.from = from;
+        this.removed = removed;
+        this.contacts = contacts;
+        this.modules = modules;
+        this.tasks = tasks;
+        this.lessons = lessons;
+    }
+
+    static JsonJournalRecord ofContacts(long snapshot, int from, int removed, List<Contact> added) {
+        return new JsonJournalRecord(snapshot, CONTACTS, from, removed,
+            adapt(added, JsonAdaptedContact::new), null, null, null);
+    }
+
+    static JsonJournalRecord ofModules(long snapshot, int from, int removed, List<Module> added) {
+        return new JsonJournalRecord(snapshot, MODULES, from, removed,
+            null, adapt(added, JsonAdaptedModule::new), null, null);
+    }
+
+    static JsonJournalRecord ofTasks(long snapshot, int from, int removed, List<Task> added) {
+        return new JsonJournalRecord(snapshot, TASKS, from, removed,
+            null, null, adapt(added, JsonAdaptedTask::new), null);
+    }
+
+    static JsonJournalRecord ofLessons(long snapshot, int from, int removed, List<Lesson> added) {
+        return new JsonJournalRecord(snapshot, LESSONS, from, removed,
+            null, null, null, adapt(added, JsonAdaptedLesson::new));
+    }
+
+    /**
+     * Returns the checksum of the data file this record was written on top of.
+     */
+    long getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Applies this change to the given lists of a {@code JsonSerializableTrackIter}.
+     *
+     * @throws IllegalValueException if this record does not fit the lists.
+     */
+    void applyTo(List<JsonAdaptedContact> targetContacts, List<JsonAdaptedModule> targetModules,
+                 List<JsonAdaptedTask> targetTasks, List<JsonAdaptedLesson> targetLessons)
+        throws IllegalValueException {
+        if (list == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "missing list"));
+        }
+        switch (list) {
+        case CONTACTS:
+            splice(targetContacts, contacts);
+            break;
+        case MODULES:
+            splice(targetModules, modules);
+            break;
+        case TASKS:
+            splice(targetTasks, tasks);
+            break;
+        case LESSONS:
+            splice(targetLessons, lessons);
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "unknown list " + list));
+        }
+    }
+
+    private <T> void splice(List<T> target, List<T> added) throws IllegalValueException {
+        if (from < 0 || removed < 0 || from + removed > target.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD,
+                list + " has no items " + from + " to " + (from + removed)));
+        }
+        target.subList(from, from + removed).clear();
+        if (added != null) {
+            target.addAll(from, added);
+        }
+    }
+
+    private static <T, R> List<R> adapt(List<? extends T> items, Function<T, R> adapter) {
+        return items.stream().map(adapter).collect(Collectors.toList());
+    }
+}
@@ -58,6 +58,15 @@ class JsonSerializableTrackIter {
         lessons.addAll(source.getLessonList().stream().map(JsonAdaptedLesson::new).collect(Collectors.toList()));
     }
 
+    /**
+     * Applies a change read from the journal of a {@code JournalTrackIterStorage} to this TrackIter.
+     *
+     * @throws IllegalValueException if the change does not fit the current lists.
+     */
+    void replay(JsonJournalRecord record) throws IllegalValueException {
+        record.applyTo(contacts, modules, tasks, lessons);
+    }
+
     /**
      * Converts this TrackIter into the model's {@code TrackIter} object.
      *
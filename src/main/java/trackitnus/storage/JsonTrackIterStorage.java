@@ -1,8 +1,7 @@
 package trackitnus.storage;
 
-import static java.util.Objects.requireNonNull;
-
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -10,18 +9,19 @@ import java.util.logging.Logger;
 import trackitnus.commons.core.LogsCenter;
 import trackitnus.commons.exceptions.DataConversionException;
 import trackitnus.commons.exceptions.IllegalValueException;
-import trackitnus.commons.util.FileUtil;
 import trackitnus.commons.util.JsonUtil;
 import trackitnus.model.ReadOnlyTrackIter;
 
 /**
  * A class to access TrackIter data stored as a json file on the hard disk.
+ * The file is replaced atomically on every save, and the previous versions are kept as backups to fall back to.
  */
 public class JsonTrackIterStorage implements TrackIterStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonTrackIterStorage.class);
 
     private final Path filePath;
+    private long bytesWritten;
 
     public JsonTrackIterStorage(Path filePath) {
         this.filePath = filePath;
@@ -32,19 +32,22 @@ public class JsonTrackIterStorage implements TrackIterStorage {
     }
 
     @Override
-    public Optional<ReadOnlyTrackIter> readTrackIter() throws DataConversionException {
+    public Optional<ReadOnlyTrackIter> readTrackIter() throws DataConversionException, IOException {
         return readTrackIter(filePath);
     }
 
     /**
      * Similar to {@link #readTrackIter()}.
+     * Falls back to the newest readable backup if the file is missing or not in the correct format.
      *
      * @param filePath location of the data. Cannot be null.
-     * @throws DataConversionException if the file is not in the correct format.
+     * @throws DataConversionException if neither the file nor its backups are in the correct format.
      */
-    public Optional<ReadOnlyTrackIter> readTrackIter(Path filePath) throws DataConversionException {
-        requireNonNull(filePath);
+    public Optional<ReadOnlyTrackIter> readTrackIter(Path filePath) throws DataConversionException, IOException {
+        return TrackIterFiles.read(filePath, JsonTrackIterStorage::readFile);
+    }
 
+    private static Optional<ReadOnlyTrackIter> readFile(Path filePath) throws DataConversionException {
         Optional<JsonSerializableTrackIter> jsonTrackIter = JsonUtil.readJsonFile(
             filePath, JsonSerializableTrackIter.class);
         if (jsonTrackIter.isEmpty()) {
@@ -70,11 +73,13 @@ public class JsonTrackIterStorage implements TrackIterStorage {
      * @param filePath location of the data. Cannot be null.
      */
     public void saveTrackIter(ReadOnlyTrackIter trackIter, Path filePath) throws IOException {
-        requireNonNull(trackIter);
-        requireNonNull(filePath);
+        TrackIterFiles.write(trackIter, filePath);
+        bytesWritten += Files.size(filePath);
+    }
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableTrackIter(trackIter), filePath);
+    @Override
+    public long getBytesWritten() {
+        return bytesWritten;
     }
 
 }
@@ -76,4 +76,9 @@ public class StorageManager implements Storage {
         trackIterStorage.saveTrackIter(trackIter, filePath);
     }
 
+    @Override
+    public long getBytesWritten() {
+        return trackIterStorage.getBytesWritten();
+    }
+
 }
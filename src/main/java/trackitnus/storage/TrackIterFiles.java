@@ -0,0 +1,83 @@
+package trackitnus.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import trackitnus.commons.core.LogsCenter;
+import trackitnus.commons.exceptions.DataConversionException;
+import trackitnus.commons.util.FileUtil;
+import trackitnus.commons.util.JsonUtil;
+import trackitnus.model.ReadOnlyTrackIter;
+
+/**
+ * Writes TrackIter data files atomically while keeping {@link #BACKUP_GENERATIONS} previous versions of each, and
+ * reads them back, falling back to the newest readable backup when the file itself is corrupt.
+ */
+class TrackIterFiles {
+
+    public static final int BACKUP_GENERATIONS = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(TrackIterFiles.class);
+
+    /**
+     * Writes {@code trackIter} to {@code filePath} as json, and keeps the previous version as a backup.
+     * The json is streamed into the file as it is generated.
+     *
+     * @return the CRC-32 checksum of the bytes that were written.
+     */
+    static long write(ReadOnlyTrackIter trackIter, Path filePath) throws IOException {
+        requireNonNull(trackIter);
+        requireNonNull(filePath);
+
+        JsonSerializableTrackIter jsonTrackIter = new JsonSerializableTrackIter(trackIter);
+        CRC32 checksum = new CRC32();
+        FileUtil.writeToFile(filePath, out -> JsonUtil.writeJson(new CheckedOutputStream(out, checksum),
+            jsonTrackIter, false), BACKUP_GENERATIONS);
+        return checksum.getValue();
+    }
+
+    /**
+     * Reads {@code filePath} with {@code reader}. If the file cannot be converted, its backups are read instead, newest
+     * first. A missing file is not an error: deleting it is how the data is reset, so its backups are not used then.
+     *
+     * @throws DataConversionException the error of the file, if neither the file nor any backup could be read.
+     */
+    static Optional<ReadOnlyTrackIter> read(Path filePath, Reader reader) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        DataConversionException fileError;
+        try {
+            return reader.read(filePath);
+        } catch (DataConversionException e) {
+            fileError = e;
+        }
+
+        for (int generation = 1; generation <= BACKUP_GENERATIONS; generation++) {
+            Path backupPath = FileUtil.getBackupPath(filePath, generation);
+            try {
+                Optional<ReadOnlyTrackIter> trackIter = reader.read(backupPath);
+                if (trackIter.isPresent()) {
+                    logger.warning("Data file " + filePath + " could not be read, using backup " + backupPath);
+                    return trackIter;
+                }
+            } catch (DataConversionException e) {
+                logger.warning("Backup " + backupPath + " could not be read either");
+            }
+        }
+        throw fileError;
+    }
+
+    /**
+     * Reads a single TrackIter data file, returning {@code Optional.empty()} if it does not exist.
+     */
+    @FunctionalInterface
+    interface Reader {
+        Optional<ReadOnlyTrackIter> read(Path filePath) throws DataConversionException, IOException;
+    }
+}
@@ -0,0 +1,173 @@
+package trackitnus.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import trackitnus.commons.core.LogsCenter;
+import trackitnus.commons.util.StringUtil;
+import trackitnus.model.ReadOnlyTrackIter;
+
+/**
+ * Saves TrackIter data to a {@link TrackIterStorage} on a background thread, so that the caller never waits for
+ * disk I/O.
+ * <p>
+ * Each request takes an immutable snapshot of the TrackIter on the calling thread, which for a {@code TrackIter} is its
+ * structurally shared {@code TrackIterState} and takes O(1) time. Any copying and comparing of the data is left to the
+ * background thread. Snapshots are written one at a time, in order. A snapshot that is still waiting to be written
+ * when a newer one is requested is replaced by the newer one, so a burst of requests results in at most one pending
+ * write.
+ * <p>
+ * Requests for a {@link ReadOnlyTrackIter#getVersion() version} that has already been requested are ignored, unless
+ * a save has failed since, so asking for a save after a command that did not modify the data costs nothing.
+ */
+public class TrackIterSaveService {
+
+    private static final Logger logger = LogsCenter.getLogger(TrackIterSaveService.class);
+    private static final long IDLE_THREAD_TIMEOUT_SECONDS = 10;
+    private static final long NO_VERSION = -1;
+
+    private final TrackIterStorage storage;
+    private final AtomicReference<ReadOnlyTrackIter> pendingSnapshot = new AtomicReference<>();
+    private final ExecutorService executor = new ThreadPoolExecutor(0, 1,
+        IDLE_THREAD_TIMEOUT_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), TrackIterSaveService::newThread);
+    private volatile Consumer<IOException> failureHandler = e -> { };
+    private volatile SaveListener saveListener = (snapshot, nanos, bytes) -> { };
+
+    /** The version of the last requested snapshot. Only accessed by the thread requesting saves. */
+    private long requestedVersion;
+    private volatile long savedVersion;
+    private volatile boolean hasFailed;
+
+    /**
+     * Creates a {@code TrackIterSaveService} that saves to {@code storage}, which does not hold any data yet.
+     */
+    public TrackIterSaveService(TrackIterStorage storage) {
+        this(storage, NO_VERSION);
+    }
+
+    /**
+     * Creates a {@code TrackIterSaveService} that saves to {@code storage}, which already holds the data of the given
+     * {@code savedVersion}.
+     */
+    public TrackIterSaveService(TrackIterStorage storage, long savedVersion) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.requestedVersion = savedVersion;
+        this.savedVersion = savedVersion;
+    }
+
+    /**
+     * Sets the handler that is called, on the background thread, when a save fails.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Sets the listener that is told, on the background thread, about every successful save.
+     */
+    public void setSaveListener(SaveListener saveListener) {
+        requireNonNull(saveListener);
+        this.saveListener = saveListener;
+    }
+
+    /**
+     * Records that the storage already holds the data of the given {@code savedVersion}, e.g. because the data was
+     * just read from it, so that it is not saved again until it is modified.
+     */
+    public void setSavedVersion(long savedVersion) {
+        requestedVersion = savedVersion;
+        this.savedVersion = savedVersion;
+        hasFailed = false;
+    }
+
+    /**
+     * Takes a snapshot of {@code trackIter} and schedules it to be saved, if it has changed since the last request.
+     * Replaces the previously requested snapshot if that one has not started being written yet.
+     */
+    public void requestSave(ReadOnlyTrackIter trackIter) {
+        requireNonNull(trackIter);
+        if (trackIter.getVersion() == requestedVersion && !hasFailed) {
+            return;
+        }
+        requestedVersion = trackIter.getVersion();
+        hasFailed = false;
+        if (pendingSnapshot.getAndSet(TrackIterSnapshot.of(trackIter)) == null) {
+            executor.execute(this::savePendingSnapshot);
+        }
+    }
+
+    /**
+     * Returns true if the current version of {@code trackIter} has not been successfully saved yet.
+     */
+    public boolean hasUnsavedChanges(ReadOnlyTrackIter trackIter) {
+        requireNonNull(trackIter);
+        return trackIter.getVersion() != savedVersion;
+    }
+
+    /**
+     * Blocks until every snapshot requested so far has been written.
+     */
+    public void flush() {
+        try {
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for pending saves");
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task cannot fail.", e);
+        }
+    }
+
+    /**
+     * Creates the background thread. It does not keep the application alive, so {@link #flush()} must be called
+     * before exiting.
+     */
+    private static Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "TrackIter-save");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private void savePendingSnapshot() {
+        ReadOnlyTrackIter snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            long bytesWrittenBefore = storage.getBytesWritten();
+            long start = System.nanoTime();
+            storage.saveTrackIter(snapshot);
+            long duration = System.nanoTime() - start;
+            savedVersion = snapshot.getVersion();
+            saveListener.saved(snapshot, duration, bytesWrittenBefore < 0 ? -1
+                : storage.getBytesWritten() - bytesWrittenBefore);
+        } catch (IOException e) {
+            hasFailed = true;
+            logger.warning("Failed to save data " + StringUtil.getDetails(e));
+            failureHandler.accept(e);
+        }
+    }
+
+    /**
+     * Listens to the saves of a {@code TrackIterSaveService}.
+     */
+    @FunctionalInterface
+    public interface SaveListener {
+        /**
+         * Called after {@code snapshot} was saved in {@code nanos} nanoseconds, writing {@code bytes} bytes, or -1 if
+         * the storage does not count the bytes it writes.
+         */
+        void saved(ReadOnlyTrackIter snapshot, long nanos, long bytes);
+    }
+}
@@ -0,0 +1,110 @@
+package trackitnus.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import trackitnus.model.ReadOnlyTrackIter;
+import trackitnus.model.TrackIter;
+import trackitnus.model.TrackIterState;
+import trackitnus.model.contact.Contact;
+import trackitnus.model.lesson.Lesson;
+import trackitnus.model.module.Module;
+import trackitnus.model.task.Task;
+import trackitnus.model.util.PersistentList;
+
+/**
+ * An immutable copy of the lists of a {@code ReadOnlyTrackIter}, taken at the time it was created, which can be
+ * safely read from another thread while the original TrackIter keeps changing.
+ * <p>
+ * The snapshot of a {@code TrackIter} is taken from its {@link TrackIterState} in O(1) time, and shares structure
+ * with the snapshots taken before it. The lists are only copied into {@code ObservableList}s when they are first
+ * read as such, on the thread that writes the snapshot.
+ */
+class TrackIterSnapshot implements ReadOnlyTrackIter {
+
+    private final TrackIterState state;
+    private ObservableList<Contact> contactList;
+    private ObservableList<Module> moduleList;
+    private ObservableList<Task> taskList;
+    private ObservableList<Lesson> lessonList;
+
+    private TrackIterSnapshot(TrackIterState state) {
+        requireNonNull(state);
+        this.state = state;
+    }
+
+    /**
+     * Returns a snapshot of the current contents of {@code source}, which is {@code source} itself if it is already
+     * a snapshot.
+     */
+    static TrackIterSnapshot of(ReadOnlyTrackIter source) {
+        requireNonNull(source);
+        if (source instanceof TrackIterSnapshot) {
+            return (TrackIterSnapshot) source;
+        }
+        if (source instanceof TrackIter) {
+            return new TrackIterSnapshot(((TrackIter) source).getState());
+        }
+        return new TrackIterSnapshot(new TrackIterState(PersistentList.of(source.getContactList()),
+            PersistentList.of(source.getModuleList()), PersistentList.of(source.getTaskList()),
+            PersistentList.of(source.getLessonList()), source.getVersion()));
+    }
+
+    PersistentList<Contact> getContacts() {
+        return state.getContacts();
+    }
+
+    PersistentList<Module> getModules() {
+        return state.getModules();
+    }
+
+    PersistentList<Task> getTasks() {
+        return state.getTasks();
+    }
+
+    PersistentList<Lesson> getLessons() {
+        return state.getLessons();
+    }
+
+    @Override
+    public synchronized ObservableList<Contact> getContactList() {
+        if (contactList == null) {
+            contactList = toObservableList(state.getContacts());
+        }
+        return contactList;
+    }
+
+    @Override
+    public synchronized ObservableList<Module> getModuleList() {
+        if (moduleList == null) {
+            moduleList = toObservableList(state.getModules());
+        }
+        return moduleList;
+    }
+
+    @Override
+    public synchronized ObservableList<Task> getTaskList() {
+        if (taskList == null) {
+            taskList = toObservableList(state.getTasks());
+        }
+        return taskList;
+    }
+
+    @Override
+    public synchronized ObservableList<Lesson> getLessonList() {
+        if (lessonList == null) {
+            lessonList = toObservableList(state.getLessons());
+        }
+        return lessonList;
+    }
+
+    @Override
+    public long getVersion() {
+        return state.getVersion();
+    }
+
+    private static <T> ObservableList<T> toObservableList(PersistentList<T> list) {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(list.toList()));
+    }
+}
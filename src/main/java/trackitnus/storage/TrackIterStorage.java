@@ -45,4 +45,12 @@ public interface TrackIterStorage {
      */
     void saveTrackIter(ReadOnlyTrackIter trackIter, Path filePath) throws IOException;
 
+    /**
+     * Returns the number of bytes written to the storage by all the saves so far, or -1 if the storage does not count
+     * them.
+     */
+    default long getBytesWritten() {
+        return -1;
+    }
+
 }
@@ -0,0 +1,52 @@
+package trackitnus.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Supplier;
+
+import javafx.scene.control.ListCell;
+
+/**
+ * A {@code ListCell} that displays its item on an {@code ItemCard}.
+ * <p>
+ * The card is created by {@code cardFactory} when the cell displays its first item, and is rebound to every item
+ * displayed after that, so that scrolling through a list never loads a card from its FXML file again.
+ */
+public class CardListCell<T, C extends ItemCard<T>> extends ListCell<T> {
+
+    private final Supplier<C> cardFactory;
+    private C card;
+
+    /**
+     * Creates a {@code CardListCell} that creates its card with {@code cardFactory}.
+     */
+    public CardListCell(Supplier<C> cardFactory) {
+        this.cardFactory = requireNonNull(cardFactory);
+    }
+
+    @Override
+    protected void updateItem(T item, boolean empty) {
+        super.updateItem(item, empty);
+
+        if (empty || item == null) {
+            setGraphic(null);
+            setText(null);
+            return;
+        }
+
+        if (card == null) {
+            card = cardFactory.get();
+        }
+        setGraphic(card.getRoot());
+        bind(card, item);
+    }
+
+    /**
+     * Displays {@code item} on {@code card}, numbered by its position in the list.
+     * Subclasses may override this to number or decorate the item differently, and may hide the card with
+     * {@code setGraphic(null)} if the item cannot be displayed.
+     */
+    protected void bind(C card, T item) {
+        card.setItem(item, getIndex() + 1);
+    }
+}
@@ -17,7 +17,7 @@ import javafx.util.Callback;
 import trackitnus.commons.core.LogsCenter;
 
 
-public class HelpPanel extends UiPart<Region> {
+public class HelpPanel extends UiPart<Region> implements TabPanel {
     public static final String TYPE = "H";
     public static final String USERGUIDE_URL = "https://bit.ly/2HDhjac";
     public static final String HELP_MESSAGE = USERGUIDE_URL;
@@ -54,6 +54,13 @@ public class HelpPanel extends UiPart<Region> {
         helpCardTableView.getColumns().addAll(actionCol, commandCol);
     }
 
+    /**
+     * Does nothing, as the help panel displays nothing from the model.
+     */
+    @Override
+    public void refresh() {
+    }
+
     private static ObservableList<HelpCard> helpCommands() {
         ObservableList<HelpCard> helpCommands = FXCollections.observableArrayList();
         helpCommands.add(new HelpCard("Module: Add", "M add m/CODE n/NAME"));
@@ -70,6 +77,9 @@ public class HelpPanel extends UiPart<Region> {
         helpCommands.add(new HelpCard("Contacts: Edit", "C edit INDEX [n/NAME] [p/PHONE_NUMBER] [e/EMAIL] [t/TAG]"));
         helpCommands.add(new HelpCard("Contacts: Delete", "C delete INDEX"));
         helpCommands.add(new HelpCard("Getting help", "help"));
+        helpCommands.add(new HelpCard("Undoing a command", "undo"));
+        helpCommands.add(new HelpCard("Redoing a command", "redo"));
+        helpCommands.add(new HelpCard("Viewing command timings", "stats"));
         helpCommands.add(new HelpCard("Exiting the app", "exit"));
 
         return helpCommands;
@@ -0,0 +1,46 @@
+package trackitnus.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.scene.layout.Region;
+
+/**
+ * A card that displays one item of a list, and can be rebound to display another item.
+ * <p>
+ * Loading a card from its FXML file is far slower than setting the text of its labels, so a list cell keeps the card
+ * it created for its first item and rebinds it whenever the cell is reused for another item.
+ *
+ * @see CardListCell
+ */
+public abstract class ItemCard<T> extends UiPart<Region> {
+
+    private T item;
+
+    /**
+     * Constructs an {@code ItemCard} using the specified FXML file within {@link #FXML_FILE_FOLDER}.
+     */
+    protected ItemCard(String fxmlFileName) {
+        super(fxmlFileName);
+    }
+
+    /**
+     * Displays {@code item} with the given index on this card, replacing the item it displayed before.
+     */
+    public void setItem(T item, int displayedIndex) {
+        requireNonNull(item);
+        this.item = item;
+        bind(item, displayedIndex);
+    }
+
+    /**
+     * Returns the item displayed on this card, or null if no item has been set yet.
+     */
+    public T getItem() {
+        return item;
+    }
+
+    /**
+     * Sets every part of this card that depends on the displayed item, so that nothing of the previous item is left.
+     */
+    protected abstract void bind(T item, int displayedIndex);
+}
@@ -1,9 +1,12 @@
 package trackitnus.ui;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Queue;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -20,6 +23,7 @@ import trackitnus.logic.Logic;
 import trackitnus.logic.commands.CommandResult;
 import trackitnus.logic.commands.exceptions.CommandException;
 import trackitnus.logic.parser.exceptions.ParseException;
+import trackitnus.model.commons.Code;
 import trackitnus.model.contact.Contact;
 import trackitnus.model.module.Module;
 import trackitnus.ui.contact.ContactPanel;
@@ -32,13 +36,21 @@ import trackitnus.ui.upcoming.UpcomingPanel;
  */
 public class MainWindow extends UiPart<Stage> {
 
+    public static final String MESSAGE_LOADING = "Loading your data...";
+    public static final String MESSAGE_COMMAND_QUEUED = "Your data is still being loaded. "
+        + "The command will run once it is loaded: %1$s";
+
     private static final String FXML = "MainWindow.fxml";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private final Stage primaryStage;
     private final Logic logic;
+    private final TabPanelCache tabPanels = new TabPanelCache();
+    // The commands entered while the data is being loaded, in order
+    private final Queue<String> pendingCommands = new ArrayDeque<>();
     private String tabInContext = "";
+    private TabPanel currentTabPanel;
 
     private ResultDisplay resultDisplay;
     private SidePanel sidePanel;
@@ -145,6 +157,10 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
+        if (!logic.isLoaded()) {
+            resultDisplay.setFeedbackToUser(MESSAGE_LOADING);
+        }
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getTrackIterFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
@@ -156,14 +172,15 @@ public class MainWindow extends UiPart<Stage> {
     private void switchTab(ArrayList<Object> tabValues) throws CommandException {
         assert (tabValues.size() >= 1);
         logger.info("Switching tab to: " + tabValues.get(0));
-        tabPanelPlaceholder.getChildren().clear();
         String tabName = String.valueOf(tabValues.get(0));
         tabInContext = tabName;
         logic.clearAllList();
+        logic.refreshLessonOrder();
 
+        TabPanel tabPanel;
         switch (tabName) {
         case UpcomingPanel.TYPE:
-            tabPanelPlaceholder.getChildren().add(new UpcomingPanel(logic).getRoot());
+            tabPanel = tabPanels.get(UpcomingPanel.TYPE, () -> new UpcomingPanel(logic));
             break;
         case Module.TYPE:
             assert (tabValues.size() == 2);
@@ -171,21 +188,65 @@ public class MainWindow extends UiPart<Stage> {
             tabInContext = tabModule.getCode().toString();
             logger.info("Module: " + tabModule);
             // Independent Ui parts residing in this Ui container
-            ModulePanel modulePanel = new ModulePanel(tabModule, logic);
-            tabPanelPlaceholder.getChildren().add(modulePanel.getRoot());
+            String moduleTabKey = getModuleTabKey(tabInContext);
+            ModulePanel modulePanel = tabPanels.get(moduleTabKey, () -> new ModulePanel(tabModule, logic));
+            modulePanel.setModule(tabModule);
+            tabPanel = modulePanel;
             break;
         case Contact.TYPE:
-            ContactPanel contactPanel = new ContactPanel(logic.getAllContacts());
-            tabPanelPlaceholder.getChildren().add(contactPanel.getRoot());
+            tabPanel = tabPanels.get(Contact.TYPE, () -> new ContactPanel(logic));
             break;
         case HelpPanel.TYPE:
-            HelpPanel helpPanel = new HelpPanel();
+            tabPanel = tabPanels.get(HelpPanel.TYPE, HelpPanel::new);
             sidePanel.updateHelpButton();
-            tabPanelPlaceholder.getChildren().add(helpPanel.getRoot());
             break;
         default:
             throw new IllegalArgumentException(Messages.MESSAGE_INVALID_TAB_VALUE);
         }
+
+        tabPanel.refresh();
+        tabPanelPlaceholder.getChildren().setAll(tabPanel.getRoot());
+        currentTabPanel = tabPanel;
+    }
+
+    /**
+     * Refreshes the current tab with the data that has just been loaded, then runs the commands that were entered
+     * while it was being loaded, in order.
+     */
+    void handleDataLoaded() {
+        assert logic.isLoaded();
+        resultDisplay.setFeedbackToUser("");
+        try {
+            currentTabPanel.refresh();
+        } catch (CommandException e) {
+            logger.warning("Failed to refresh the current tab: " + e.getMessage());
+        }
+        while (!pendingCommands.isEmpty()) {
+            try {
+                executeCommand(pendingCommands.remove());
+            } catch (CommandException | ParseException e) {
+                // the error has been shown in the result display
+            }
+        }
+    }
+
+    /**
+     * Drops the panels of the modules that no longer exist, and leaves the current tab if it shows one of them.
+     */
+    private void removeTabsOfMissingModules() throws CommandException {
+        String moduleTabKeyPrefix = getModuleTabKey("");
+        tabPanels.removeIf(key -> key.startsWith(moduleTabKeyPrefix)
+            && !logic.hasModule(new Code(key.substring(moduleTabKeyPrefix.length()))));
+        if (currentTabPanel instanceof ModulePanel && !tabPanels.contains(getModuleTabKey(tabInContext))) {
+            switchTab(new ArrayList<>(Arrays.asList((Object) UpcomingPanel.TYPE)));
+        }
+    }
+
+    /**
+     * Returns the key of the tab of the module with the given {@code code} in {@link #tabPanels}.
+     */
+    private static String getModuleTabKey(String code) {
+        return Module.TYPE + " " + code;
     }
 
     /**
@@ -221,6 +282,12 @@ public class MainWindow extends UiPart<Stage> {
      * @see Logic#execute(String)
      */
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
+        if (!logic.isLoaded()) {
+            pendingCommands.add(commandText);
+            String feedback = String.format(MESSAGE_COMMAND_QUEUED, commandText);
+            resultDisplay.setFeedbackToUser(feedback);
+            return new CommandResult(feedback);
+        }
         try {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
@@ -230,18 +297,22 @@ public class MainWindow extends UiPart<Stage> {
                 handleExit();
             }
 
+            tabPanels.remove(getModuleTabKey(commandResult.getNameOfDeletedModule()));
             if (commandResult.getNameOfDeletedModule().equals(tabInContext)) {
                 switchTab(new ArrayList<>(Arrays.asList((Object) UpcomingPanel.TYPE)));
             }
 
             if (commandResult.getPreEditedModule() != null) {
-                if (commandResult.getPreEditedModule().getCode().code.equals(tabInContext)) {
-                    ModulePanel modulePanel = new ModulePanel(commandResult.getEditedModule(), logic);
-                    tabPanelPlaceholder.getChildren().add(modulePanel.getRoot());
-                    tabInContext = commandResult.getEditedModule().getCode().toString();
+                String preEditedCode = commandResult.getPreEditedModule().getCode().code;
+                tabPanels.remove(getModuleTabKey(preEditedCode));
+                if (preEditedCode.equals(tabInContext)) {
+                    switchTab(new ArrayList<>(Arrays.asList(Module.TYPE, commandResult.getEditedModule())));
                 }
             }
 
+            // undo and redo may remove modules without saying which
+            removeTabsOfMissingModules();
+
             if (commandResult.isShowHelp()) {
                 switchTab(new ArrayList<>(Arrays.asList((Object) HelpPanel.TYPE)));
             }
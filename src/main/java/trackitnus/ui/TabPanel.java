@@ -0,0 +1,28 @@
+package trackitnus.ui;
+
+import javafx.scene.layout.Region;
+import trackitnus.logic.commands.exceptions.CommandException;
+
+/**
+ * A panel shown in the tab area of the main window.
+ * <p>
+ * Tab panels are kept while other tabs are shown, and stay bound to live views of the model in the meantime. Only
+ * what cannot follow the model by itself has to be brought up to date when a panel is shown again.
+ *
+ * @see TabPanelCache
+ */
+public interface TabPanel {
+
+    /**
+     * Returns the root node of this panel.
+     */
+    Region getRoot();
+
+    /**
+     * Prepares this panel to be shown: makes the lists that commands refer to by index those that this panel
+     * displays, and refreshes what may be out of date, such as displayed indexes and dates.
+     *
+     * @throws CommandException if what this panel displays no longer exists.
+     */
+    void refresh() throws CommandException;
+}
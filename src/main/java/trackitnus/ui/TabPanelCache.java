@@ -0,0 +1,83 @@
+package trackitnus.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the most recently shown tab panels, so that switching back to a tab only swaps its panel into the scene
+ * graph instead of loading it again.
+ * <p>
+ * Panels are keyed by the tab they show, e.g. the code of the module of a module tab. A key must always be used for
+ * the same type of panel. The least recently shown panel is dropped when more than the capacity are kept.
+ */
+public class TabPanelCache {
+
+    public static final int DEFAULT_CAPACITY = 8;
+
+    private final Map<String, TabPanel> panels;
+
+    /**
+     * Creates a {@code TabPanelCache} that keeps up to {@link #DEFAULT_CAPACITY} panels.
+     */
+    public TabPanelCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a {@code TabPanelCache} that keeps up to {@code capacity} panels.
+     */
+    public TabPanelCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        panels = new LinkedHashMap<>(capacity + 1, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TabPanel> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the panel kept for {@code key}, or creates one with {@code panelFactory} and keeps it if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    public <P extends TabPanel> P get(String key, Supplier<P> panelFactory) {
+        requireNonNull(key);
+        requireNonNull(panelFactory);
+        return (P) panels.computeIfAbsent(key, unused -> requireNonNull(panelFactory.get()));
+    }
+
+    /**
+     * Drops the panel kept for {@code key}, if any, e.g. because what it displays no longer exists.
+     */
+    public void remove(String key) {
+        panels.remove(key);
+    }
+
+    /**
+     * Drops the panels kept for the keys that match {@code isStale}.
+     */
+    public void removeIf(Predicate<String> isStale) {
+        requireNonNull(isStale);
+        panels.keySet().removeIf(isStale);
+    }
+
+    /**
+     * Returns true if a panel is kept for {@code key}.
+     */
+    public boolean contains(String key) {
+        return panels.containsKey(key);
+    }
+
+    /**
+     * Returns the number of panels kept.
+     */
+    public int size() {
+        return panels.size();
+    }
+}
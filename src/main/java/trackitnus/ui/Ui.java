@@ -1,5 +1,7 @@
 package trackitnus.ui;
 
+import java.util.Optional;
+
 import javafx.stage.Stage;
 
 /**
@@ -12,4 +14,11 @@ public interface Ui {
      */
     void start(Stage primaryStage);
 
+    /**
+     * Shows the data that has just been loaded, and runs the commands that were entered while it was being loaded.
+     *
+     * @param loadError the error that prevented the saved data from being loaded, if any.
+     */
+    void handleDataLoaded(Optional<Throwable> loadError);
+
 }
@@ -1,5 +1,6 @@
 package trackitnus.ui;
 
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -18,6 +19,7 @@ import trackitnus.logic.Logic;
 public class UiManager implements Ui {
 
     public static final String ALERT_DIALOG_PANE_FIELD_ID = "alertDialogPane";
+    public static final String MESSAGE_LOAD_FAILED = "Your data could not be loaded, so you are starting with no data";
 
     private static final Logger logger = LogsCenter.getLogger(UiManager.class);
     private static final String ICON_APPLICATION = "/images/logo.png";
@@ -72,6 +74,16 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void handleDataLoaded(Optional<Throwable> loadError) {
+        if (mainWindow == null) {
+            return;
+        }
+        mainWindow.handleDataLoaded();
+        loadError.ifPresent(e -> showAlertDialogAndWait(Alert.AlertType.ERROR, "Error loading data",
+            MESSAGE_LOAD_FAILED, e.toString()));
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -6,14 +6,13 @@ import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
-import javafx.scene.layout.Region;
 import trackitnus.model.contact.Contact;
-import trackitnus.ui.UiPart;
+import trackitnus.ui.ItemCard;
 
 /**
  * An UI component that displays information of a {@code Contact}.
  */
-public class ContactCard extends UiPart<Region> {
+public class ContactCard extends ItemCard<Contact> {
 
     private static final String FXML = "Contact/ContactListCard.fxml";
 
@@ -25,8 +24,6 @@ public class ContactCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The Issue on Address Book level 4</a>
      */
 
-    public final Contact contact;
-
     @FXML
     private HBox cardPane;
     @FXML
@@ -41,11 +38,14 @@ public class ContactCard extends UiPart<Region> {
     private FlowPane tags;
 
     /**
-     * Creates a {@code ContactCode} with the given {@code Contact} and index to display.
+     * Creates an empty {@code ContactCard}, to be bound to a contact with {@link #setItem(Object, int)}.
      */
-    public ContactCard(Contact contact, int displayedIndex) {
+    public ContactCard() {
         super(FXML);
-        this.contact = contact;
+    }
+
+    @Override
+    protected void bind(Contact contact, int displayedIndex) {
         id.setText("[" + displayedIndex + "] ");
         name.setText(contact.getName().value);
 
@@ -61,6 +61,7 @@ public class ContactCard extends UiPart<Region> {
             email.setText(contact.getEmail().get().value);
         }
 
+        tags.getChildren().clear();
         contact.getTags().stream()
             .sorted(Comparator.comparing(tag -> tag.tagName))
             .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
@@ -81,6 +82,6 @@ public class ContactCard extends UiPart<Region> {
         // state check
         ContactCard card = (ContactCard) other;
         return id.getText().equals(card.id.getText())
-            && contact.equals(card.contact);
+            && getItem().equals(card.getItem());
     }
 }
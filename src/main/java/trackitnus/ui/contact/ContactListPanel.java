@@ -4,11 +4,11 @@ import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
-import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import trackitnus.commons.core.LogsCenter;
 import trackitnus.model.contact.Contact;
+import trackitnus.ui.CardListCell;
 import trackitnus.ui.UiPart;
 
 /**
@@ -33,17 +33,9 @@ public class ContactListPanel extends UiPart<Region> {
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Contact} using a {@code ContactCard}.
      */
-    static class ContactListViewCell extends ListCell<Contact> {
-        @Override
-        protected void updateItem(Contact contact, boolean empty) {
-            super.updateItem(contact, empty);
-
-            if (empty || contact == null) {
-                setGraphic(null);
-                setText(null);
-            } else {
-                setGraphic(new ContactCard(contact, getIndex() + 1).getRoot());
-            }
+    static class ContactListViewCell extends CardListCell<Contact, ContactCard> {
+        ContactListViewCell() {
+            super(ContactCard::new);
         }
     }
 
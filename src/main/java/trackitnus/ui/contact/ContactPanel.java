@@ -8,23 +8,28 @@ import javafx.fxml.FXML;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import trackitnus.commons.core.LogsCenter;
+import trackitnus.logic.Logic;
 import trackitnus.model.contact.Contact;
+import trackitnus.ui.TabPanel;
 import trackitnus.ui.UiPart;
 
 
-public class ContactPanel extends UiPart<Region> {
+public class ContactPanel extends UiPart<Region> implements TabPanel {
     private static final String FXML = "Contact/ContactPanel.fxml";
     private static final int DEFAULT_ROW_HEIGHT = 50;
     private static final int PADDING_HEIGHT = 10;
     private final Logger logger = LogsCenter.getLogger(ContactPanel.class);
+    private final Logic logic;
     @FXML
     private StackPane contactListPanelPlaceholder;
 
     /**
-     * Creates a {@code ContactListPanel} with the given {@code ObservableList}.
+     * Creates a {@code ContactPanel} showing all the contacts of {@code logic}.
      */
-    public ContactPanel(ObservableList<Contact> contactList) {
+    public ContactPanel(Logic logic) {
         super(FXML);
+        this.logic = logic;
+        ObservableList<Contact> contactList = logic.getAllContacts();
 
         // Allow height of lists to update automatically
         contactListPanelPlaceholder.prefHeightProperty().bind(Bindings.size(contactList)
@@ -34,5 +39,13 @@ public class ContactPanel extends UiPart<Region> {
         contactListPanelPlaceholder.getChildren().add(contactListPanel.getRoot());
     }
 
+    /**
+     * Makes all the contacts, which this panel always displays, the contacts that commands refer to.
+     */
+    @Override
+    public void refresh() {
+        logic.getAllContacts();
+    }
+
 
 }
@@ -3,14 +3,13 @@ package trackitnus.ui.lesson;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
-import javafx.scene.layout.Region;
 import trackitnus.model.lesson.Lesson;
-import trackitnus.ui.UiPart;
+import trackitnus.ui.ItemCard;
 
 /**
  * An UI component that displays information of a {@code Lesson}.
  */
-public class LessonCard extends UiPart<Region> {
+public class LessonCard extends ItemCard<Lesson> {
 
     private static final String FXML = "Lesson/LessonListCard.fxml";
 
@@ -22,8 +21,6 @@ public class LessonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The Issue on Address Book level 4</a>
      */
 
-    public final Lesson lesson;
-
     @FXML
     private HBox cardPane;
     @FXML
@@ -38,11 +35,14 @@ public class LessonCard extends UiPart<Region> {
     private Label code;
 
     /**
-     * Creates a {@code ContactCode} with the given {@code Lesson} and index to display.
+     * Creates an empty {@code LessonCard}, to be bound to a lesson with {@link #setItem(Object, int)}.
      */
-    public LessonCard(Lesson lesson, int displayedIndex) {
+    public LessonCard() {
         super(FXML);
-        this.lesson = lesson;
+    }
+
+    @Override
+    protected void bind(Lesson lesson, int displayedIndex) {
         id.setText("[" + displayedIndex + "]");
         type.setText(lesson.getType().name());
         date.setText(lesson.getTime().toString());
@@ -65,7 +65,7 @@ public class LessonCard extends UiPart<Region> {
         // state check
         LessonCard card = (LessonCard) other;
         return id.getText().equals(card.id.getText())
-            && lesson.equals(card.lesson);
+            && getItem().equals(card.getItem());
     }
 }
 
@@ -4,11 +4,11 @@ import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
-import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import trackitnus.commons.core.LogsCenter;
 import trackitnus.model.lesson.Lesson;
+import trackitnus.ui.CardListCell;
 import trackitnus.ui.UiPart;
 
 /**
@@ -33,17 +33,9 @@ public class LessonListPanel extends UiPart<Region> {
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Lesson} using a {@code LessonCard}.
      */
-    static class LessonListViewCell extends ListCell<Lesson> {
-        @Override
-        protected void updateItem(Lesson lesson, boolean empty) {
-            super.updateItem(lesson, empty);
-
-            if (empty || lesson == null) {
-                setGraphic(null);
-                setText(null);
-            } else {
-                setGraphic(new LessonCard(lesson, getIndex() + 1).getRoot());
-            }
+    static class LessonListViewCell extends CardListCell<Lesson, LessonCard> {
+        LessonListViewCell() {
+            super(LessonCard::new);
         }
     }
 
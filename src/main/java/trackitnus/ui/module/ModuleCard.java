@@ -3,14 +3,13 @@ package trackitnus.ui.module;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
-import javafx.scene.layout.Region;
 import trackitnus.model.module.Module;
-import trackitnus.ui.UiPart;
+import trackitnus.ui.ItemCard;
 
 /**
  * An UI component that displays information of a {@code module}.
  */
-public class ModuleCard extends UiPart<Region> {
+public class ModuleCard extends ItemCard<Module> {
 
     private static final String FXML = "Module/ModuleListCard.fxml";
 
@@ -22,8 +21,6 @@ public class ModuleCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The Issue on Address Book level 4</a>
      */
 
-    public final Module module;
-
     @FXML
     private HBox cardPane;
     @FXML
@@ -35,11 +32,14 @@ public class ModuleCard extends UiPart<Region> {
 
 
     /**
-     * Creates a {@code ModuleCard} with the given {@code Module} and index to display.
+     * Creates an empty {@code ModuleCard}, to be bound to a module with {@link #setItem(Object, int)}.
      */
-    public ModuleCard(Module module, int displayedIndex) {
+    public ModuleCard() {
         super(FXML);
-        this.module = module;
+    }
+
+    @Override
+    protected void bind(Module module, int displayedIndex) {
         id.setText(displayedIndex + ". ");
         code.setText(module.getCode().code);
         name.setText(module.getName().value);
@@ -60,6 +60,6 @@ public class ModuleCard extends UiPart<Region> {
         // state check
         ModuleCard card = (ModuleCard) other;
         return id.getText().equals(card.id.getText())
-            && module.equals(card.module);
+            && getItem().equals(card.getItem());
     }
 }
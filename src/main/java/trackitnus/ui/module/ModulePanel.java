@@ -19,24 +19,27 @@ import trackitnus.model.contact.Contact;
 import trackitnus.model.lesson.Lesson;
 import trackitnus.model.module.Module;
 import trackitnus.model.task.Task;
+import trackitnus.ui.TabPanel;
 import trackitnus.ui.UiPart;
 import trackitnus.ui.contact.ContactListPanel;
 import trackitnus.ui.lesson.LessonListPanel;
 import trackitnus.ui.task.TaskListPanel;
 
 /**
- * Panel containing the list of modules.
+ * Panel containing the lessons, tasks and contacts of a module.
  */
-public class ModulePanel extends UiPart<Region> {
+public class ModulePanel extends UiPart<Region> implements TabPanel {
     public static final int MAX_WIDTH = 500;
     private static final String FXML = "Module/ModulePanel.fxml";
     private static final int DEFAULT_ROW_HEIGHT = 50;
     private static final int LESSON_ROW_HEIGHT = 28;
     private static final int PADDING_HEIGHT = 10;
     private final Logger logger = LogsCenter.getLogger(ModulePanel.class);
-    private final LessonListPanel lessonListPanel;
-    private final TaskListPanel taskListPanel;
-    private final ContactListPanel contactListPanel;
+    private final Logic logic;
+    private Module module;
+    private ObservableList<Lesson> lessons;
+    private ObservableList<Task> tasks;
+    private ObservableList<Contact> contacts;
     @FXML
     private HBox moduleHeader;
     @FXML
@@ -56,48 +59,69 @@ public class ModulePanel extends UiPart<Region> {
 
 
     /**
-     * Creates a {@code ModuleListPanel} with the given {@code ObservableList}.
+     * Creates a {@code ModulePanel} for the given {@code Module}, whose lists are set up when it is first refreshed.
      */
-    public ModulePanel(Module module, Logic logic) throws CommandException {
+    public ModulePanel(Module module, Logic logic) {
         super(FXML);
+        this.logic = logic;
         moduleHeader.setAlignment(Pos.CENTER_LEFT);
         moduleHeader.setMaxWidth(MAX_WIDTH);
         moduleName.setWrapText(true);
         moduleName.setMaxWidth(MAX_WIDTH);
+        setModule(module);
+    }
+
+    /**
+     * Replaces the module shown by this panel with {@code module}, which must have the same code, e.g. after its name
+     * was edited.
+     */
+    public void setModule(Module module) {
+        assert this.module == null || this.module.getCode().equals(module.getCode());
+        this.module = module;
         moduleName.setText(module.getCode().code + " " + module.getName().value);
+    }
 
+    /**
+     * Recolors this panel by the current position of its module, and shows the module's lists. The lists are the
+     * model's cached views of the module, so they are only set up again if the model no longer caches them.
+     */
+    @Override
+    public void refresh() throws CommandException {
         int moduleIndex = logic.getModuleIndex(module).getZeroBased();
         colorRelevantElements(moduleIndex);
-
-        ObservableList<Lesson> lessons = logic.getModuleLessons(module.getCode());
-        lessonListPanel = new LessonListPanel(lessons);
-        setUpLessonView(lessons);
-
-        ObservableList<Task> tasks = logic.getModuleTasks(module.getCode());
-        taskListPanel = new TaskListPanel(tasks);
-        setUpTaskView(tasks);
-
-        ObservableList<Contact> contacts = logic.getModuleContacts(module.getCode());
-        contactListPanel = new ContactListPanel(contacts);
-        setUpContactsView(contacts);
+        setUpLessonView(logic.getModuleLessons(module.getCode()));
+        setUpTaskView(logic.getModuleTasks(module.getCode()));
+        setUpContactsView(logic.getModuleContacts(module.getCode()));
     }
 
     private void setUpLessonView(ObservableList<Lesson> lessons) {
+        if (lessons == this.lessons) {
+            return;
+        }
+        this.lessons = lessons;
         lessonListPanelPlaceholder.prefHeightProperty().bind(Bindings.size(lessons)
             .multiply(LESSON_ROW_HEIGHT).add(PADDING_HEIGHT));
-        lessonListPanelPlaceholder.getChildren().add(lessonListPanel.getRoot());
+        lessonListPanelPlaceholder.getChildren().setAll(new LessonListPanel(lessons).getRoot());
     }
 
     private void setUpTaskView(ObservableList<Task> tasks) {
+        if (tasks == this.tasks) {
+            return;
+        }
+        this.tasks = tasks;
         taskListPanelPlaceholder.prefHeightProperty().bind(Bindings.size(tasks)
             .multiply(DEFAULT_ROW_HEIGHT).add(PADDING_HEIGHT));
-        taskListPanelPlaceholder.getChildren().add(taskListPanel.getRoot());
+        taskListPanelPlaceholder.getChildren().setAll(new TaskListPanel(tasks).getRoot());
     }
 
     private void setUpContactsView(ObservableList<Contact> contacts) {
+        if (contacts == this.contacts) {
+            return;
+        }
+        this.contacts = contacts;
         contactListPanelPlaceholder.prefHeightProperty().bind(Bindings.size(contacts)
             .multiply(DEFAULT_ROW_HEIGHT).add(PADDING_HEIGHT));
-        contactListPanelPlaceholder.getChildren().add(contactListPanel.getRoot());
+        contactListPanelPlaceholder.getChildren().setAll(new ContactListPanel(contacts).getRoot());
     }
 
     private String getColorHex(Color color) {
@@ -17,10 +17,15 @@ public class OverdueFutureTaskCard extends TaskCard {
     private Label code;
 
     /**
-     * Creates a {@code OverdueFutureTaskCard} with the given {@code Task} and index to display.
+     * Creates an empty {@code OverdueFutureTaskCard}, to be bound to a task with {@link #setItem(Object, int)}.
      */
-    public OverdueFutureTaskCard(Task task, int displayedIndex) {
-        super(task, displayedIndex);
+    public OverdueFutureTaskCard() {
+        super();
+    }
+
+    @Override
+    protected void bind(Task task, int displayedIndex) {
+        super.bind(task, displayedIndex);
         code.setText(task.getCode().isPresent() ? task.getCode().get().code + " " : "");
 
         LocalDate today = LocalDate.now();
@@ -29,7 +34,6 @@ public class OverdueFutureTaskCard extends TaskCard {
         } else {
             date.setStyle("-fx-text-fill: #d53636");
         }
-
     }
 
 }
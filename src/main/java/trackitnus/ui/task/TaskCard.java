@@ -5,17 +5,15 @@ import java.time.format.DateTimeFormatter;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
-import javafx.scene.layout.Region;
 import trackitnus.model.task.Task;
-import trackitnus.ui.UiPart;
+import trackitnus.ui.ItemCard;
 
 /**
  * An UI component that displays information of a {@code task}.
  */
-public class TaskCard extends UiPart<Region> {
+public class TaskCard extends ItemCard<Task> {
     private static final String FXML = "Task/TaskListCard.fxml";
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("dd MMM EEEE");
-    public final Task task;
     @FXML
     private HBox cardPane;
     @FXML
@@ -30,11 +28,14 @@ public class TaskCard extends UiPart<Region> {
     private Label date;
 
     /**
-     * Creates a {@code TaskCard} with the given {@code Task} and index to display.
+     * Creates an empty {@code TaskCard}, to be bound to a task with {@link #setItem(Object, int)}.
      */
-    public TaskCard(Task task, int displayedIndex) {
+    public TaskCard() {
         super(FXML);
-        this.task = task;
+    }
+
+    @Override
+    protected void bind(Task task, int displayedIndex) {
         id.setText("[" + displayedIndex + "] ");
         name.setText(task.getName().toString());
         remark.setText(task.getRemark());
@@ -4,11 +4,11 @@ import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
-import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import trackitnus.commons.core.LogsCenter;
 import trackitnus.model.task.Task;
+import trackitnus.ui.CardListCell;
 import trackitnus.ui.UiPart;
 
 /**
@@ -33,19 +33,10 @@ public class TaskListPanel extends UiPart<Region> {
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Task} using a {@code TaskCard}.
      */
-    static class TaskListViewCell extends ListCell<Task> {
-        @Override
-        protected void updateItem(Task task, boolean empty) {
-            super.updateItem(task, empty);
-
-            if (empty || task == null) {
-                setGraphic(null);
-                setText(null);
-            } else {
-                setGraphic(new TaskCard(task, getIndex() + 1).getRoot());
-            }
+    static class TaskListViewCell extends CardListCell<Task, TaskCard> {
+        TaskListViewCell() {
+            super(TaskCard::new);
         }
     }
 
 }
-
@@ -0,0 +1,74 @@
+package trackitnus.ui.upcoming;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * The sections of the Upcoming tab: the overdue tasks, followed by every day from a first day onwards.
+ * <p>
+ * The days are not stored. Each section is created when it is asked for, so the list takes the same memory however
+ * many days it spans, and a {@code ListView} showing it only ever creates the sections of the cells on screen. The
+ * list is extended with {@link #extend(int)} as the calendar is scrolled towards its end, so that it can be scrolled
+ * endlessly.
+ */
+public class CalendarSectionList extends ObservableListBase<UpcomingSection> {
+
+    public static final String OVERDUE_TITLE = "Overdue";
+
+    private static final UpcomingSection OVERDUE = new UpcomingSection(OVERDUE_TITLE);
+
+    private final LocalDate firstDay;
+    private int days;
+
+    /**
+     * Creates a list of the overdue section followed by {@code days} days starting from {@code firstDay}.
+     */
+    public CalendarSectionList(LocalDate firstDay, int days) {
+        requireNonNull(firstDay);
+        if (days < 0) {
+            throw new IllegalArgumentException("Number of days must not be negative: " + days);
+        }
+        this.firstDay = firstDay;
+        this.days = days;
+    }
+
+    public LocalDate getFirstDay() {
+        return firstDay;
+    }
+
+    /**
+     * Returns the date of the section at {@code index}, or null if it is the overdue section.
+     */
+    public LocalDate getDate(int index) {
+        Objects.checkIndex(index, size());
+        return index == 0 ? null : firstDay.plusDays(index - 1);
+    }
+
+    /**
+     * Appends the {@code moreDays} days that follow the last day of this list.
+     */
+    public void extend(int moreDays) {
+        if (moreDays <= 0) {
+            return;
+        }
+        beginChange();
+        nextAdd(size(), size() + moreDays);
+        days += moreDays;
+        endChange();
+    }
+
+    @Override
+    public UpcomingSection get(int index) {
+        LocalDate date = getDate(index);
+        return date == null ? OVERDUE : new UpcomingSection(date);
+    }
+
+    @Override
+    public int size() {
+        return days + 1;
+    }
+}
@@ -24,12 +24,27 @@ public class UpcomingLessonCard extends LessonCard {
     @FXML
     private Label date;
 
+    private Color lessonColor = Color.WHITE;
 
     /**
-     * Creates a {@code UpcomingLessonCard} with the given {@code Lesson} and index to display.
+     * Creates an empty {@code UpcomingLessonCard}, to be bound to a lesson with
+     * {@link #setItem(Lesson, int, Color)}.
      */
-    public UpcomingLessonCard(Lesson lesson, int displayedIndex, Color lessonColor) {
-        super(lesson, displayedIndex);
+    public UpcomingLessonCard() {
+        super();
+    }
+
+    /**
+     * Displays {@code lesson} with the given index and the color of its module on this card.
+     */
+    public void setItem(Lesson lesson, int displayedIndex, Color lessonColor) {
+        this.lessonColor = lessonColor;
+        setItem(lesson, displayedIndex);
+    }
+
+    @Override
+    protected void bind(Lesson lesson, int displayedIndex) {
+        super.bind(lesson, displayedIndex);
         code.setText(lesson.getCode().code);
         date.setText(lesson.getTime().toString().substring(4));
         date.setStyle("-fx-text-fill: " + getColorHex(lessonColor) + ";");
@@ -3,25 +3,36 @@ package trackitnus.ui.upcoming;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import trackitnus.commons.core.LogsCenter;
 import trackitnus.logic.Logic;
+import trackitnus.model.AgendaModel;
+import trackitnus.ui.TabPanel;
 import trackitnus.ui.UiPart;
 
-public class UpcomingPanel extends UiPart<Region> {
+/**
+ * Panel showing the overdue tasks, followed by a calendar of the days from today onwards, which can be scrolled
+ * endlessly. Only the days on screen are ever turned into cards, and the calendar is extended by
+ * {@value #EXTEND_DAYS} days whenever one of its last {@value #PREFETCH_DAYS} days is shown.
+ */
+public class UpcomingPanel extends UiPart<Region> implements TabPanel {
     public static final String TYPE = "U";
+    public static final int INITIAL_DAYS = 28;
+    public static final int EXTEND_DAYS = 28;
+    public static final int PREFETCH_DAYS = 7;
     private static final String FXML = "Upcoming/UpcomingPanel.fxml";
 
     private final Logic logic;
     private final Logger logger = LogsCenter.getLogger(UpcomingPanel.class);
-    private final ObservableList<UpcomingSection> calendarDates = FXCollections.observableArrayList();
+    private CalendarSectionList calendarDates;
+    private boolean isExtending;
+    // the agenda only keeps the days in use up to date, so the prefetched days are held until they are shown
+    private List<AgendaModel.Day> prefetchedDays = List.of();
     @FXML
     private ListView<UpcomingSection> calendarView;
 
@@ -32,26 +43,61 @@ public class UpcomingPanel extends UiPart<Region> {
         super(FXML);
         this.logic = logic;
 
-        LocalDate today = LocalDate.now();
-        getDatesForTheWeek(today);
-        calendarView.setItems(calendarDates);
         calendarView.setCellFactory(listView -> new SectionListViewCell());
-
+        showFrom(LocalDate.now());
     }
 
-    private void getDatesForTheWeek(LocalDate today) {
-        List<LocalDate> list = today.datesUntil(today.plusDays(7)).collect(Collectors.toList());
+    /**
+     * Makes the indexes of the tasks and lessons refer to all of them, then moves the calendar to start from the
+     * current date if the date has changed since it was shown, and otherwise rebinds every section on screen, so that
+     * the indexes of their tasks and lessons are up to date.
+     */
+    @Override
+    public void refresh() {
+        logic.showAgenda();
+        LocalDate today = LocalDate.now();
+        if (today.equals(calendarDates.getFirstDay())) {
+            calendarView.refresh();
+        } else {
+            showFrom(today);
+        }
+    }
 
-        calendarDates.add(new UpcomingSection("Overdue"));
+    private void showFrom(LocalDate today) {
+        calendarDates = new CalendarSectionList(today, INITIAL_DAYS);
+        calendarView.setItems(calendarDates);
+    }
 
-        for (LocalDate date : list) {
-            calendarDates.add(new UpcomingSection(date));
+    /**
+     * Called when the section at {@code index} is shown. Extends the calendar if the section is near its end, and
+     * loads the days that follow it, so that they are ready when they are scrolled to.
+     */
+    private void onSectionShown(int index) {
+        LocalDate date = calendarDates.getDate(index);
+        if (date == null) {
+            return;
         }
-
-        calendarDates.add(new UpcomingSection("Future"));
+        if (!isExtending && index + PREFETCH_DAYS >= calendarDates.size()) {
+            // the list cannot be changed while the ListView is laying out its cells
+            isExtending = true;
+            CalendarSectionList extendedDates = calendarDates;
+            Platform.runLater(() -> {
+                isExtending = false;
+                extendedDates.extend(EXTEND_DAYS);
+                logger.fine("Extended the calendar to " + extendedDates.size() + " sections");
+            });
+        }
+        prefetchedDays = logic.getAgenda().getDays(date.plusDays(1), date.plusDays(PREFETCH_DAYS + 1));
     }
 
+    /**
+     * Custom {@code ListCell} that displays a day with an {@code UpcomingSectionDayCard}, and the overdue section
+     * with an {@code UpcomingSectionCard}. Both cards are kept and rebound when the cell is reused.
+     */
     class SectionListViewCell extends ListCell<UpcomingSection> {
+        private UpcomingSectionDayCard dayCard;
+        private UpcomingSectionCard sectionCard;
+
         @Override
         protected void updateItem(UpcomingSection section, boolean empty) {
             super.updateItem(section, empty);
@@ -59,25 +105,23 @@ public class UpcomingPanel extends UiPart<Region> {
             if (empty || section == null) {
                 setGraphic(null);
                 setText(null);
-            } else {
-                if (section.isDay()) {
-                    LocalDate date = section.getDate();
-                    setGraphic(new UpcomingSectionDayCard(section, logic.getDayUpcomingTasks(date),
-                        logic.getDayUpcomingLessons(date), logic).getRoot());
-                } else {
-                    assert (section.getTitle() != null);
-                    allocateCalendarSections(section);
-                }
+                return;
             }
-        }
-
-        public void allocateCalendarSections(UpcomingSection section) {
-            if (section.getTitle().equals("Overdue")) {
-                setGraphic(new UpcomingSectionCard(section, logic.getOverdueTasks(), logic).getRoot());
+            if (section.isDay()) {
+                if (dayCard == null) {
+                    dayCard = new UpcomingSectionDayCard(logic);
+                }
+                dayCard.setItem(section, getIndex() + 1);
+                setGraphic(dayCard.getRoot());
             } else {
-                assert (section.getTitle().equals("Future"));
-                setGraphic(new UpcomingSectionCard(section, logic.getFutureTasks(), logic).getRoot());
+                assert (section.getTitle() != null);
+                if (sectionCard == null) {
+                    sectionCard = new UpcomingSectionCard(logic);
+                }
+                sectionCard.setItem(section, getIndex() + 1);
+                setGraphic(sectionCard.getRoot());
             }
+            onSectionShown(getIndex());
         }
     }
 
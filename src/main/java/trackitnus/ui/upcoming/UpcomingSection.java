@@ -9,11 +9,13 @@ import java.util.Objects;
  */
 public class UpcomingSection {
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("dd MMM EEEE");
+    private static final DateTimeFormatter DATE_TIME_WITH_YEAR_FORMATTER =
+        DateTimeFormatter.ofPattern("dd MMM yyyy EEEE");
     private final String title;
     private final LocalDate date;
 
     /**
-     * Constructor for UpcomingSection, namely for Overdue and Future sections
+     * Constructor for UpcomingSection, namely for the Overdue section
      *
      * @param title the header of the section
      */
@@ -23,13 +25,16 @@ public class UpcomingSection {
     }
 
     /**
-     * Constructor for UpcomingSection, for the dates in the calendar view
+     * Constructor for UpcomingSection, for the dates in the calendar view.
+     * The year is only shown for dates outside the current year, which the calendar can be scrolled to.
      *
      * @param date the date to be the header
      */
     public UpcomingSection(LocalDate date) {
         this.date = date;
-        this.title = date.format(DATE_TIME_FORMATTER);
+        this.title = date.format(date.getYear() == LocalDate.now().getYear()
+            ? DATE_TIME_FORMATTER
+            : DATE_TIME_WITH_YEAR_FORMATTER);
     }
 
     /**
@@ -52,7 +57,7 @@ public class UpcomingSection {
     }
 
     /**
-     * Checks if the section is a date in the calendar view, or either of the Overdue or Future sections
+     * Checks if the section is a date in the calendar view, or the Overdue section
      *
      * @return true if it is a date in the calendar view with a valid date
      */
@@ -71,12 +76,13 @@ public class UpcomingSection {
         }
 
         UpcomingSection otherCalSection = (UpcomingSection) other;
-        return otherCalSection.title.equals(title);
+        return otherCalSection.title.equals(title)
+            && Objects.equals(otherCalSection.date, date);
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(title);
+        return Objects.hash(title, date);
     }
 }
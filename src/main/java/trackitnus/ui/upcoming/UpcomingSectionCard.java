@@ -4,24 +4,21 @@ import javafx.beans.binding.Bindings;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
-import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
-import javafx.scene.layout.Region;
 import trackitnus.logic.Logic;
 import trackitnus.logic.commands.exceptions.CommandException;
 import trackitnus.model.task.Task;
-import trackitnus.ui.UiPart;
+import trackitnus.ui.CardListCell;
+import trackitnus.ui.ItemCard;
 import trackitnus.ui.task.OverdueFutureTaskCard;
 
 /**
  * A UI component that displays information of a {@code UpcomingSection}
  */
-public class UpcomingSectionCard extends UiPart<Region> {
+public class UpcomingSectionCard extends ItemCard<UpcomingSection> {
     private static final String FXML = "Upcoming/CalendarSectionCard.fxml";
     private static final int TASK_ROW_HEIGHT = 45;
-    public final UpcomingSection section;
     private final Logic logic;
-    private String title;
 
     @FXML
     private ListView<Task> taskListView;
@@ -29,27 +26,29 @@ public class UpcomingSectionCard extends UiPart<Region> {
     private Label sectionTitle;
 
     /**
-     * Constructor for a section in the calendar
+     * Creates an empty {@code UpcomingSectionCard}, to be bound to the overdue section with
+     * {@link #setItem(Object, int)}.
      *
-     * @param section  a section in the calendar
-     * @param taskList the tasklist to display
-     * @param logic    logic
+     * @param logic logic, from which the tasks of the section are taken
      */
-    public UpcomingSectionCard(UpcomingSection section, ObservableList<Task> taskList, Logic logic) {
+    public UpcomingSectionCard(Logic logic) {
         super(FXML);
-        this.section = section;
         this.logic = logic;
+        taskListView.setCellFactory(listView -> new TaskListViewCell());
+    }
+
+    @Override
+    protected void bind(UpcomingSection section, int displayedIndex) {
+        assert section.getTitle().equals(CalendarSectionList.OVERDUE_TITLE);
         sectionTitle.setText(section.getTitle());
-        if (section.getTitle().equals("Overdue")) {
-            sectionTitle.setStyle("-fx-text-fill: #D53636");
-        }
-        setUpTaskView(taskList);
+        sectionTitle.setStyle("-fx-text-fill: #D53636");
+        setUpTaskView(logic.getOverdueTasks());
     }
 
     private void setUpTaskView(ObservableList<Task> taskList) {
         taskListView.prefHeightProperty().bind(Bindings.size(taskList).multiply(TASK_ROW_HEIGHT).add(10));
         taskListView.setItems(taskList);
-        taskListView.setCellFactory(listView -> new TaskListViewCell());
+        taskListView.refresh();
     }
 
     @Override
@@ -65,24 +64,22 @@ public class UpcomingSectionCard extends UiPart<Region> {
 
         // state check
         UpcomingSectionCard card = (UpcomingSectionCard) other;
-        return title.equals(card.title);
+        return sectionTitle.getText().equals(card.sectionTitle.getText());
 
     }
 
-    class TaskListViewCell extends ListCell<Task> {
-        @Override
-        protected void updateItem(Task task, boolean empty) {
-            super.updateItem(task, empty);
+    class TaskListViewCell extends CardListCell<Task, OverdueFutureTaskCard> {
+        TaskListViewCell() {
+            super(OverdueFutureTaskCard::new);
+        }
 
-            if (empty || task == null) {
+        @Override
+        protected void bind(OverdueFutureTaskCard card, Task task) {
+            try {
+                card.setItem(task, logic.getTaskIndex(task).getOneBased());
+            } catch (CommandException e) {
                 setGraphic(null);
-                setText(null);
-            } else {
-                try {
-                    setGraphic(new OverdueFutureTaskCard(task, logic.getTaskIndex(task).getOneBased()).getRoot());
-                } catch (CommandException e) {
-                    e.printStackTrace();
-                }
+                e.printStackTrace();
             }
         }
     }
@@ -2,33 +2,40 @@ package trackitnus.ui.upcoming;
 
 import java.time.LocalDate;
 
+import javafx.beans.InvalidationListener;
 import javafx.beans.binding.Bindings;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
-import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.HBox;
-import javafx.scene.layout.Region;
 import javafx.scene.paint.Color;
 import trackitnus.logic.Logic;
 import trackitnus.logic.commands.exceptions.CommandException;
+import trackitnus.model.AgendaModel;
 import trackitnus.model.lesson.Lesson;
 import trackitnus.model.module.Module;
 import trackitnus.model.task.Task;
-import trackitnus.ui.UiPart;
+import trackitnus.ui.CardListCell;
+import trackitnus.ui.ItemCard;
 
 /**
  * A UI component that displays information of a {@code UpcomingSection} but in a calendar format
+ * <p>
+ * The card is bound to the day's lists in the {@code AgendaModel}, so it is only updated when a task or lesson of
+ * its own day changes. The indexes of its items follow from the position of the day's first task and lesson, and are
+ * renumbered when an earlier task or lesson moves them.
  */
-public class UpcomingSectionDayCard extends UiPart<Region> {
+public class UpcomingSectionDayCard extends ItemCard<UpcomingSection> {
 
     public static final int TASK_HEIGHT_OFFSET = 35;
     private static final String FXML = "Upcoming/DayCard.fxml";
     private static final int LESSON_ROW_HEIGHT = 27;
     private static final int TASK_ROW_HEIGHT = 45;
-    public final UpcomingSection section;
     private final Logic logic;
+    private final InvalidationListener taskIndexListener;
+    private final InvalidationListener lessonIndexListener;
+    private AgendaModel.Day day;
 
     @FXML
     private ListView<Task> taskListView;
@@ -40,45 +47,55 @@ public class UpcomingSectionDayCard extends UiPart<Region> {
     private Label date;
 
     /**
-     * Constructor for UpcomingSectionDayCard
+     * Creates an empty {@code UpcomingSectionDayCard}, to be bound to a day with {@link #setItem(Object, int)}.
      *
-     * @param section a section in the calendar
+     * @param logic logic, from which the tasks and lessons of the day are taken
      */
-    public UpcomingSectionDayCard(UpcomingSection section, ObservableList<Task> taskList,
-                                  ObservableList<Lesson> lessonList, Logic logic) {
+    public UpcomingSectionDayCard(Logic logic) {
         super(FXML);
-        this.section = section;
         this.logic = logic;
+        lessonListView.setCellFactory(listView -> new LessonListViewCell());
+        taskListView.setCellFactory(listView -> new TaskListViewCell());
+        taskIndexListener = unused -> taskListView.refresh();
+        lessonIndexListener = unused -> lessonListView.refresh();
+    }
 
+    @Override
+    protected void bind(UpcomingSection section, int displayedIndex) {
+        assert section.isDay();
         if (section.getDate().equals(LocalDate.now())) {
             date.setText("Today - " + section.getTitle());
         } else {
             date.setText(section.getTitle());
         }
 
-        if (lessonList.isEmpty()) {
-            lessonListView.setStyle("-fx-background-color: transparent");
+        if (day != null) {
+            day.firstTaskIndexProperty().removeListener(taskIndexListener);
+            day.firstLessonIndexProperty().removeListener(lessonIndexListener);
         }
+        day = logic.getAgenda().getDay(section.getDate());
+        day.firstTaskIndexProperty().addListener(taskIndexListener);
+        day.firstLessonIndexProperty().addListener(lessonIndexListener);
 
-        setUpLessonView(lessonList);
-        setUpTaskView(taskList);
+        setUpLessonView(day.getLessons());
+        setUpTaskView(day.getTasks());
     }
 
     private void setUpLessonView(ObservableList<Lesson> lessonList) {
-        if (lessonList.isEmpty()) {
-            lessonListView.prefHeightProperty().setValue(0);
-        } else {
-            lessonListView.prefHeightProperty().bind(Bindings.size(lessonList).multiply(LESSON_ROW_HEIGHT).add(10));
-        }
+        // the lessons of the day can be added after the card is bound, so the height follows whether there are any
+        lessonListView.styleProperty().bind(Bindings.when(Bindings.isEmpty(lessonList))
+            .then("-fx-background-color: transparent").otherwise(""));
+        lessonListView.prefHeightProperty().bind(Bindings.when(Bindings.isEmpty(lessonList))
+            .then(0).otherwise(Bindings.size(lessonList).multiply(LESSON_ROW_HEIGHT).add(10)));
         lessonListView.setItems(lessonList);
-        lessonListView.setCellFactory(listView -> new LessonListViewCell());
+        lessonListView.refresh();
     }
 
     private void setUpTaskView(ObservableList<Task> taskList) {
         taskListView.prefHeightProperty()
             .bind(Bindings.size(taskList).multiply(TASK_ROW_HEIGHT).add(TASK_HEIGHT_OFFSET));
         taskListView.setItems(taskList);
-        taskListView.setCellFactory(listView -> new TaskListViewCell());
+        taskListView.refresh();
     }
 
     @Override
@@ -98,44 +115,33 @@ public class UpcomingSectionDayCard extends UiPart<Region> {
         return date.getText().equals(card.date.getText());
     }
 
-    class TaskListViewCell extends ListCell<Task> {
-        @Override
-        protected void updateItem(Task task, boolean empty) {
-            super.updateItem(task, empty);
+    class TaskListViewCell extends CardListCell<Task, UpcomingTaskCard> {
+        TaskListViewCell() {
+            super(UpcomingTaskCard::new);
+        }
 
-            if (empty || task == null) {
-                setGraphic(null);
-                setText(null);
-            } else {
-                try {
-                    setGraphic(new UpcomingTaskCard(task, logic.getTaskIndex(task).getOneBased()).getRoot());
-                } catch (CommandException e) {
-                    e.printStackTrace();
-                }
-            }
+        @Override
+        protected void bind(UpcomingTaskCard card, Task task) {
+            card.setItem(task, day.firstTaskIndexProperty().get() + getIndex() + 1);
         }
     }
 
-    class LessonListViewCell extends ListCell<Lesson> {
-        @Override
-        protected void updateItem(Lesson lesson, boolean empty) {
-            super.updateItem(lesson, empty);
+    class LessonListViewCell extends CardListCell<Lesson, UpcomingLessonCard> {
+        LessonListViewCell() {
+            super(UpcomingLessonCard::new);
+        }
 
-            if (empty || lesson == null) {
+        @Override
+        protected void bind(UpcomingLessonCard card, Lesson lesson) {
+            try {
+                int lessonIndex = day.firstLessonIndexProperty().get() + getIndex() + 1;
+                int moduleIndex = logic.getModuleIndex(lesson.getCode()).getZeroBased();
+                Color lessonColor = Module.COLORS.get(moduleIndex);
+                card.setItem(lesson, lessonIndex, lessonColor);
+            } catch (CommandException e) {
                 setGraphic(null);
-                setText(null);
-            } else {
-                try {
-                    int lessonIndex = logic.getLessonIndex(lesson).getOneBased();
-                    int moduleIndex = logic.getModuleIndex(lesson.getCode()).getZeroBased();
-                    Color lessonColor = Module.COLORS.get(moduleIndex);
-                    setGraphic(new UpcomingLessonCard(lesson, lessonIndex, lessonColor).getRoot());
-                } catch (CommandException e) {
-                    e.printStackTrace();
-                }
+                e.printStackTrace();
             }
         }
     }
 }
-
-
@@ -16,10 +16,15 @@ public class UpcomingTaskCard extends TaskCard {
     private Label code;
 
     /**
-     * Creates a {@code UpcomingTaskCard} with the given {@code Task} and index to display.
+     * Creates an empty {@code UpcomingTaskCard}, to be bound to a task with {@link #setItem(Object, int)}.
      */
-    public UpcomingTaskCard(Task task, int displayedIndex) {
-        super(task, displayedIndex);
+    public UpcomingTaskCard() {
+        super();
+    }
+
+    @Override
+    protected void bind(Task task, int displayedIndex) {
+        super.bind(task, displayedIndex);
         date.setText("");
         code.setText(task.getCode().isPresent() ? task.getCode().get().code + " " : "");
     }
@@ -1,6 +1,8 @@
 package trackitnus;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Paths;
 import java.util.Collections;
@@ -37,6 +39,31 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_batchParameters_success() {
+        parametersStub.namedParameters.put("batch", "script.txt");
+        parametersStub.namedParameters.put("save-every", "100");
+        expected.setBatchScriptPath(Paths.get("script.txt"));
+        expected.setSaveInterval(100);
+        AppParameters actual = AppParameters.parse(parametersStub);
+        assertEquals(expected, actual);
+        assertTrue(actual.isHeadless());
+    }
+
+    @Test
+    public void parse_invalidSaveInterval_savesAtEndOnly() {
+        parametersStub.namedParameters.put("save-every", "often");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_rawArguments_sameAsNamedParameters() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setBatchScriptPath(Paths.get(AppParameters.STANDARD_INPUT));
+        assertEquals(expected, AppParameters.parse(new String[] {"--config=config.json", "--batch=-", "unnamed"}));
+        assertFalse(AppParameters.parse(new String[0]).isHeadless());
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private final Map<String, String> namedParameters = new HashMap<>();
 
@@ -1,5 +1,6 @@
 package trackitnus.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static trackitnus.testutil.Assert.assertThrows;
@@ -7,6 +8,7 @@ import static trackitnus.testutil.Assert.assertThrows;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -81,6 +83,29 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void upperBound() {
+        List<Integer> sorted = Arrays.asList(1, 3, 3, 5);
+        assertEquals(0, CollectionUtil.upperBound(Collections.emptyList(), 1, Comparator.naturalOrder()));
+        assertEquals(0, CollectionUtil.upperBound(sorted, 0, Comparator.naturalOrder()));
+        assertEquals(1, CollectionUtil.upperBound(sorted, 2, Comparator.naturalOrder()));
+        // equal items stay in front of the inserted item
+        assertEquals(3, CollectionUtil.upperBound(sorted, 3, Comparator.naturalOrder()));
+        assertEquals(4, CollectionUtil.upperBound(sorted, 6, Comparator.naturalOrder()));
+    }
+
+    @Test
+    public void indexOfSorted() {
+        // sorted by length only, so "ab" and "cd" compare equal but are not equal
+        Comparator<String> byLength = Comparator.comparingInt(String::length);
+        List<String> sorted = Arrays.asList("a", "ab", "cd", "abc");
+        assertEquals(0, CollectionUtil.indexOfSorted(sorted, "a", byLength));
+        assertEquals(2, CollectionUtil.indexOfSorted(sorted, "cd", byLength));
+        assertEquals(3, CollectionUtil.indexOfSorted(sorted, "abc", byLength));
+        assertEquals(-1, CollectionUtil.indexOfSorted(sorted, "ef", byLength));
+        assertEquals(-1, CollectionUtil.indexOfSorted(sorted, "abcd", byLength));
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
@@ -1,13 +1,22 @@
 package trackitnus.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static trackitnus.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +29,35 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_missingParentDirectories_created() throws Exception {
+        Path file = testFolder.resolve("a").resolve("b").resolve("file.txt");
+        FileUtil.writeToFile(file, "content");
+        assertEquals("content", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeToFile_withBackups_previousVersionsRotated() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        for (int version = 1; version <= 4; version++) {
+            FileUtil.writeToFile(file, "version " + version, 2);
+        }
+
+        assertEquals("version 4", FileUtil.readFromFile(file));
+        assertEquals("version 3", FileUtil.readFromFile(FileUtil.getBackupPath(file, 1)));
+        assertEquals("version 2", FileUtil.readFromFile(FileUtil.getBackupPath(file, 2)));
+        assertFalse(Files.exists(FileUtil.getBackupPath(file, 3)));
+        // no temporary files are left behind
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(3, files.count());
+        }
+    }
+
+    @Test
+    public void appendToFile() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.appendToFile(file, "first\n");
+        FileUtil.appendToFile(file, "second\n");
+        assertEquals("first\nsecond\n", FileUtil.readFromFile(file));
+    }
 }
@@ -2,7 +2,10 @@ package trackitnus.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.Test;
@@ -39,4 +42,34 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void writeJson_compact_noWhitespace() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        JsonUtil.writeJson(out, serializableTestClass, true);
+
+        String expected = SerializableTestClass.JSON_STRING_REPRESENTATION
+            .replaceAll("\\s*\\R\\s*", "").replace(" : ", ":").replace(", ", ",")
+            .replace("[ ", "[").replace(" ]", "]");
+        assertEquals(expected, out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void readJson_streamLeftOpen() throws IOException {
+        byte[] json = SerializableTestClass.JSON_STRING_REPRESENTATION.getBytes(StandardCharsets.UTF_8);
+        ByteArrayInputStream in = new ByteArrayInputStream(json) {
+            @Override
+            public void close() {
+                throw new AssertionError("The stream should not be closed.");
+            }
+        };
+
+        SerializableTestClass serializableTestClass = JsonUtil.readJson(in, SerializableTestClass.class);
+
+        assertEquals(serializableTestClass.getName(), SerializableTestClass.getNameTestValue());
+        assertEquals(serializableTestClass.getListOfLocalDateTimes(), SerializableTestClass.getListTestValues());
+    }
+
 }
@@ -0,0 +1,69 @@
+package trackitnus.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import trackitnus.logic.CommandMetrics.Phase;
+
+public class CommandMetricsTest {
+
+    @Test
+    public void getCommandWord() {
+        assertEquals("T add", CommandMetrics.getCommandWord("  T   add n/Lab 1 d/01/10/2020"));
+        assertEquals("help", CommandMetrics.getCommandWord("help 3"));
+        assertEquals("Tadd", CommandMetrics.getCommandWord("Tadd"));
+        assertEquals("", CommandMetrics.getCommandWord("   "));
+    }
+
+    @Test
+    public void getReport_commandsAndSaves() {
+        CommandMetrics metrics = new CommandMetrics();
+        assertEquals(CommandMetrics.MESSAGE_NO_COMMANDS, metrics.getReport());
+
+        metrics.recordCommand("T add", Phase.PARSE, 1_000_000);
+        metrics.recordCommand("T add", Phase.PARSE, 3_000_000);
+        metrics.recordCommand("T add", Phase.EXECUTE, 2_000_000);
+        metrics.recordSave(10, 5_000_000, 300);
+        metrics.recordSave(11, 5_000_000, 200);
+
+        String report = metrics.getReport();
+        assertTrue(report.contains("T add       parse          2     2.000"));
+        assertTrue(report.contains("T add       execute        1     2.000"));
+        assertTrue(report.contains("save           2     5.000"));
+        assertTrue(report.endsWith(String.format(CommandMetrics.MESSAGE_SAVE_BYTES, 500, 200, 11)));
+
+        metrics.recordSave(12, 5_000_000, -1);
+        assertTrue(metrics.getReport().endsWith(String.format(CommandMetrics.MESSAGE_SAVE_SIZE, 12)));
+    }
+
+    @Test
+    public void recordCommand_tooManyCommandWords_groupedAsOther() {
+        CommandMetrics metrics = new CommandMetrics();
+        for (int i = 0; i <= CommandMetrics.MAX_COMMAND_WORDS; i++) {
+            metrics.recordCommand("typo" + i, Phase.PARSE, 1);
+        }
+        metrics.recordCommand("typo0", Phase.PARSE, 1);
+
+        String report = metrics.getReport();
+        assertTrue(report.contains("typo0       parse          2"));
+        assertTrue(report.contains(CommandMetrics.OTHER_COMMAND_WORDS + "     parse          1"));
+    }
+
+    @Test
+    public void logIfDue() {
+        CommandMetrics metrics = new CommandMetrics(Duration.ZERO);
+        assertFalse(metrics.logIfDue());
+        metrics.recordCommand("help", Phase.PARSE, 1);
+        assertTrue(metrics.logIfDue());
+        assertFalse(metrics.logIfDue());
+
+        CommandMetrics rarelyLogged = new CommandMetrics(Duration.ofDays(1));
+        rarelyLogged.recordCommand("help", Phase.PARSE, 1);
+        assertFalse(rarelyLogged.logIfDue());
+    }
+}
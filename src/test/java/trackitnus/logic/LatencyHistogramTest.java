@@ -0,0 +1,62 @@
+package trackitnus.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    public void getValueAtPercentile_noRecords_returnsZero() {
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMean());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+    }
+
+    @Test
+    public void getValueAtPercentile_smallValues_exact() {
+        for (int i = 1; i <= 50; i++) {
+            histogram.record(i);
+        }
+        assertEquals(50, histogram.getCount());
+        assertEquals(25.5, histogram.getMean());
+        assertEquals(25, histogram.getValueAtPercentile(50));
+        assertEquals(45, histogram.getValueAtPercentile(90));
+        assertEquals(50, histogram.getValueAtPercentile(100));
+        assertEquals(50, histogram.getMax());
+    }
+
+    @Test
+    public void getValueAtPercentile_randomValues_withinPrecision() {
+        Random random = new Random(2103);
+        long[] values = new long[10_000];
+        for (int i = 0; i < values.length; i++) {
+            // spread the values over many orders of magnitude, from nanoseconds to seconds
+            values[i] = (long) Math.pow(10, random.nextDouble() * 10);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double percentile : new double[] {1, 50, 90, 99, 99.9}) {
+            long expected = values[(int) Math.ceil(percentile / 100 * values.length) - 1];
+            long actual = histogram.getValueAtPercentile(percentile);
+            assertTrue(actual >= expected && actual <= expected + expected / 32 + 1,
+                percentile + "th percentile: expected " + expected + " but was " + actual);
+        }
+        assertEquals(values[values.length - 1], histogram.getMax());
+    }
+
+    @Test
+    public void record_outOfRange_clamped() {
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(LatencyHistogram.MAX_TRACKABLE_NANOS, histogram.getValueAtPercentile(100));
+    }
+}
@@ -1,11 +1,17 @@
 package trackitnus.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static trackitnus.testutil.Assert.assertThrows;
 import static trackitnus.testutil.typical.TypicalContacts.AMY;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,10 +19,15 @@ import org.junit.jupiter.api.io.TempDir;
 
 import trackitnus.commons.core.Messages;
 import trackitnus.logic.commands.CommandResult;
+import trackitnus.logic.commands.HelpCommand;
+import trackitnus.logic.commands.RedoCommand;
+import trackitnus.logic.commands.StatsCommand;
+import trackitnus.logic.commands.UndoCommand;
 import trackitnus.logic.commands.contact.AddContactCommand;
 import trackitnus.logic.commands.contact.ContactCommandTestUtil;
 import trackitnus.logic.commands.exceptions.CommandException;
-import trackitnus.logic.parser.ParserUtil;
+import trackitnus.logic.commands.module.AddModuleCommand;
+import trackitnus.logic.commands.module.ModuleCommandTestUtil;
 import trackitnus.logic.parser.exceptions.ParseException;
 import trackitnus.model.Model;
 import trackitnus.model.ModelManager;
@@ -24,10 +35,12 @@ import trackitnus.model.ReadOnlyTrackIter;
 import trackitnus.model.UserPrefs;
 import trackitnus.model.commons.Code;
 import trackitnus.model.contact.Contact;
+import trackitnus.model.module.Module;
 import trackitnus.storage.JsonTrackIterStorage;
 import trackitnus.storage.JsonUserPrefsStorage;
 import trackitnus.storage.StorageManager;
 import trackitnus.testutil.builder.ContactBuilder;
+import trackitnus.testutil.builder.TrackIterBuilder;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
@@ -59,7 +72,7 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
+    public void execute_storageThrowsIoException_reportsSaveFailure() throws Exception {
         // Setup LogicManager with JsonTrackIterIoExceptionThrowingStub
         JsonTrackIterStorage trackIterStorage =
             new JsonTrackIterIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionTrackIter.json"));
@@ -67,6 +80,8 @@ public class LogicManagerTest {
             new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
         StorageManager storage = new StorageManager(trackIterStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
+        List<String> saveFailures = new ArrayList<>();
+        logic.setSaveFailureHandler(saveFailures::add);
 
         // Execute add command
         String addCommand = Contact.TYPE + " " + AddContactCommand.COMMAND_WORD + ContactCommandTestUtil.NAME_DESC_AMY
@@ -74,8 +89,92 @@ public class LogicManagerTest {
         Contact expectedContact = new ContactBuilder(AMY).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addContact(expectedContact);
-        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        String expectedMessage = String.format(Messages.MESSAGE_ADD_CONTACT_SUCCESS, expectedContact);
+        assertCommandSuccess(addCommand, expectedMessage, expectedModel);
+
+        // the command succeeds, and the failure to save it is reported afterwards
+        logic.flushSaves();
+        assertEquals(Collections.singletonList(LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION),
+            saveFailures);
+    }
+
+    @Test
+    public void execute_commandWithoutChanges_dataNotSaved() throws Exception {
+        logic.execute(HelpCommand.COMMAND_WORD);
+        logic.flushSaves();
+        assertFalse(Files.exists(temporaryFolder.resolve("trackIter.json")));
+        assertFalse(logic.hasUnsavedChanges());
+
+        String addCommand = Contact.TYPE + " " + AddContactCommand.COMMAND_WORD + ContactCommandTestUtil.NAME_DESC_AMY
+            + ContactCommandTestUtil.PHONE_DESC_AMY + ContactCommandTestUtil.EMAIL_DESC_AMY;
+        logic.execute(addCommand);
+        logic.flushSaves();
+        assertTrue(Files.exists(temporaryFolder.resolve("trackIter.json")));
+        assertFalse(logic.hasUnsavedChanges());
+    }
+
+    @Test
+    public void execute_undoAfterCommand_revertsCommand() throws Exception {
+        String addCommand = Contact.TYPE + " " + AddContactCommand.COMMAND_WORD + ContactCommandTestUtil.NAME_DESC_AMY
+            + ContactCommandTestUtil.PHONE_DESC_AMY + ContactCommandTestUtil.EMAIL_DESC_AMY;
+        logic.execute(addCommand);
+        assertEquals(1, model.getFilteredContactList().size());
+
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(Collections.emptyList(), model.getFilteredContactList());
+        logic.execute(RedoCommand.COMMAND_WORD);
+        assertEquals(1, model.getFilteredContactList().size());
+        assertCommandException(RedoCommand.COMMAND_WORD, Messages.MESSAGE_NOTHING_TO_REDO);
+    }
+
+    @Test
+    public void execute_undoRedoModuleAdd_hasModuleFollows() throws Exception {
+        Code code = new Code(ModuleCommandTestUtil.VALID_CODE_ONE);
+        logic.execute(Module.TYPE + " " + AddModuleCommand.COMMAND_WORD + " m/" + ModuleCommandTestUtil.VALID_CODE_ONE
+            + " n/" + ModuleCommandTestUtil.VALID_NAME_ONE);
+        assertTrue(logic.hasModule(code));
+
+        // the UI relies on this to leave the tab of a module that an undo or redo removed
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertFalse(logic.hasModule(code));
+        logic.execute(RedoCommand.COMMAND_WORD);
+        assertTrue(logic.hasModule(code));
+    }
+
+    @Test
+    public void execute_beforeLoad_throwsCommandException() throws Exception {
+        JsonTrackIterStorage trackIterStorage =
+            new JsonTrackIterStorage(temporaryFolder.resolve("trackIter.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(trackIterStorage, userPrefsStorage), false);
+        assertFalse(logic.isLoaded());
+        assertCommandException(HelpCommand.COMMAND_WORD, LogicManager.MESSAGE_NOT_LOADED);
+
+        logic.completeLoad(new TrackIterBuilder().withContact(AMY).build());
+        assertTrue(logic.isLoaded());
+        assertEquals(Collections.singletonList(AMY), model.getFilteredContactList());
+        // the loaded data is already saved, and cannot be undone
+        assertFalse(logic.hasUnsavedChanges());
+        assertCommandException(UndoCommand.COMMAND_WORD, Messages.MESSAGE_NOTHING_TO_UNDO);
+        logic.execute(HelpCommand.COMMAND_WORD);
+        logic.flushSaves();
+        assertFalse(Files.exists(temporaryFolder.resolve("trackIter.json")));
+    }
+
+    @Test
+    public void execute_stats_reportsCommandsAndSaves() throws Exception {
+        String addCommand = Contact.TYPE + " " + AddContactCommand.COMMAND_WORD + ContactCommandTestUtil.NAME_DESC_AMY
+            + ContactCommandTestUtil.PHONE_DESC_AMY + ContactCommandTestUtil.EMAIL_DESC_AMY;
+        logic.execute(addCommand);
+        logic.flushSaves();
+
+        String report = logic.execute(StatsCommand.COMMAND_WORD).getFeedbackToUser();
+        assertTrue(report.contains("C add       parse          1"));
+        assertTrue(report.contains("C add       execute        1"));
+        assertTrue(report.contains("stats       parse          1"));
+        assertTrue(report.contains("save           1"));
+        long fileSize = Files.size(temporaryFolder.resolve("trackIter.json"));
+        assertTrue(report.endsWith(String.format(CommandMetrics.MESSAGE_SAVE_BYTES, fileSize, fileSize, 1)));
     }
 
     @Test
@@ -98,17 +197,6 @@ public class LogicManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> logic.getOverdueTasks().remove(0));
     }
 
-    @Test
-    public void getFutureTasks_modifyList_throwsUnsupportedOperationException() {
-        assertThrows(UnsupportedOperationException.class, () -> logic.getFutureTasks().remove(0));
-    }
-
-    @Test
-    public void getDayUpcomingTasks_modifyList_throwsUnsupportedOperationException() {
-        assertThrows(UnsupportedOperationException.class, ()
-            -> logic.getDayUpcomingTasks(ParserUtil.parseValidDate("12/12/2020")).remove(0));
-    }
-
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
@@ -0,0 +1,147 @@
+package trackitnus.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackitnus.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import trackitnus.commons.core.Messages;
+import trackitnus.model.Model;
+import trackitnus.model.ModelManager;
+import trackitnus.model.ReadOnlyTrackIter;
+import trackitnus.model.TrackIter;
+import trackitnus.model.task.Task;
+import trackitnus.storage.JsonTrackIterStorage;
+
+public class ScriptRunnerTest {
+
+    private static final String ADD_TASK = "T add n/Task %1$d d/01/01/2021";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final List<String> errors = new ArrayList<>();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        JsonTrackIterStorage storage = new JsonTrackIterStorage(temporaryFolder.resolve("trackIter.json"));
+        assertThrows(NullPointerException.class, () -> new ScriptRunner(null, storage, 0));
+        assertThrows(NullPointerException.class, () -> new ScriptRunner(model, null, 0));
+    }
+
+    @Test
+    public void run_validScript_executesAndSavesOnce() throws Exception {
+        CountingStorage storage = new CountingStorage(temporaryFolder.resolve("trackIter.json"));
+        ScriptRunner.Result result = new ScriptRunner(model, storage, 0)
+            .run(script(String.format(ADD_TASK, 1), "", "# a comment", String.format(ADD_TASK, 2)), errors::add);
+
+        assertEquals(2, result.getExecuted());
+        assertEquals(0, result.getFailed());
+        assertEquals(2, model.getTrackIter().getTaskList().size());
+        assertEquals(1, storage.saves);
+        assertEquals(new TrackIter(model.getTrackIter()), storage.readTrackIter().get());
+    }
+
+    @Test
+    public void run_failingLines_reportedAndSkipped() throws Exception {
+        CountingStorage storage = new CountingStorage(temporaryFolder.resolve("trackIter.json"));
+        ScriptRunner.Result result = new ScriptRunner(model, storage, 0)
+            .run(script("unknown", String.format(ADD_TASK, 1), String.format(ADD_TASK, 1)), errors::add);
+
+        assertEquals(3, result.getExecuted());
+        assertEquals(2, result.getFailed());
+        assertEquals(Arrays.asList(String.format(ScriptRunner.MESSAGE_LINE_FAILED, 1, Messages.MESSAGE_UNKNOWN_COMMAND),
+            String.format(ScriptRunner.MESSAGE_LINE_FAILED, 3, Messages.MESSAGE_DUPLICATE_TASK)), errors);
+        assertEquals(1, model.getTrackIter().getTaskList().size());
+    }
+
+    @Test
+    public void run_commandThrowsRuntimeException_reportedAndSkipped() throws Exception {
+        IllegalStateException error = new IllegalStateException("bad data");
+        Model failingModel = new ModelManager() {
+            @Override
+            public void addTask(Task task) {
+                if (task.getName().toString().equals("Task 2")) {
+                    throw error;
+                }
+                super.addTask(task);
+            }
+        };
+        CountingStorage storage = new CountingStorage(temporaryFolder.resolve("trackIter.json"));
+        ScriptRunner.Result result = new ScriptRunner(failingModel, storage, 0)
+            .run(script(String.format(ADD_TASK, 1), String.format(ADD_TASK, 2), String.format(ADD_TASK, 3)),
+                errors::add);
+
+        assertEquals(3, result.getExecuted());
+        assertEquals(1, result.getFailed());
+        assertEquals(List.of(String.format(ScriptRunner.MESSAGE_LINE_FAILED, 2, error)), errors);
+        assertEquals(2, failingModel.getTrackIter().getTaskList().size());
+        assertEquals(new TrackIter(failingModel.getTrackIter()), storage.readTrackIter().get());
+    }
+
+    @Test
+    public void run_saveInterval_savesEveryIntervalAndAtEnd() throws Exception {
+        CountingStorage storage = new CountingStorage(temporaryFolder.resolve("trackIter.json"));
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            lines.add(String.format(ADD_TASK, i));
+        }
+        new ScriptRunner(model, storage, 2).run(script(lines.toArray(new String[0])), errors::add);
+
+        assertEquals(3, storage.saves);
+    }
+
+    @Test
+    public void run_noModifications_notSaved() throws Exception {
+        CountingStorage storage = new CountingStorage(temporaryFolder.resolve("trackIter.json"));
+        new ScriptRunner(model, storage, 1).run(script("help", "T delete 1"), errors::add);
+
+        assertEquals(0, storage.saves);
+        assertFalse(Files.exists(temporaryFolder.resolve("trackIter.json")));
+    }
+
+    @Test
+    public void run_exitCommand_stopsScript() throws Exception {
+        CountingStorage storage = new CountingStorage(temporaryFolder.resolve("trackIter.json"));
+        ScriptRunner.Result result = new ScriptRunner(model, storage, 0)
+            .run(script(String.format(ADD_TASK, 1), "exit", String.format(ADD_TASK, 2)), errors::add);
+
+        assertEquals(2, result.getExecuted());
+        assertEquals(1, model.getTrackIter().getTaskList().size());
+        assertTrue(errors.isEmpty());
+    }
+
+    private static BufferedReader script(String... lines) {
+        return new BufferedReader(new StringReader(String.join("\n", lines)));
+    }
+
+    /**
+     * A {@code JsonTrackIterStorage} that counts the number of saves.
+     */
+    private static class CountingStorage extends JsonTrackIterStorage {
+        private int saves;
+
+        private CountingStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveTrackIter(ReadOnlyTrackIter trackIter, Path filePath) throws IOException {
+            saves++;
+            super.saveTrackIter(trackIter, filePath);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package trackitnus.logic.commands;
+
+import static trackitnus.logic.commands.CommandTestUtil.assertCommandFailure;
+import static trackitnus.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static trackitnus.testutil.typical.TypicalTrackIter.getTypicalTrackIter;
+
+import org.junit.jupiter.api.Test;
+
+import trackitnus.commons.core.Messages;
+import trackitnus.model.Model;
+import trackitnus.model.ModelManager;
+import trackitnus.model.UserPrefs;
+import trackitnus.model.task.Task;
+
+public class RedoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalTrackIter(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalTrackIter(), new UserPrefs());
+
+    @Test
+    public void execute_nothingUndone_failure() {
+        assertCommandFailure(new RedoCommand(), model, Messages.MESSAGE_NOTHING_TO_REDO);
+    }
+
+    @Test
+    public void execute_afterUndo_reappliesModification() {
+        Task task = model.getTrackIter().getTaskList().get(0);
+        model.deleteTask(task);
+        model.commitTrackIter();
+        model.undoTrackIter();
+        model.commitTrackIter();
+
+        expectedModel.deleteTask(task);
+        assertCommandSuccess(new RedoCommand(), model, Messages.MESSAGE_REDO_SUCCESS, expectedModel);
+        model.commitTrackIter();
+
+        assertCommandFailure(new RedoCommand(), model, Messages.MESSAGE_NOTHING_TO_REDO);
+    }
+
+    @Test
+    public void execute_newModificationAfterUndo_failure() {
+        model.deleteTask(model.getTrackIter().getTaskList().get(0));
+        model.commitTrackIter();
+        model.undoTrackIter();
+        model.commitTrackIter();
+        model.deleteTask(model.getTrackIter().getTaskList().get(1));
+        model.commitTrackIter();
+
+        assertCommandFailure(new RedoCommand(), model, Messages.MESSAGE_NOTHING_TO_REDO);
+    }
+}
@@ -0,0 +1,44 @@
+package trackitnus.logic.commands;
+
+import static trackitnus.logic.commands.CommandTestUtil.assertCommandFailure;
+import static trackitnus.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static trackitnus.testutil.typical.TypicalTrackIter.getTypicalTrackIter;
+
+import org.junit.jupiter.api.Test;
+
+import trackitnus.commons.core.Messages;
+import trackitnus.model.Model;
+import trackitnus.model.ModelManager;
+import trackitnus.model.UserPrefs;
+import trackitnus.model.task.Task;
+
+public class UndoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalTrackIter(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalTrackIter(), new UserPrefs());
+
+    @Test
+    public void execute_noModifications_failure() {
+        assertCommandFailure(new UndoCommand(), model, Messages.MESSAGE_NOTHING_TO_UNDO);
+    }
+
+    @Test
+    public void execute_afterModifications_restoresPreviousStates() {
+        Task firstTask = model.getTrackIter().getTaskList().get(0);
+        Task secondTask = model.getTrackIter().getTaskList().get(1);
+        model.deleteTask(firstTask);
+        model.commitTrackIter();
+        model.deleteTask(secondTask);
+        model.commitTrackIter();
+
+        expectedModel.deleteTask(firstTask);
+        assertCommandSuccess(new UndoCommand(), model, Messages.MESSAGE_UNDO_SUCCESS, expectedModel);
+        model.commitTrackIter();
+
+        expectedModel.addTask(firstTask);
+        assertCommandSuccess(new UndoCommand(), model, Messages.MESSAGE_UNDO_SUCCESS, expectedModel);
+        model.commitTrackIter();
+
+        assertCommandFailure(new UndoCommand(), model, Messages.MESSAGE_NOTHING_TO_UNDO);
+    }
+}
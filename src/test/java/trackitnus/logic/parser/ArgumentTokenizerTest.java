@@ -5,8 +5,16 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
+import trackitnus.testutil.Assert;
+
 public class ArgumentTokenizerTest {
 
     private final Prefix unknownPrefix = new Prefix("--u");
@@ -17,7 +25,7 @@ public class ArgumentTokenizerTest {
     @Test
     public void tokenize_emptyArgsString_noValues() {
         String argsString = "  ";
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash);
+        ArgumentMultimap argMultimap = new ArgumentTokenizer(pSlash).tokenize(argsString);
 
         assertPreambleEmpty(argMultimap);
         assertArgumentAbsent(argMultimap, pSlash);
@@ -56,7 +64,7 @@ public class ArgumentTokenizerTest {
     @Test
     public void tokenize_noPrefixes_allTakenAsPreamble() {
         String argsString = "  some random string /t tag with leading and trailing spaces ";
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString);
+        ArgumentMultimap argMultimap = new ArgumentTokenizer().tokenize(argsString);
 
         // Same string expected as preamble, but leading/trailing spaces should be trimmed
         assertPreamblePresent(argMultimap, argsString.trim());
@@ -67,13 +75,13 @@ public class ArgumentTokenizerTest {
     public void tokenize_oneArgument() {
         // Preamble present
         String argsString = "  Some preamble string p/ Argument value ";
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash);
+        ArgumentMultimap argMultimap = new ArgumentTokenizer(pSlash).tokenize(argsString);
         assertPreamblePresent(argMultimap, "Some preamble string");
         assertArgumentPresent(argMultimap, pSlash, "Argument value");
 
         // No preamble
         argsString = " p/   Argument value ";
-        argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash);
+        argMultimap = new ArgumentTokenizer(pSlash).tokenize(argsString);
         assertPreambleEmpty(argMultimap);
         assertArgumentPresent(argMultimap, pSlash, "Argument value");
 
@@ -83,7 +91,7 @@ public class ArgumentTokenizerTest {
     public void tokenize_multipleArguments() {
         // Only two arguments are present
         String argsString = "SomePreambleString -t dashT-Value p/pSlash value";
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT, hatQ);
+        ArgumentMultimap argMultimap = new ArgumentTokenizer(pSlash, dashT, hatQ).tokenize(argsString);
         assertPreamblePresent(argMultimap, "SomePreambleString");
         assertArgumentPresent(argMultimap, pSlash, "pSlash value");
         assertArgumentPresent(argMultimap, dashT, "dashT-Value");
@@ -91,7 +99,7 @@ public class ArgumentTokenizerTest {
 
         // All three arguments are present
         argsString = "Different Preamble String ^Q111 -t dashT-Value p/pSlash value";
-        argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT, hatQ);
+        argMultimap = new ArgumentTokenizer(pSlash, dashT, hatQ).tokenize(argsString);
         assertPreamblePresent(argMultimap, "Different Preamble String");
         assertArgumentPresent(argMultimap, pSlash, "pSlash value");
         assertArgumentPresent(argMultimap, dashT, "dashT-Value");
@@ -102,7 +110,7 @@ public class ArgumentTokenizerTest {
         // Reuse tokenizer on an empty string to ensure ArgumentMultimap is correctly reset
         // (i.e. no stale values from the previous tokenizing remain)
         argsString = "";
-        argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT, hatQ);
+        argMultimap = new ArgumentTokenizer(pSlash, dashT, hatQ).tokenize(argsString);
         assertPreambleEmpty(argMultimap);
         assertArgumentAbsent(argMultimap, pSlash);
 
@@ -110,7 +118,7 @@ public class ArgumentTokenizerTest {
 
         // Prefixes not previously given to the tokenizer should not return any values
         argsString = unknownPrefix + "some value";
-        argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT, hatQ);
+        argMultimap = new ArgumentTokenizer(pSlash, dashT, hatQ).tokenize(argsString);
         assertArgumentAbsent(argMultimap, unknownPrefix);
         assertPreamblePresent(argMultimap, argsString); // Unknown prefix is taken as part of preamble
     }
@@ -119,7 +127,7 @@ public class ArgumentTokenizerTest {
     public void tokenize_multipleArgumentsWithRepeats() {
         // Two arguments repeated, some have empty values
         String argsString = "SomePreambleString -t dashT-Value ^Q ^Q -t another dashT value p/ pSlash value -t";
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT, hatQ);
+        ArgumentMultimap argMultimap = new ArgumentTokenizer(pSlash, dashT, hatQ).tokenize(argsString);
         assertPreamblePresent(argMultimap, "SomePreambleString");
         assertArgumentPresent(argMultimap, pSlash, "pSlash value");
         assertArgumentPresent(argMultimap, dashT, "dashT-Value", "another dashT value", "");
@@ -129,13 +137,56 @@ public class ArgumentTokenizerTest {
     @Test
     public void tokenize_multipleArgumentsJoined() {
         String argsString = "SomePreambleStringp/ pSlash joined-tjoined -t not joined^Qjoined";
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT, hatQ);
+        ArgumentMultimap argMultimap = new ArgumentTokenizer(pSlash, dashT, hatQ).tokenize(argsString);
         assertPreamblePresent(argMultimap, "SomePreambleStringp/ pSlash joined-tjoined");
         assertArgumentAbsent(argMultimap, pSlash);
         assertArgumentPresent(argMultimap, dashT, "not joined^Qjoined");
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void constructor_invalidPrefixes_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new ArgumentTokenizer(new Prefix("")));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new ArgumentTokenizer(new Prefix("p /")));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new ArgumentTokenizer(pSlash, pSlash));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new ArgumentTokenizer(dashT, new Prefix("-tt")));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new ArgumentTokenizer(new Prefix("-tt"), dashT));
+    }
+
+    /**
+     * Tokenizes random arguments strings, made of fragments that are likely to confuse the tokenizer, with random sets
+     * of prefixes, and checks that the results are the same as those of the previous implementation.
+     */
+    @Test
+    public void tokenize_randomArguments_matchesReferenceImplementation() {
+        List<Prefix> allPrefixes = Arrays.asList(CliSyntax.PREFIX_NAME, CliSyntax.PREFIX_PHONE,
+            CliSyntax.PREFIX_EMAIL, CliSyntax.PREFIX_ADDRESS, CliSyntax.PREFIX_TAG, CliSyntax.PREFIX_CODE,
+            CliSyntax.PREFIX_DATE, CliSyntax.PREFIX_REMARK, dashT, hatQ, unknownPrefix);
+        String[] fragments = {" ", "  ", "\t", "n", "/", "n/", "t/", "p/", "-t", "^Q", "--u", "-", "x", "1", "é",
+            "n/n/", "/n", " n/", " t/ "};
+        Random random = new Random(2103);
+
+        for (int round = 0; round < 20000; round++) {
+            List<Prefix> shuffled = new ArrayList<>(allPrefixes);
+            Collections.shuffle(shuffled, random);
+            Prefix[] prefixes = shuffled.subList(0, random.nextInt(5)).toArray(new Prefix[0]);
+
+            StringBuilder argsString = new StringBuilder();
+            int fragmentCount = random.nextInt(12);
+            for (int i = 0; i < fragmentCount; i++) {
+                argsString.append(fragments[random.nextInt(fragments.length)]);
+            }
+
+            ArgumentMultimap expected = ReferenceTokenizer.tokenize(argsString.toString(), prefixes);
+            ArgumentMultimap actual = new ArgumentTokenizer(prefixes).tokenize(argsString.toString());
+            String message = "Arguments: \"" + argsString + "\", prefixes: " + Arrays.toString(prefixes);
+            assertEquals(expected.getPreamble(), actual.getPreamble(), message);
+            for (Prefix prefix : allPrefixes) {
+                assertEquals(expected.getAllValues(prefix), actual.getAllValues(prefix), message);
+            }
+        }
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -147,4 +198,38 @@ public class ArgumentTokenizerTest {
         assertNotEquals(aaa, new Prefix("aab"));
     }
 
+    /**
+     * The previous implementation of {@code ArgumentTokenizer}, which searches the arguments string once per prefix
+     * and then sorts the positions found.
+     */
+    private static class ReferenceTokenizer {
+
+        static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
+            List<int[]> positions = new ArrayList<>();
+            for (int i = 0; i < prefixes.length; i++) {
+                int prefixPosition = findPrefixPosition(argsString, prefixes[i].getPrefix(), 0);
+                while (prefixPosition != -1) {
+                    positions.add(new int[] {i, prefixPosition});
+                    prefixPosition = findPrefixPosition(argsString, prefixes[i].getPrefix(), prefixPosition);
+                }
+            }
+            positions.sort((position1, position2) -> position1[1] - position2[1]);
+
+            ArgumentMultimap argMultimap = new ArgumentMultimap();
+            Prefix currentPrefix = new Prefix("");
+            int valueStartPos = 0;
+            for (int[] position : positions) {
+                argMultimap.put(currentPrefix, argsString.substring(valueStartPos, position[1]).trim());
+                currentPrefix = prefixes[position[0]];
+                valueStartPos = position[1] + currentPrefix.getPrefix().length();
+            }
+            argMultimap.put(currentPrefix, argsString.substring(valueStartPos).trim());
+            return argMultimap;
+        }
+
+        private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
+            int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
+            return prefixIndex == -1 ? -1 : prefixIndex + 1;
+        }
+    }
 }
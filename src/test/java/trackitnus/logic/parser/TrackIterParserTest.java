@@ -3,11 +3,19 @@ package trackitnus.logic.parser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 import org.junit.jupiter.api.Test;
 
 import trackitnus.commons.core.Messages;
 import trackitnus.logic.commands.ExitCommand;
 import trackitnus.logic.commands.HelpCommand;
+import trackitnus.logic.commands.RedoCommand;
+import trackitnus.logic.commands.UndoCommand;
 import trackitnus.logic.commands.contact.AddContactCommand;
 import trackitnus.logic.commands.contact.DeleteContactCommand;
 import trackitnus.logic.commands.contact.EditContactCommand;
@@ -94,6 +102,18 @@ public class TrackIterParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD + " 3") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         Assert.assertThrows(ParseException.class, String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
@@ -105,4 +125,76 @@ public class TrackIterParserTest {
         Assert.assertThrows(ParseException.class, Messages.MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand(
             "unknownCommand"));
     }
+
+    @Test
+    public void parseCommand_invalidType_throwsParseException() {
+        Assert.assertThrows(ParseException.class, Messages.MESSAGE_INVALID_TYPE, () -> parser.parseCommand(
+            "X " + AddTaskCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_multilineArguments_throwsParseException() {
+        Assert.assertThrows(ParseException.class, String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
+            HelpCommand.MESSAGE_USAGE), () -> parser.parseCommand(HelpCommand.COMMAND_WORD + " a\nb"));
+    }
+
+    @Test
+    public void parseCommand_customRegistry_usesRegisteredParsers() throws Exception {
+        TrackIterParser customParser = new TrackIterParser(new CommandParserRegistry()
+            .register("", ExitCommand.COMMAND_WORD, arguments -> new ExitCommand()));
+        assertTrue(customParser.parseCommand(ExitCommand.COMMAND_WORD) instanceof ExitCommand);
+        Assert.assertThrows(ParseException.class, Messages.MESSAGE_UNKNOWN_COMMAND, () -> customParser.parseCommand(
+            HelpCommand.COMMAND_WORD));
+        Assert.assertThrows(ParseException.class, Messages.MESSAGE_INVALID_TYPE, () -> customParser.parseCommand(
+            Task.TYPE + " " + AddTaskCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_randomInputs_splitsLikeRegex() {
+        Pattern format = Pattern.compile("(?<type>[A-Z]\\s+)?(?<commandWord>\\S+)(?<arguments>.*)");
+        String[] pieces = {"C", "T", "c", "a", "b", "ab", "/", " ", "  ", "\t", "\n", "\r", "\u000B", "\u0085",
+            "\u2028", "\u00A0", "\u0001"};
+        List<String> splits = new ArrayList<>();
+        CommandParserRegistry registry = new CommandParserRegistry();
+        for (String type : new String[] {"", "C", "T"}) {
+            for (String commandWord : new String[] {"a", "b", "ab", "C", "c", "/"}) {
+                registry.register(type, commandWord, arguments -> {
+                    splits.add(type + "|" + commandWord + "|" + arguments);
+                    return new HelpCommand();
+                });
+            }
+        }
+        TrackIterParser customParser = new TrackIterParser(registry);
+
+        Random random = new Random(2103);
+        for (int round = 0; round < 20_000; round++) {
+            StringBuilder input = new StringBuilder();
+            int length = random.nextInt(8);
+            for (int i = 0; i < length; i++) {
+                input.append(pieces[random.nextInt(pieces.length)]);
+            }
+
+            Matcher matcher = format.matcher(input.toString().trim());
+            String expected;
+            if (!matcher.matches()) {
+                expected = String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE);
+            } else {
+                String type = matcher.group("type") == null ? "" : matcher.group("type").trim();
+                String commandWord = matcher.group("commandWord");
+                expected = registry.getParser(type, commandWord).isPresent()
+                    ? type + "|" + commandWord + "|" + matcher.group("arguments")
+                    : registry.hasType(type) ? Messages.MESSAGE_UNKNOWN_COMMAND : Messages.MESSAGE_INVALID_TYPE;
+            }
+
+            splits.clear();
+            String actual;
+            try {
+                customParser.parseCommand(input.toString());
+                actual = splits.get(0);
+            } catch (ParseException e) {
+                actual = e.getMessage();
+            }
+            assertEquals(expected, actual, "Input: " + input);
+        }
+    }
 }
@@ -0,0 +1,199 @@
+package trackitnus.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import trackitnus.model.lesson.Lesson;
+import trackitnus.model.task.Task;
+import trackitnus.testutil.builder.LessonBuilder;
+import trackitnus.testutil.builder.TaskBuilder;
+
+public class AgendaModelTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2020, 11, 9);
+    private static final LocalDate TUESDAY = MONDAY.plusDays(1);
+    private static final LocalDate WEDNESDAY = MONDAY.plusDays(2);
+    private static final LocalDate NEXT_MONDAY = MONDAY.plusWeeks(1);
+    private static final int MANY_DAYS = 100;
+
+    private static final Task OVERDUE = task("Overdue", "01/11/2020");
+    private static final Task MONDAY_TASK = task("Lab 1", "09/11/2020");
+    private static final Task OTHER_MONDAY_TASK = task("Quiz", "09/11/2020");
+    private static final Task TUESDAY_TASK = task("Tutorial", "10/11/2020");
+    private static final Task LATER = task("Project", "20/11/2020");
+
+    private static final Lesson MONDAY_LESSON = lesson("CS2103T", "Mon 10:00-12:00");
+    private static final Lesson EARLY_MONDAY_LESSON = lesson("CS2101", "Mon 08:00-10:00");
+    private static final Lesson TUESDAY_LESSON = lesson("CS2100", "Tue 14:00-16:00");
+    private static final Lesson FRIDAY_LESSON = lesson("CS1231S", "Fri 09:00-11:00");
+
+    private TrackIter trackIter;
+    private AgendaModel agenda;
+
+    @BeforeEach
+    public void setUp() {
+        trackIter = new TrackIter();
+        trackIter.setTasks(Arrays.asList(LATER, MONDAY_TASK, OVERDUE, TUESDAY_TASK, OTHER_MONDAY_TASK));
+        trackIter.setLessons(Arrays.asList(TUESDAY_LESSON, MONDAY_LESSON, FRIDAY_LESSON, EARLY_MONDAY_LESSON));
+        agenda = new AgendaModel(trackIter.getTaskList(), trackIter.getLessonList());
+    }
+
+    @Test
+    public void getDay_itemsOfThatDayInOrder() {
+        AgendaModel.Day monday = agenda.getDay(MONDAY);
+        assertEquals(MONDAY, monday.getDate());
+        assertEquals(Arrays.asList(MONDAY_TASK, OTHER_MONDAY_TASK), monday.getTasks());
+        assertEquals(Arrays.asList(EARLY_MONDAY_LESSON, MONDAY_LESSON), monday.getLessons());
+        assertConsistent(monday);
+
+        AgendaModel.Day wednesday = agenda.getDay(WEDNESDAY);
+        assertTrue(wednesday.getTasks().isEmpty());
+        assertTrue(wednesday.getLessons().isEmpty());
+        assertEquals(4, wednesday.firstTaskIndexProperty().get());
+    }
+
+    @Test
+    public void getDay_sameDay_sameBucket() {
+        assertTrue(agenda.getDay(MONDAY) == agenda.getDay(LocalDate.of(2020, 11, 9)));
+        assertTrue(agenda.getDay(MONDAY).getLessons() == agenda.getDay(NEXT_MONDAY).getLessons());
+    }
+
+    @Test
+    public void getDays_daysOfTheRangeInOrder() {
+        List<AgendaModel.Day> days = agenda.getDays(MONDAY, WEDNESDAY);
+        assertEquals(2, days.size());
+        assertTrue(days.get(0) == agenda.getDay(MONDAY));
+        assertEquals(List.of(TUESDAY_TASK), days.get(1).getTasks());
+
+        LocalDate end = MONDAY.plusDays(MANY_DAYS);
+        days = agenda.getDays(MONDAY, end);
+        assertEquals(MANY_DAYS, days.size());
+        assertEquals(MONDAY, days.get(0).getDate());
+        assertEquals(end.minusDays(1), days.get(days.size() - 1).getDate());
+        assertTrue(agenda.getDays(WEDNESDAY, MONDAY).isEmpty());
+    }
+
+    @Test
+    public void addTask_manyDaysInUse_allUpdated() {
+        List<AgendaModel.Day> days = agenda.getDays(MONDAY, MONDAY.plusDays(MANY_DAYS));
+        Task newMondayTask = task("Assignment", "09/11/2020");
+        trackIter.addTask(newMondayTask);
+
+        assertEquals(Arrays.asList(newMondayTask, MONDAY_TASK, OTHER_MONDAY_TASK), days.get(0).getTasks());
+        assertEquals(6, days.get(days.size() - 1).firstTaskIndexProperty().get());
+    }
+
+    @Test
+    public void addTask_onlyItsDayNotified() {
+        AgendaModel.Day monday = agenda.getDay(MONDAY);
+        AgendaModel.Day tuesday = agenda.getDay(TUESDAY);
+        AgendaModel.Day wednesday = agenda.getDay(WEDNESDAY);
+        AtomicInteger mondayChanges = countChanges(monday.getTasks());
+        AtomicInteger tuesdayChanges = countChanges(tuesday.getTasks());
+        AtomicInteger mondayIndexChanges = new AtomicInteger();
+        monday.firstTaskIndexProperty().addListener(unused -> mondayIndexChanges.incrementAndGet());
+
+        Task newTuesdayTask = task("Assignment", "10/11/2020");
+        trackIter.addTask(newTuesdayTask);
+
+        assertEquals(0, mondayChanges.get());
+        assertEquals(0, mondayIndexChanges.get());
+        assertEquals(1, tuesdayChanges.get());
+        assertEquals(Arrays.asList(newTuesdayTask, TUESDAY_TASK), tuesday.getTasks());
+        assertEquals(5, wednesday.firstTaskIndexProperty().get());
+        assertConsistent(monday);
+        assertConsistent(tuesday);
+    }
+
+    @Test
+    public void setTask_toAnotherDay_movesTask() {
+        AgendaModel.Day monday = agenda.getDay(MONDAY);
+        AgendaModel.Day tuesday = agenda.getDay(TUESDAY);
+        Task movedTask = task("Lab 1", "10/11/2020");
+
+        trackIter.setTask(MONDAY_TASK, movedTask);
+
+        assertEquals(List.of(OTHER_MONDAY_TASK), monday.getTasks());
+        assertEquals(Arrays.asList(movedTask, TUESDAY_TASK), tuesday.getTasks());
+        assertConsistent(monday);
+        assertConsistent(tuesday);
+
+        trackIter.removeTask(movedTask);
+        assertEquals(List.of(TUESDAY_TASK), tuesday.getTasks());
+        assertConsistent(tuesday);
+    }
+
+    @Test
+    public void setTasks_refillsBuckets() {
+        AgendaModel.Day monday = agenda.getDay(MONDAY);
+        trackIter.setTasks(Arrays.asList(OTHER_MONDAY_TASK, TUESDAY_TASK));
+        assertEquals(List.of(OTHER_MONDAY_TASK), monday.getTasks());
+        assertEquals(0, monday.firstTaskIndexProperty().get());
+    }
+
+    @Test
+    public void addLesson_onlyItsDayOfTheWeekNotified() {
+        AgendaModel.Day monday = agenda.getDay(MONDAY);
+        AgendaModel.Day tuesday = agenda.getDay(TUESDAY);
+        AgendaModel.Day wednesday = agenda.getDay(WEDNESDAY);
+        AtomicInteger mondayChanges = countChanges(monday.getLessons());
+        AtomicInteger tuesdayChanges = countChanges(tuesday.getLessons());
+
+        Lesson wednesdayLesson = lesson("MA1521", "Wed 12:00-14:00");
+        trackIter.addLesson(wednesdayLesson);
+
+        assertEquals(0, mondayChanges.get());
+        assertEquals(0, tuesdayChanges.get());
+        assertEquals(List.of(wednesdayLesson), wednesday.getLessons());
+        assertConsistent(monday);
+        assertConsistent(tuesday);
+        assertConsistent(wednesday);
+
+        trackIter.removeLesson(MONDAY_LESSON);
+        assertEquals(1, mondayChanges.get());
+        assertEquals(List.of(EARLY_MONDAY_LESSON), monday.getLessons());
+        assertConsistent(wednesday);
+        assertConsistent(agenda.getDay(LocalDate.of(2020, 11, 13)));
+    }
+
+    /**
+     * Asserts that the items of {@code day} are found in the task and lesson lists at the positions the day gives.
+     */
+    private void assertConsistent(AgendaModel.Day day) {
+        ObservableList<Task> tasks = trackIter.getTaskList();
+        int firstTaskIndex = day.firstTaskIndexProperty().get();
+        for (int i = 0; i < day.getTasks().size(); i++) {
+            assertEquals(day.getTasks().get(i), tasks.get(firstTaskIndex + i));
+        }
+        ObservableList<Lesson> lessons = trackIter.getLessonList();
+        int firstLessonIndex = day.firstLessonIndexProperty().get();
+        for (int i = 0; i < day.getLessons().size(); i++) {
+            assertEquals(day.getLessons().get(i), lessons.get(firstLessonIndex + i));
+        }
+    }
+
+    private static <T> AtomicInteger countChanges(ObservableList<T> list) {
+        AtomicInteger changes = new AtomicInteger();
+        list.addListener((ListChangeListener<T>) change -> changes.incrementAndGet());
+        return changes;
+    }
+
+    private static Task task(String name, String date) {
+        return new TaskBuilder().withName(name).withDate(date).withCode(Optional.empty()).build();
+    }
+
+    private static Lesson lesson(String code, String time) {
+        return new LessonBuilder().withCode(code).withTime(time).build();
+    }
+}
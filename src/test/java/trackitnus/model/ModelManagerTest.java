@@ -3,6 +3,7 @@ package trackitnus.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static trackitnus.model.Model.PREDICATE_SHOW_ALL_CONTACTS;
 import static trackitnus.testutil.Assert.assertThrows;
@@ -12,14 +13,18 @@ import static trackitnus.testutil.typical.TypicalContacts.BENSON;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ObservableList;
 import trackitnus.commons.core.GuiSettings;
 import trackitnus.commons.core.index.Index;
 import trackitnus.logic.commands.exceptions.CommandException;
+import trackitnus.model.commons.Code;
 import trackitnus.model.contact.NameContainsKeywordsPredicate;
+import trackitnus.model.task.Task;
 import trackitnus.testutil.builder.TrackIterBuilder;
 import trackitnus.testutil.typical.TypicalTask;
 
@@ -135,6 +140,54 @@ public class ModelManagerTest {
         }
     }
 
+    @Test
+    public void getModuleTasks_otherModuleShownLater_keepsOwnTasks() {
+        Task cs2100Tutorial = TypicalTask.getConst().get(2);
+        Task cs2100Webcast = TypicalTask.getConst().get(3);
+        Task cs1101sMission = TypicalTask.getConst().get(4);
+        modelManager.addTask(cs2100Tutorial);
+        modelManager.addTask(cs1101sMission);
+        ObservableList<Task> cs2100Tasks = modelManager.getModuleTasks(new Code("CS2100"));
+        ObservableList<Task> cs1101sTasks = modelManager.getModuleTasks(new Code("CS1101S"));
+
+        assertEquals(Collections.singletonList(cs2100Tutorial), cs2100Tasks);
+        assertEquals(Collections.singletonList(cs1101sMission), cs1101sTasks);
+        assertEquals(cs1101sTasks, modelManager.getFilteredTaskList());
+
+        // showing a module again reuses its view, which has been kept up to date
+        modelManager.addTask(cs2100Webcast);
+        assertSame(cs2100Tasks, modelManager.getModuleTasks(new Code("CS2100")));
+        assertEquals(Arrays.asList(cs2100Webcast, cs2100Tutorial), cs2100Tasks);
+    }
+
+    @Test
+    public void getAgenda_keepsFilteredTaskList() {
+        Task cs2100Tutorial = TypicalTask.getConst().get(2);
+        Task cs1101sMission = TypicalTask.getConst().get(4);
+        modelManager.addTask(cs2100Tutorial);
+        modelManager.addTask(cs1101sMission);
+        ObservableList<Task> cs2100Tasks = modelManager.getModuleTasks(new Code("CS2100"));
+
+        modelManager.getAgenda();
+        assertSame(cs2100Tasks, modelManager.getFilteredTaskList());
+
+        modelManager.showAgenda();
+        assertEquals(modelManager.getTrackIter().getTaskList(), modelManager.getFilteredTaskList());
+    }
+
+    @Test
+    public void loadTrackIter_replacesDataAndClearsHistory() {
+        modelManager.addContact(ALICE);
+        modelManager.commitTrackIter();
+        assertTrue(modelManager.canUndoTrackIter());
+
+        TrackIter loaded = new TrackIterBuilder().withContact(BENSON).build();
+        modelManager.loadTrackIter(loaded);
+        assertEquals(loaded, modelManager.getTrackIter());
+        assertFalse(modelManager.canUndoTrackIter());
+        assertFalse(modelManager.canRedoTrackIter());
+    }
+
     @Test
     public void equals() {
         TrackIter trackIter = new TrackIterBuilder().withContact(ALICE).withContact(BENSON).build();
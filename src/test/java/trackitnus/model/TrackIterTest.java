@@ -2,9 +2,11 @@ package trackitnus.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static trackitnus.testutil.typical.TypicalTrackIter.getTypicalTrackIter;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -13,15 +15,21 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import trackitnus.logic.commands.contact.ContactCommandTestUtil;
+import trackitnus.model.commons.Code;
 import trackitnus.model.contact.Contact;
+import trackitnus.model.contact.ContactHasTagPredicate;
 import trackitnus.model.contact.exceptions.DuplicateContactException;
 import trackitnus.model.lesson.Lesson;
+import trackitnus.model.lesson.LessonHasCodePredicate;
 import trackitnus.model.module.Module;
+import trackitnus.model.tag.Tag;
 import trackitnus.model.task.Task;
 import trackitnus.testutil.Assert;
 import trackitnus.testutil.builder.ContactBuilder;
+import trackitnus.testutil.builder.TaskBuilder;
 import trackitnus.testutil.typical.TypicalContacts;
 
 public class TrackIterTest {
@@ -87,6 +95,128 @@ public class TrackIterTest {
         Assert.assertThrows(UnsupportedOperationException.class, () -> trackIter.getContactList().remove(0));
     }
 
+    @Test
+    public void getVersion_changesOnModificationOnly() {
+        long version = trackIter.getVersion();
+        trackIter.hasContact(TypicalContacts.ALICE);
+        trackIter.getContactList();
+        assertEquals(version, trackIter.getVersion());
+
+        trackIter.addContact(TypicalContacts.ALICE);
+        assertNotEquals(version, trackIter.getVersion());
+
+        version = trackIter.getVersion();
+        Assert.assertThrows(DuplicateContactException.class, () -> trackIter.addContact(TypicalContacts.ALICE));
+        assertEquals(version, trackIter.getVersion());
+
+        trackIter.removeContact(TypicalContacts.ALICE);
+        assertNotEquals(version, trackIter.getVersion());
+    }
+
+    @Test
+    public void batch_manyModifications_oneChangePerList() {
+        List<ListChangeListener.Change<? extends Contact>> changes = new ArrayList<>();
+        trackIter.getContactList().addListener((ListChangeListener<Contact>) changes::add);
+        ObservableList<Task> tasksOnDate = trackIter.getTasksBefore(new TaskBuilder().build().getDate().plusDays(1));
+        List<ListChangeListener.Change<? extends Task>> taskChanges = new ArrayList<>();
+        tasksOnDate.addListener((ListChangeListener<Task>) taskChanges::add);
+
+        trackIter.batch(mutable -> {
+            mutable.addContact(TypicalContacts.ALICE);
+            mutable.addContact(TypicalContacts.BENSON);
+            mutable.removeContact(TypicalContacts.ALICE);
+            mutable.addTask(new TaskBuilder().build());
+            assertEquals(0, changes.size());
+        });
+
+        assertEquals(1, changes.size());
+        assertEquals(1, taskChanges.size());
+        assertEquals(Collections.singletonList(TypicalContacts.BENSON), trackIter.getContactList());
+    }
+
+    @Test
+    public void batch_modificationFails_rolledBack() {
+        trackIter.addContact(TypicalContacts.ALICE);
+        TrackIter expected = new TrackIter(trackIter);
+        long version = trackIter.getVersion();
+
+        Assert.assertThrows(DuplicateContactException.class, () -> trackIter.batch(mutable -> {
+            mutable.removeContact(TypicalContacts.ALICE);
+            mutable.addTask(new TaskBuilder().build());
+            mutable.addContact(TypicalContacts.BENSON);
+            mutable.addContact(TypicalContacts.BENSON);
+        }));
+
+        assertEquals(expected, trackIter);
+        assertEquals(version, trackIter.getVersion());
+        assertEquals(Collections.emptyList(), trackIter.getModuleTasks(new Code(TaskBuilder.DEFAULT_CODE)));
+    }
+
+    @Test
+    public void getState_afterModifications_matchesLists() {
+        trackIter.resetData(getTypicalTrackIter());
+        TrackIterState typicalState = trackIter.getState();
+
+        trackIter.batch(mutable -> {
+            mutable.removeContact(TypicalContacts.ALICE);
+            mutable.addContact(TypicalContacts.AMY);
+            mutable.addTask(new TaskBuilder().build());
+        });
+        trackIter.removeTask(trackIter.getTaskList().get(0));
+        TrackIterState state = trackIter.getState();
+
+        assertEquals(trackIter.getContactList(), state.getContacts().toList());
+        assertEquals(trackIter.getModuleList(), state.getModules().toList());
+        assertEquals(trackIter.getTaskList(), state.getTasks().toList());
+        assertEquals(trackIter.getLessonList(), state.getLessons().toList());
+        assertEquals(trackIter.getVersion(), state.getVersion());
+        assertNotEquals(typicalState, state);
+    }
+
+    @Test
+    public void restore_earlierState_restoresData() {
+        trackIter.resetData(getTypicalTrackIter());
+        TrackIterState typicalState = trackIter.getState();
+        TrackIter expected = new TrackIter(trackIter);
+        long version = trackIter.getVersion();
+
+        trackIter.removeContact(TypicalContacts.ALICE);
+        trackIter.removeTask(trackIter.getTaskList().get(0));
+        trackIter.restore(typicalState);
+
+        assertEquals(expected, trackIter);
+        assertEquals(typicalState, trackIter.getState());
+        assertTrue(trackIter.getVersion() > version);
+    }
+
+    @Test
+    public void getModuleTasks_afterAddSetRemove_tracksModuleOfTask() {
+        Code cs2103t = new Code(TaskBuilder.DEFAULT_CODE);
+        Code cs2100 = new Code("CS2100");
+        Task task = new TaskBuilder().build();
+        trackIter.addTask(task);
+        assertEquals(Collections.singletonList(task), trackIter.getModuleTasks(cs2103t));
+
+        Task movedTask = task.setCode(cs2100);
+        trackIter.setTask(task, movedTask);
+        assertEquals(Collections.emptyList(), trackIter.getModuleTasks(cs2103t));
+        assertEquals(Collections.singletonList(movedTask), trackIter.getModuleTasks(cs2100));
+
+        trackIter.removeTask(movedTask);
+        assertEquals(Collections.emptyList(), trackIter.getModuleTasks(cs2100));
+    }
+
+    @Test
+    public void getModuleLessonsAndContacts_afterResetData_matchesNewData() {
+        TrackIter newData = getTypicalTrackIter();
+        trackIter.resetData(newData);
+        Code code = new Code("CS2100");
+        assertEquals(newData.getLessonList().filtered(new LessonHasCodePredicate(code)),
+            trackIter.getModuleLessons(code));
+        assertEquals(newData.getContactList().filtered(new ContactHasTagPredicate(new Tag(code.code))),
+            trackIter.getModuleContacts(code));
+    }
+
     /**
      * A stub ReadOnlyTrackIter whose contacts list can violate interface constraints.
      */
@@ -119,6 +249,11 @@ public class TrackIterTest {
         public ObservableList<Lesson> getLessonList() {
             return lessons;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 }
@@ -0,0 +1,50 @@
+package trackitnus.model.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import trackitnus.testutil.Assert;
+import trackitnus.testutil.builder.LessonBuilder;
+
+public class LessonComparatorTest {
+
+    private static final Lesson MON_MORNING = new LessonBuilder().withTime("Mon 8:00-10:00").build();
+    private static final Lesson MON_NOON = new LessonBuilder().withTime("Mon 12:00-14:00").build();
+    private static final Lesson WED_MORNING = new LessonBuilder().withTime("Wed 8:00-10:00").build();
+    private static final Lesson SAT_EVENING = new LessonBuilder().withTime("Sat 18:00-20:00").build();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> new LessonComparator(null));
+    }
+
+    @Test
+    public void compare_rotatesWeekFromAnchor() {
+        List<Lesson> lessons = new ArrayList<>(Arrays.asList(SAT_EVENING, WED_MORNING, MON_NOON, MON_MORNING));
+
+        lessons.sort(new LessonComparator(DayOfWeek.Mon));
+        assertEquals(Arrays.asList(MON_MORNING, MON_NOON, WED_MORNING, SAT_EVENING), lessons);
+
+        lessons.sort(new LessonComparator(DayOfWeek.Tue));
+        assertEquals(Arrays.asList(WED_MORNING, SAT_EVENING, MON_MORNING, MON_NOON), lessons);
+    }
+
+    @Test
+    public void compare_sameStartTime_orderedByRemainingFields() {
+        Lesson cs1101s = new LessonBuilder(MON_MORNING).withCode("CS1101S").build();
+        Lesson tutorial = new LessonBuilder(MON_MORNING).withType("tut").build();
+        Lesson longer = new LessonBuilder().withTime("Mon 8:00-11:00").build();
+        LessonComparator comparator = new LessonComparator(DayOfWeek.Mon);
+
+        assertTrue(comparator.compare(cs1101s, MON_MORNING) < 0);
+        assertTrue(comparator.compare(MON_MORNING, tutorial) < 0);
+        assertTrue(comparator.compare(MON_MORNING, longer) < 0);
+        assertEquals(0, comparator.compare(MON_MORNING, new LessonBuilder(MON_MORNING).build()));
+    }
+}
@@ -0,0 +1,40 @@
+package trackitnus.model.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import trackitnus.model.lesson.exceptions.DuplicateLessonException;
+import trackitnus.testutil.Assert;
+import trackitnus.testutil.builder.LessonBuilder;
+
+public class UniqueLessonListTest {
+
+    private static final Lesson LESSON = lesson();
+
+    private final UniqueLessonList uniqueLessonList = new UniqueLessonList();
+
+    @Test
+    public void addAndRemove_equalLessonOfAnotherInstance_treatedAsSameLesson() {
+        Lesson copy = lesson();
+        assertNotSame(LESSON.getTime(), copy.getTime());
+        assertEquals(LESSON, copy);
+        assertEquals(LESSON.hashCode(), copy.hashCode());
+
+        uniqueLessonList.add(LESSON);
+        assertTrue(uniqueLessonList.contains(copy));
+        Assert.assertThrows(DuplicateLessonException.class, () -> uniqueLessonList.add(copy));
+        assertEquals(1, uniqueLessonList.asUnmodifiableObservableList().size());
+
+        uniqueLessonList.remove(copy);
+        assertTrue(uniqueLessonList.asUnmodifiableObservableList().isEmpty());
+        assertFalse(uniqueLessonList.contains(LESSON));
+    }
+
+    private static Lesson lesson() {
+        return new LessonBuilder().withCode("CS2103T").withTime("Mon 10:00-12:00").build();
+    }
+}
@@ -0,0 +1,91 @@
+package trackitnus.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ObservableList;
+import trackitnus.model.commons.Name;
+import trackitnus.testutil.Assert;
+
+public class TaskDateIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2020, 11, 9);
+    private static final int MANY_VIEWS = 100;
+
+    private static final Task YESTERDAY_TASK = new Task(new Name("Yesterday"), TODAY.minusDays(1), null, "");
+    private static final Task TODAY_TASK_A = new Task(new Name("A today"), TODAY, null, "");
+    private static final Task TODAY_TASK_B = new Task(new Name("B today"), TODAY, null, "");
+    private static final Task TOMORROW_TASK = new Task(new Name("Tomorrow"), TODAY.plusDays(1), null, "");
+
+    private final TaskDateIndex index = new TaskDateIndex();
+
+    @Test
+    public void getTasks_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> index.getTasksBefore(null));
+        Assert.assertThrows(NullPointerException.class, () -> index.getTasksOn(null));
+        Assert.assertThrows(NullPointerException.class, () -> index.getTasksAfter(null));
+    }
+
+    @Test
+    public void getTasks_rangeQueries_returnsTasksInOrder() {
+        index.setAll(Arrays.asList(TOMORROW_TASK, TODAY_TASK_B, YESTERDAY_TASK, TODAY_TASK_A));
+        assertEquals(Collections.singletonList(YESTERDAY_TASK), index.getTasksBefore(TODAY));
+        assertEquals(Arrays.asList(TODAY_TASK_A, TODAY_TASK_B), index.getTasksOn(TODAY));
+        assertEquals(Collections.singletonList(TOMORROW_TASK), index.getTasksAfter(TODAY));
+    }
+
+    @Test
+    public void getTasks_sameRange_returnsSameView() {
+        assertSame(index.getTasksOn(TODAY), index.getTasksOn(TODAY));
+    }
+
+    @Test
+    public void addAndRemove_liveViews_updatedIncrementally() {
+        ObservableList<Task> today = index.getTasksOn(TODAY);
+        ObservableList<Task> after = index.getTasksAfter(TODAY.minusDays(1));
+
+        index.add(TODAY_TASK_B);
+        index.add(TOMORROW_TASK);
+        index.add(TODAY_TASK_A);
+        assertEquals(Arrays.asList(TODAY_TASK_A, TODAY_TASK_B), today);
+        assertEquals(Arrays.asList(TODAY_TASK_A, TODAY_TASK_B, TOMORROW_TASK), after);
+
+        index.remove(TODAY_TASK_A);
+        assertEquals(Collections.singletonList(TODAY_TASK_B), today);
+        assertEquals(Arrays.asList(TODAY_TASK_B, TOMORROW_TASK), after);
+    }
+
+    @Test
+    public void add_manyLiveViews_allUpdated() {
+        List<ObservableList<Task>> views = new ArrayList<>();
+        for (int i = 0; i < MANY_VIEWS; i++) {
+            views.add(index.getTasksBefore(TODAY.plusDays(i)));
+        }
+        index.add(YESTERDAY_TASK);
+        for (ObservableList<Task> view : views) {
+            assertEquals(Collections.singletonList(YESTERDAY_TASK), view);
+        }
+    }
+
+    @Test
+    public void setAll_liveViews_refreshed() {
+        ObservableList<Task> before = index.getTasksBefore(TODAY);
+        index.add(YESTERDAY_TASK);
+        index.setAll(Collections.singletonList(TODAY_TASK_A));
+        assertEquals(Collections.emptyList(), before);
+    }
+
+    @Test
+    public void getTasks_modifyView_throwsUnsupportedOperationException() {
+        index.add(TODAY_TASK_A);
+        Assert.assertThrows(UnsupportedOperationException.class, () -> index.getTasksOn(TODAY).remove(0));
+    }
+}
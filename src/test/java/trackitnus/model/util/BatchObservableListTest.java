@@ -0,0 +1,57 @@
+package trackitnus.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.transformation.FilteredList;
+
+public class BatchObservableListTest {
+
+    private final BatchObservableList<String> list = new BatchObservableList<>();
+    private final List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+
+    @Test
+    public void endBatch_modificationsInBatch_reportedOnce() {
+        list.addAll("a", "b", "c");
+        FilteredList<String> view = new FilteredList<>(list, s -> !s.equals("b"));
+        list.addListener((ListChangeListener<String>) changes::add);
+
+        list.beginBatch();
+        list.add("d");
+        list.remove("a");
+        list.beginBatch();
+        list.set(0, "e");
+        list.endBatch();
+        assertTrue(changes.isEmpty());
+        list.endBatch();
+
+        assertEquals(1, changes.size());
+        assertEquals(Arrays.asList("e", "c", "d"), list);
+        assertEquals(Arrays.asList("e", "c", "d"), view);
+    }
+
+    @Test
+    public void sort_unsorted_reportedAsPermutation() {
+        list.addAll("c", "a", "b");
+        list.addListener((ListChangeListener<String>) change -> {
+            assertTrue(change.next());
+            assertTrue(change.wasPermutated());
+            assertEquals(2, change.getPermutation(0));
+            assertEquals(0, change.getPermutation(1));
+            changes.add(change);
+        });
+
+        list.sort(Comparator.naturalOrder());
+
+        assertEquals(1, changes.size());
+        assertEquals(Arrays.asList("a", "b", "c"), list);
+    }
+}
@@ -0,0 +1,72 @@
+package trackitnus.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackitnus.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import trackitnus.model.TrackIter;
+import trackitnus.model.task.Task;
+
+public class DatasetGeneratorTest {
+
+    private static final LocalDate SEMESTER_START = LocalDate.of(2020, 8, 10);
+
+    @Test
+    public void generate_configuredCounts_generatesThatManyEntities() {
+        TrackIter trackIter = generator(1).generate();
+        assertEquals(40, trackIter.getModuleList().size());
+        assertEquals(300, trackIter.getLessonList().size());
+        assertEquals(5000, trackIter.getTaskList().size());
+        assertEquals(1000, trackIter.getContactList().size());
+    }
+
+    @Test
+    public void generate_sameSeed_sameData() {
+        assertEquals(generator(1).generate(), generator(1).generate());
+        assertNotEquals(generator(1).generate(), generator(2).generate());
+    }
+
+    @Test
+    public void generate_defaultSemesterStart_independentOfCurrentDate() {
+        assertEquals(new DatasetGenerator(1).withSemesterStart(DatasetGenerator.DEFAULT_SEMESTER_START).generate(),
+            new DatasetGenerator(1).generate());
+    }
+
+    @Test
+    public void generate_tasksOfGeneratedModulesDueInSemester() {
+        TrackIter trackIter = generator(1).generate();
+        LocalDate semesterEnd = SEMESTER_START.plusDays(DatasetGenerator.SEMESTER_DAYS);
+        for (Task task : trackIter.getTaskList()) {
+            assertTrue(!task.getDate().isBefore(SEMESTER_START) && task.getDate().isBefore(semesterEnd));
+            task.getCode().ifPresent(code -> assertTrue(trackIter.getModuleList().stream()
+                .anyMatch(module -> module.getCode().equals(code))));
+        }
+    }
+
+    @Test
+    public void generate_lessonsWithoutModules_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new DatasetGenerator(1).withModules(0).generate());
+    }
+
+    @Test
+    public void withCounts_negative_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new DatasetGenerator(1).withModules(-1));
+        assertThrows(IllegalArgumentException.class, () -> new DatasetGenerator(1).withLessonsPerWeek(-1));
+        assertThrows(IllegalArgumentException.class, () -> new DatasetGenerator(1).withTasks(-1));
+        assertThrows(IllegalArgumentException.class, () -> new DatasetGenerator(1).withContacts(-1));
+    }
+
+    private static DatasetGenerator generator(long seed) {
+        return new DatasetGenerator(seed)
+            .withModules(40)
+            .withLessonsPerWeek(300)
+            .withTasks(5000)
+            .withContacts(1000)
+            .withSemesterStart(SEMESTER_START);
+    }
+}
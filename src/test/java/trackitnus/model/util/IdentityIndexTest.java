@@ -0,0 +1,87 @@
+package trackitnus.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackitnus.testutil.typical.TypicalContacts.ALICE;
+import static trackitnus.testutil.typical.TypicalContacts.BOB;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import trackitnus.logic.commands.contact.ContactCommandTestUtil;
+import trackitnus.model.commons.Name;
+import trackitnus.model.contact.Contact;
+import trackitnus.testutil.Assert;
+import trackitnus.testutil.builder.ContactBuilder;
+
+public class IdentityIndexTest {
+
+    private final IdentityIndex<Contact, Name> index = new IdentityIndex<>(Contact::getName, Contact::isSameContact);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> new IdentityIndex<Contact, Name>(null,
+            Contact::isSameContact));
+        Assert.assertThrows(NullPointerException.class, () -> new IdentityIndex<Contact, Name>(Contact::getName,
+            null));
+    }
+
+    @Test
+    public void contains_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> index.contains(null));
+    }
+
+    @Test
+    public void contains_emptyIndex_returnsFalse() {
+        assertFalse(index.contains(ALICE));
+    }
+
+    @Test
+    public void contains_sameIdentityDifferentFields_returnsTrue() {
+        index.add(ALICE);
+        Contact editedAlice = new ContactBuilder(ALICE).withTags(ContactCommandTestUtil.VALID_TAG_HUSBAND).build();
+        assertTrue(index.contains(editedAlice));
+    }
+
+    @Test
+    public void contains_sameKeyDifferentIdentity_returnsFalse() {
+        index.add(ALICE);
+        Contact otherAlice = new ContactBuilder(BOB).withName(ALICE.getName().value).build();
+        assertFalse(index.contains(otherAlice));
+    }
+
+    @Test
+    public void remove_existingElement_removesElement() {
+        index.add(ALICE);
+        index.add(BOB);
+        assertTrue(index.remove(ALICE));
+        assertFalse(index.contains(ALICE));
+        assertTrue(index.contains(BOB));
+    }
+
+    @Test
+    public void remove_sameIdentityButNotEqual_returnsFalse() {
+        index.add(ALICE);
+        Contact editedAlice = new ContactBuilder(ALICE).withTags(ContactCommandTestUtil.VALID_TAG_HUSBAND).build();
+        assertFalse(index.remove(editedAlice));
+        assertTrue(index.contains(ALICE));
+    }
+
+    @Test
+    public void setAll_replacesContents() {
+        index.add(ALICE);
+        index.setAll(Collections.singletonList(BOB));
+        assertFalse(index.contains(ALICE));
+        assertTrue(index.contains(BOB));
+    }
+
+    @Test
+    public void areUnique() {
+        Contact editedAlice = new ContactBuilder(ALICE).withTags(ContactCommandTestUtil.VALID_TAG_HUSBAND).build();
+        assertTrue(index.areUnique(Arrays.asList(ALICE, BOB)));
+        assertFalse(index.areUnique(Arrays.asList(ALICE, BOB, editedAlice)));
+        assertTrue(index.areUnique(Collections.emptyList()));
+    }
+}
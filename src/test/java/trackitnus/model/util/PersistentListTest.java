@@ -0,0 +1,157 @@
+package trackitnus.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import trackitnus.testutil.Assert;
+
+public class PersistentListTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> PersistentList.of(null));
+    }
+
+    @Test
+    public void of_elements_keepsOrder() {
+        assertTrue(PersistentList.of(Collections.emptyList()).isEmpty());
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b", "c", "d"));
+        assertEquals(4, list.size());
+        assertEquals("c", list.get(2));
+        assertEquals(Arrays.asList("a", "b", "c", "d"), list.toList());
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b"));
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> list.insert(3, "c"));
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> PersistentList.empty().remove(0));
+    }
+
+    @Test
+    public void modifications_originalUnchanged() {
+        PersistentList<String> original = PersistentList.of(Arrays.asList("a", "b", "c"));
+        PersistentList<String> modified = original.insert(1, "x").set(0, "y").remove(3);
+
+        assertEquals(Arrays.asList("a", "b", "c"), original.toList());
+        assertEquals(Arrays.asList("y", "x", "b"), modified.toList());
+    }
+
+    @Test
+    public void equals() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b"));
+
+        assertTrue(list.equals(PersistentList.<String>empty().insert(0, "b").insert(0, "a")));
+        assertEquals(list.hashCode(), PersistentList.of(Arrays.asList("a", "b")).hashCode());
+        assertTrue(!list.equals(list.remove(0)));
+        assertTrue(!list.equals(null));
+    }
+
+    @Test
+    public void modifications_randomOperations_matchArrayList() {
+        Random random = new Random(0);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        for (int step = 0; step < 5000; step++) {
+            int operation = random.nextInt(3);
+            if (operation == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, step);
+                actual = actual.insert(index, step);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, step);
+                actual = actual.set(index, step);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.remove(index);
+            }
+            if (step % 100 == 0) {
+                assertEquals(expected, actual.toList());
+            }
+        }
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    @Test
+    public void subList_ranges_matchArrayList() {
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            expected.add(i);
+        }
+        PersistentList<Integer> list = PersistentList.of(expected);
+        for (int from = 0; from <= expected.size(); from++) {
+            for (int to = from; to <= expected.size(); to++) {
+                assertEquals(expected.subList(from, to), list.subList(from, to));
+            }
+        }
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> list.subList(-1, 2));
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> list.subList(3, 2));
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> list.subList(0, 21));
+    }
+
+    @Test
+    public void commonLength_unrelatedLists_comparesElements() {
+        PersistentList<String> first = PersistentList.of(Arrays.asList("a", "b", "c", "d"));
+        PersistentList<String> second = PersistentList.of(Arrays.asList("a", "b", "x", "c", "d"));
+
+        assertEquals(2, PersistentList.commonPrefixLength(first, second));
+        assertEquals(2, PersistentList.commonSuffixLength(first, second, 2));
+        assertEquals(1, PersistentList.commonSuffixLength(first, second, 1));
+        assertEquals(4, PersistentList.commonPrefixLength(first, first));
+        assertEquals(0, PersistentList.commonPrefixLength(first, PersistentList.empty()));
+    }
+
+    @Test
+    public void commonLength_derivedLists_matchElementComparison() {
+        Random random = new Random(0);
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            elements.add(i);
+        }
+        PersistentList<Integer> original = PersistentList.of(elements);
+        for (int trial = 0; trial < 200; trial++) {
+            PersistentList<Integer> modified = original;
+            int modifications = random.nextInt(4);
+            for (int i = 0; i < modifications; i++) {
+                int operation = random.nextInt(3);
+                if (operation == 0 || modified.isEmpty()) {
+                    modified = modified.insert(random.nextInt(modified.size() + 1), -1);
+                } else if (operation == 1) {
+                    modified = modified.set(random.nextInt(modified.size()), -1);
+                } else {
+                    modified = modified.remove(random.nextInt(modified.size()));
+                }
+            }
+
+            List<Integer> expected = original.toList();
+            List<Integer> actual = modified.toList();
+            int minSize = Math.min(expected.size(), actual.size());
+            int prefix = 0;
+            while (prefix < minSize && expected.get(prefix).equals(actual.get(prefix))) {
+                prefix++;
+            }
+            int suffix = 0;
+            while (suffix < minSize - prefix && expected.get(expected.size() - 1 - suffix)
+                .equals(actual.get(actual.size() - 1 - suffix))) {
+                suffix++;
+            }
+            assertEquals(prefix, PersistentList.commonPrefixLength(original, modified));
+            assertEquals(suffix, PersistentList.commonSuffixLength(original, modified, minSize - prefix));
+        }
+    }
+}
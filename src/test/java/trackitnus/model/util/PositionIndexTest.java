@@ -0,0 +1,90 @@
+package trackitnus.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import trackitnus.testutil.Assert;
+
+public class PositionIndexTest {
+
+    private final ObservableList<String> list = FXCollections.observableArrayList("a", "b", "c");
+    private final PositionIndex<String, String> index = new PositionIndex<>(list, Function.identity());
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> new PositionIndex<String, String>(null,
+            Function.identity()));
+        Assert.assertThrows(NullPointerException.class, () -> new PositionIndex<String, String>(list, null));
+    }
+
+    @Test
+    public void indexOf_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> index.indexOf(null));
+    }
+
+    @Test
+    public void indexOf_afterChanges_matchesListIndexOf() {
+        assertEquals(OptionalInt.of(1), index.indexOf("b"));
+
+        list.add(0, "z");
+        list.remove("c");
+        assertEquals(OptionalInt.of(2), index.indexOf("b"));
+        assertEquals(OptionalInt.empty(), index.indexOf("c"));
+
+        list.set(0, "c");
+        FXCollections.sort(list, Collections.reverseOrder());
+        assertEquals(Arrays.asList("c", "b", "a"), list);
+        assertEquals(OptionalInt.of(0), index.indexOf("c"));
+        assertEquals(OptionalInt.empty(), index.indexOf("z"));
+    }
+
+    @Test
+    public void indexOf_filteredList_followsPredicate() {
+        FilteredList<String> filtered = new FilteredList<>(list);
+        PositionIndex<String, String> filteredIndex = new PositionIndex<>(filtered, Function.identity());
+        assertEquals(OptionalInt.of(2), filteredIndex.indexOf("c"));
+
+        filtered.setPredicate(s -> !s.equals("a"));
+        assertEquals(OptionalInt.of(1), filteredIndex.indexOf("c"));
+        assertEquals(OptionalInt.empty(), filteredIndex.indexOf("a"));
+    }
+
+    @Test
+    public void get_keyOfElement_returnsElement() {
+        ObservableList<String> words = FXCollections.observableArrayList("apple", "banana");
+        PositionIndex<String, Character> byFirstLetter = new PositionIndex<>(words, word -> word.charAt(0));
+        assertEquals(Optional.of("banana"), byFirstLetter.get('b'));
+        assertEquals(Optional.empty(), byFirstLetter.get('c'));
+    }
+
+    @Test
+    public void indexOf_randomChanges_matchesListIndexOf() {
+        Random random = new Random(0);
+        for (int step = 0; step < 1000; step++) {
+            String item = String.valueOf(random.nextInt(50));
+            if (list.contains(item)) {
+                list.remove(item);
+            } else {
+                list.add(random.nextInt(list.size() + 1), item);
+            }
+            if (step % 7 == 0) {
+                for (int i = 0; i < 50; i++) {
+                    String key = String.valueOf(i);
+                    int expected = list.indexOf(key);
+                    assertEquals(expected == -1 ? OptionalInt.empty() : OptionalInt.of(expected), index.indexOf(key));
+                }
+            }
+        }
+    }
+}
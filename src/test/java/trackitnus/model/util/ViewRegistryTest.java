@@ -0,0 +1,66 @@
+package trackitnus.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Arrays;
+import java.util.OptionalInt;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import trackitnus.model.util.ViewRegistry.View;
+import trackitnus.testutil.Assert;
+
+public class ViewRegistryTest {
+
+    private static final Predicate<String> STARTS_WITH_A = s -> s.startsWith("a");
+    private static final Predicate<String> STARTS_WITH_B = s -> s.startsWith("b");
+    private static final Predicate<String> MATCH_ALL = s -> true;
+
+    private final ObservableList<String> list = FXCollections.observableArrayList("apple", "banana", "avocado");
+    private final ViewRegistry<String, String> registry = new ViewRegistry<>(list, Function.identity(), MATCH_ALL);
+
+    @Test
+    public void getView_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> registry.getView(null));
+    }
+
+    @Test
+    public void getView_matchAll_returnsSource() {
+        View<String, String> allView = registry.getView(MATCH_ALL);
+        assertSame(list, allView.getItems());
+        assertSame(allView, registry.getView(MATCH_ALL));
+        assertEquals(OptionalInt.of(2), allView.indexOf("avocado"));
+    }
+
+    @Test
+    public void getView_samePredicate_returnsCachedView() {
+        assertSame(registry.getView(STARTS_WITH_A), registry.getView(STARTS_WITH_A));
+        assertNotSame(registry.getView(STARTS_WITH_A), registry.getView(STARTS_WITH_B));
+    }
+
+    @Test
+    public void getView_otherViewRequested_keepsOwnFilter() {
+        View<String, String> aView = registry.getView(STARTS_WITH_A);
+        View<String, String> bView = registry.getView(STARTS_WITH_B);
+
+        assertEquals(Arrays.asList("apple", "avocado"), aView.getItems());
+        assertEquals(Arrays.asList("banana"), bView.getItems());
+    }
+
+    @Test
+    public void getView_sourceChanged_viewsUpdated() {
+        View<String, String> aView = registry.getView(STARTS_WITH_A);
+        list.add(1, "apricot");
+        list.remove("apple");
+
+        assertEquals(Arrays.asList("apricot", "avocado"), aView.getItems());
+        assertEquals(OptionalInt.of(1), aView.indexOf("avocado"));
+        assertEquals(OptionalInt.empty(), aView.indexOf("banana"));
+    }
+}
@@ -0,0 +1,158 @@
+package trackitnus.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import trackitnus.model.TrackIter;
+import trackitnus.model.contact.Contact;
+import trackitnus.model.lesson.Lesson;
+import trackitnus.model.task.Task;
+import trackitnus.testutil.Assert;
+import trackitnus.testutil.builder.ContactBuilder;
+import trackitnus.testutil.builder.LessonBuilder;
+import trackitnus.testutil.typical.TypicalContacts;
+import trackitnus.testutil.typical.TypicalTrackIter;
+
+public class JournalTrackIterStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+    private JournalTrackIterStorage storage;
+    private TrackIter original;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempTrackIter.json");
+        journalPath = JournalTrackIterStorage.getJournalFilePath(filePath);
+        storage = new JournalTrackIterStorage(filePath);
+        original = TypicalTrackIter.getTypicalTrackIterConst();
+    }
+
+    @Test
+    public void readTrackIter_nullFilePath_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> storage.readTrackIter(null));
+    }
+
+    @Test
+    public void readTrackIter_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readTrackIter().isPresent());
+    }
+
+    @Test
+    public void saveTrackIter_changesAfterFirstSave_appendedToJournal() throws Exception {
+        storage.saveTrackIter(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+        assertFalse(Files.exists(journalPath));
+
+        makeChanges(original);
+        storage.saveTrackIter(original);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertTrue(Files.exists(journalPath));
+        assertEquals(original, new TrackIter(storage.readTrackIter().get()));
+    }
+
+    @Test
+    public void saveTrackIter_oneItemEdited_onlyThatItemJournaled() throws Exception {
+        storage.saveTrackIter(original);
+        Contact edited = new ContactBuilder(TypicalContacts.ALICE).withPhone("99999999").build();
+        original.setContact(TypicalContacts.ALICE, edited);
+        storage.saveTrackIter(original);
+
+        String journal = Files.readString(journalPath, StandardCharsets.UTF_8);
+        assertEquals(1, journal.lines().count());
+        assertTrue(journal.contains("99999999"));
+        assertFalse(journal.contains(TypicalContacts.BENSON.getName().value));
+        assertEquals(original, new TrackIter(storage.readTrackIter().get()));
+    }
+
+    @Test
+    public void saveTrackIter_noChanges_journalNotWritten() throws Exception {
+        storage.saveTrackIter(original);
+        storage.saveTrackIter(original);
+        assertFalse(Files.exists(journalPath));
+    }
+
+    @Test
+    public void saveTrackIter_manyChanges_journalCompacted() throws Exception {
+        storage.saveTrackIter(original);
+        Contact contact = TypicalContacts.ALICE;
+        for (int i = 0; i <= JournalTrackIterStorage.COMPACTION_THRESHOLD; i++) {
+            Contact edited = new ContactBuilder(contact).withPhone(String.valueOf(10000000 + i)).build();
+            original.setContact(contact, edited);
+            contact = edited;
+            storage.saveTrackIter(original);
+        }
+
+        // the last save exceeded the threshold, so the journal was folded into a new snapshot
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, new TrackIter(storage.readTrackIter().get()));
+    }
+
+    @Test
+    public void readTrackIter_incompleteLastRecord_ignored() throws Exception {
+        storage.saveTrackIter(original);
+        makeChanges(original);
+        storage.saveTrackIter(original);
+
+        Files.write(journalPath, "{\"snapshot\":".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        assertEquals(original, new TrackIter(storage.readTrackIter().get()));
+    }
+
+    @Test
+    public void readTrackIter_journalOfOlderSnapshot_ignored() throws Exception {
+        storage.saveTrackIter(original);
+        makeChanges(original);
+        storage.saveTrackIter(original);
+        byte[] staleJournal = Files.readAllBytes(journalPath);
+
+        // a new storage starts with a new snapshot, as if a save was interrupted before the journal was cleared
+        original.addContact(TypicalContacts.IDA);
+        new JournalTrackIterStorage(filePath).saveTrackIter(original);
+        Files.write(journalPath, staleJournal);
+
+        assertEquals(original, new TrackIter(storage.readTrackIter().get()));
+    }
+
+    @Test
+    public void saveTrackIter_otherFilePath_writesSnapshotOnly() throws Exception {
+        Path otherPath = testFolder.resolve("Other.json");
+        storage.saveTrackIter(original, otherPath);
+        makeChanges(original);
+        storage.saveTrackIter(original, otherPath);
+
+        assertFalse(Files.exists(JournalTrackIterStorage.getJournalFilePath(otherPath)));
+        assertEquals(original, new TrackIter(storage.readTrackIter(otherPath).get()));
+    }
+
+    /**
+     * Adds, edits and removes items in every list of {@code trackIter}.
+     */
+    private static void makeChanges(TrackIter trackIter) {
+        trackIter.addContact(TypicalContacts.HOON);
+        trackIter.removeContact(TypicalContacts.ALICE);
+
+        Task task = trackIter.getTaskList().get(0);
+        trackIter.setTask(task, task.setCode(null));
+
+        Lesson lesson = trackIter.getLessonList().get(0);
+        trackIter.setLesson(lesson, new LessonBuilder(lesson).withAddress("Somewhere else").build());
+        trackIter.removeLesson(trackIter.getLessonList().get(1));
+
+        trackIter.removeModule(trackIter.getModuleList().get(0));
+    }
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import trackitnus.commons.exceptions.DataConversionException;
+import trackitnus.commons.util.FileUtil;
 import trackitnus.model.ReadOnlyTrackIter;
 import trackitnus.model.TrackIter;
 import trackitnus.testutil.Assert;
@@ -84,6 +86,34 @@ public class JsonTrackIterStorageTest {
 
     }
 
+    @Test
+    public void readTrackIter_corruptFile_readsLatestBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempTrackIter.json");
+        TrackIter original = TypicalTrackIter.getTypicalTrackIter();
+        JsonTrackIterStorage jsonTrackIterStorage = new JsonTrackIterStorage(filePath);
+        jsonTrackIterStorage.saveTrackIter(original);
+        TrackIter backedUp = new TrackIter(original);
+        original.addContact(TypicalContacts.HOON);
+        jsonTrackIterStorage.saveTrackIter(original);
+
+        // simulates a data file that was damaged outside of the app
+        FileUtil.writeToFile(filePath, "{ \"contacts\": [");
+        assertEquals(backedUp, new TrackIter(jsonTrackIterStorage.readTrackIter().get()));
+    }
+
+    @Test
+    public void readTrackIter_missingFileWithBackups_returnsEmpty() throws Exception {
+        Path filePath = testFolder.resolve("TempTrackIter.json");
+        JsonTrackIterStorage jsonTrackIterStorage = new JsonTrackIterStorage(filePath);
+        TrackIter original = TypicalTrackIter.getTypicalTrackIter();
+        jsonTrackIterStorage.saveTrackIter(original);
+        jsonTrackIterStorage.saveTrackIter(original);
+
+        // deleting the data file resets the app, so the backups must not be brought back
+        Files.delete(filePath);
+        assertFalse(jsonTrackIterStorage.readTrackIter().isPresent());
+    }
+
     @Test
     public void saveTrackIter_nullTrackIter_throwsNullPointerException() {
         Assert.assertThrows(NullPointerException.class, () -> saveTrackIter(null, "SomeFile.json"));
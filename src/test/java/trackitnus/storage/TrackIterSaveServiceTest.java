@@ -0,0 +1,161 @@
+package trackitnus.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import trackitnus.model.ReadOnlyTrackIter;
+import trackitnus.model.TrackIter;
+import trackitnus.testutil.Assert;
+import trackitnus.testutil.typical.TypicalContacts;
+
+public class TrackIterSaveServiceTest {
+
+    private final TrackIter trackIter = new TrackIter();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> new TrackIterSaveService(null));
+    }
+
+    @Test
+    public void requestSave_burstWhileSaving_onlyLatestSaved() throws Exception {
+        TrackIterStorageStub storage = new TrackIterStorageStub();
+        TrackIterSaveService saveService = new TrackIterSaveService(storage);
+
+        saveService.requestSave(trackIter);
+        assertTrue(storage.firstSaveStarted.await(5, TimeUnit.SECONDS));
+        trackIter.addContact(TypicalContacts.ALICE);
+        saveService.requestSave(trackIter);
+        trackIter.addContact(TypicalContacts.BENSON);
+        saveService.requestSave(trackIter);
+        storage.allowFirstSave.countDown();
+        saveService.flush();
+
+        assertEquals(2, storage.saved.size());
+        assertEquals(Collections.emptyList(), storage.saved.get(0).getContactList());
+        assertEquals(trackIter.getContactList(), storage.saved.get(1).getContactList());
+    }
+
+    @Test
+    public void requestSave_saveFails_failureHandlerCalled() {
+        IOException exception = new IOException("dummy exception");
+        TrackIterSaveService saveService = new TrackIterSaveService(new TrackIterStorageStub() {
+            @Override
+            public void saveTrackIter(ReadOnlyTrackIter trackIter) throws IOException {
+                throw exception;
+            }
+        });
+        List<IOException> failures = new ArrayList<>();
+        saveService.setFailureHandler(failures::add);
+
+        saveService.requestSave(trackIter);
+        saveService.flush();
+        assertEquals(Collections.singletonList(exception), failures);
+    }
+
+    @Test
+    public void requestSave_unchangedVersion_notSavedAgain() {
+        TrackIterStorageStub storage = new TrackIterStorageStub();
+        storage.allowFirstSave.countDown();
+        TrackIterSaveService saveService = new TrackIterSaveService(storage, trackIter.getVersion());
+
+        saveService.requestSave(trackIter);
+        saveService.flush();
+        assertEquals(Collections.emptyList(), storage.saved);
+        assertFalse(saveService.hasUnsavedChanges(trackIter));
+
+        trackIter.addContact(TypicalContacts.ALICE);
+        assertTrue(saveService.hasUnsavedChanges(trackIter));
+        saveService.requestSave(trackIter);
+        saveService.requestSave(trackIter);
+        saveService.flush();
+        assertEquals(1, storage.saved.size());
+        assertFalse(saveService.hasUnsavedChanges(trackIter));
+    }
+
+    @Test
+    public void setSavedVersion_loadedData_notSaved() {
+        TrackIterStorageStub storage = new TrackIterStorageStub();
+        storage.allowFirstSave.countDown();
+        TrackIterSaveService saveService = new TrackIterSaveService(storage, trackIter.getVersion());
+
+        trackIter.addContact(TypicalContacts.ALICE);
+        assertTrue(saveService.hasUnsavedChanges(trackIter));
+        saveService.setSavedVersion(trackIter.getVersion());
+        assertFalse(saveService.hasUnsavedChanges(trackIter));
+        saveService.requestSave(trackIter);
+        saveService.flush();
+        assertEquals(Collections.emptyList(), storage.saved);
+    }
+
+    @Test
+    public void requestSave_unchangedVersionAfterFailure_retried() {
+        List<ReadOnlyTrackIter> attempts = new ArrayList<>();
+        TrackIterSaveService saveService = new TrackIterSaveService(new TrackIterStorageStub() {
+            @Override
+            public void saveTrackIter(ReadOnlyTrackIter trackIter) throws IOException {
+                attempts.add(trackIter);
+                throw new IOException("dummy exception");
+            }
+        });
+
+        saveService.requestSave(trackIter);
+        saveService.flush();
+        saveService.requestSave(trackIter);
+        saveService.flush();
+        assertEquals(2, attempts.size());
+        assertTrue(saveService.hasUnsavedChanges(trackIter));
+    }
+
+    /**
+     * A {@code TrackIterStorage} that records what it saves, and holds up the first save until allowed to continue.
+     */
+    private static class TrackIterStorageStub implements TrackIterStorage {
+        private final List<ReadOnlyTrackIter> saved = new ArrayList<>();
+        private final CountDownLatch firstSaveStarted = new CountDownLatch(1);
+        private final CountDownLatch allowFirstSave = new CountDownLatch(1);
+
+        @Override
+        public Path getTrackIterFilePath() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyTrackIter> readTrackIter() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyTrackIter> readTrackIter(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveTrackIter(ReadOnlyTrackIter trackIter) throws IOException {
+            firstSaveStarted.countDown();
+            try {
+                allowFirstSave.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            saved.add(trackIter);
+        }
+
+        @Override
+        public void saveTrackIter(ReadOnlyTrackIter trackIter, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
@@ -1,15 +1,18 @@
 package trackitnus.testutil;
 
 import java.nio.file.Path;
-import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import trackitnus.commons.core.GuiSettings;
 import trackitnus.commons.core.index.Index;
 import trackitnus.logic.commands.exceptions.CommandException;
+import trackitnus.model.AgendaModel;
 import trackitnus.model.Model;
+import trackitnus.model.MutableTrackIter;
 import trackitnus.model.ReadOnlyTrackIter;
 import trackitnus.model.ReadOnlyUserPrefs;
 import trackitnus.model.commons.Code;
@@ -67,6 +70,41 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void loadTrackIter(ReadOnlyTrackIter trackIt) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void batch(Consumer<MutableTrackIter> mutations) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void commitTrackIter() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean canUndoTrackIter() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean canRedoTrackIter() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void undoTrackIter() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void redoTrackIter() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasContact(Contact contact) {
         throw new AssertionError("This method should not be called.");
@@ -197,22 +235,32 @@ public class ModelStub implements Model {
     }
 
     @Override
-    public ObservableList<Lesson> getDayUpcomingLessons(LocalDate date) {
+    public ObservableList<Lesson> getModuleLessons(Code code) {
         throw new AssertionError("This method should not be called.");
     }
 
     @Override
-    public ObservableList<Lesson> getModuleLessons(Code code) {
+    public ObservableList<Contact> getModuleContacts(Code code) {
         throw new AssertionError("This method should not be called.");
     }
 
     @Override
-    public ObservableList<Contact> getModuleContacts(Code code) {
+    public ObservableList<Task> getModuleTasks(Code code) {
         throw new AssertionError("This method should not be called.");
     }
 
     @Override
-    public ObservableList<Task> getModuleTasks(Code code) {
+    public List<Task> getTasksOfModule(Code code) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Lesson> getLessonsOfModule(Code code) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Contact> getContactsOfModule(Code code) {
         throw new AssertionError("This method should not be called.");
     }
 
@@ -222,12 +270,12 @@ public class ModelStub implements Model {
     }
 
     @Override
-    public ObservableList<Task> getFutureTasks() {
+    public void showAgenda() {
         throw new AssertionError("This method should not be called.");
     }
 
     @Override
-    public ObservableList<Task> getDayUpcomingTasks(LocalDate date) {
+    public AgendaModel getAgenda() {
         throw new AssertionError("This method should not be called.");
     }
 
@@ -241,6 +289,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void refreshLessonOrder() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public Index getTaskIndex(Task task) {
         throw new AssertionError("This method should not be called.");
@@ -0,0 +1,79 @@
+package trackitnus.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackitnus.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.scene.layout.Region;
+
+public class TabPanelCacheTest {
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TabPanelCache(0));
+    }
+
+    @Test
+    public void get_sameKey_returnsKeptPanel() {
+        TabPanelCache cache = new TabPanelCache();
+        StubTabPanel panel = cache.get("U", StubTabPanel::new);
+        assertSame(panel, cache.get("U", StubTabPanel::new));
+        assertNotSame(panel, cache.get("C", StubTabPanel::new));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void get_overCapacity_dropsLeastRecentlyShown() {
+        TabPanelCache cache = new TabPanelCache(2);
+        cache.get("U", StubTabPanel::new);
+        cache.get("C", StubTabPanel::new);
+        cache.get("U", StubTabPanel::new);
+        cache.get("M CS2103T", StubTabPanel::new);
+
+        assertEquals(2, cache.size());
+        assertTrue(cache.contains("U"));
+        assertFalse(cache.contains("C"));
+        assertTrue(cache.contains("M CS2103T"));
+    }
+
+    @Test
+    public void remove() {
+        TabPanelCache cache = new TabPanelCache();
+        StubTabPanel panel = cache.get("M CS2103T", StubTabPanel::new);
+        cache.remove("M CS2103T");
+        cache.remove("M CS2101");
+        assertFalse(cache.contains("M CS2103T"));
+        assertNotSame(panel, cache.get("M CS2103T", StubTabPanel::new));
+    }
+
+    @Test
+    public void removeIf() {
+        TabPanelCache cache = new TabPanelCache();
+        cache.get("U", StubTabPanel::new);
+        cache.get("M CS2103T", StubTabPanel::new);
+        cache.get("M CS2101", StubTabPanel::new);
+        cache.removeIf(key -> key.equals("M CS2101"));
+        assertEquals(2, cache.size());
+        assertTrue(cache.contains("M CS2103T"));
+        assertFalse(cache.contains("M CS2101"));
+    }
+
+    /**
+     * A tab panel without a scene graph, as loading one needs the JavaFX toolkit.
+     */
+    private static class StubTabPanel implements TabPanel {
+        @Override
+        public Region getRoot() {
+            return null;
+        }
+
+        @Override
+        public void refresh() {
+        }
+    }
+}
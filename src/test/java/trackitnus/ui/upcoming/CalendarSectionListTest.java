@@ -0,0 +1,64 @@
+package trackitnus.ui.upcoming;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class CalendarSectionListTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2020, 11, 9);
+
+    @Test
+    public void constructor_negativeDays_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CalendarSectionList(FIRST_DAY, -1));
+    }
+
+    @Test
+    public void get_overdueThenDays() {
+        CalendarSectionList sections = new CalendarSectionList(FIRST_DAY, 7);
+        assertEquals(8, sections.size());
+        assertFalse(sections.get(0).isDay());
+        assertEquals(CalendarSectionList.OVERDUE_TITLE, sections.get(0).getTitle());
+        assertNull(sections.getDate(0));
+        assertEquals(new UpcomingSection(FIRST_DAY), sections.get(1));
+        assertEquals(FIRST_DAY.plusDays(6), sections.get(7).getDate());
+        assertThrows(IndexOutOfBoundsException.class, () -> sections.get(8));
+    }
+
+    @Test
+    public void extend_appendsFollowingDays() {
+        CalendarSectionList sections = new CalendarSectionList(FIRST_DAY, 7);
+        List<String> changes = new ArrayList<>();
+        sections.addListener((ListChangeListener<UpcomingSection>) change -> {
+            while (change.next()) {
+                assertTrue(change.wasAdded());
+                changes.add(change.getFrom() + "-" + change.getTo());
+            }
+        });
+
+        sections.extend(0);
+        sections.extend(28);
+
+        assertEquals(List.of("8-36"), changes);
+        assertEquals(36, sections.size());
+        assertEquals(FIRST_DAY.plusDays(34), sections.get(35).getDate());
+    }
+
+    @Test
+    public void equals_sameDayOfAnotherYear_notEqual() {
+        LocalDate nextYear = LocalDate.now().withMonth(1).withDayOfMonth(1).plusYears(1);
+        assertEquals(new UpcomingSection(nextYear), new UpcomingSection(nextYear));
+        assertFalse(new UpcomingSection(nextYear).equals(new UpcomingSection(nextYear.plusYears(1))));
+        assertTrue(new UpcomingSection(nextYear).getTitle().contains(String.valueOf(nextYear.getYear())));
+    }
+}